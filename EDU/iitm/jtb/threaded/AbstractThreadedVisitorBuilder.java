@@ -1,23 +1,34 @@
 package EDU.iitm.jtb.threaded;
 
 import java.io.File;
-import java.io.PrintWriter;
+import java.util.Enumeration;
+import java.util.IdentityHashMap;
 import java.util.Vector;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiConsumer;
 
 import EDU.purdue.jtb.misc.ClassInfo;
 import EDU.purdue.jtb.misc.Errors;
 import EDU.purdue.jtb.misc.FileExistsException;
 import EDU.purdue.jtb.misc.Globals;
+import EDU.purdue.jtb.misc.OutputFile;
 import EDU.purdue.jtb.misc.Spacing;
 
 
 /**
  * Each builder for a threaded visitor will generate a file in a threaded fashion, that is it will
- * send tasks to the thread pool in JTBParallel. Unfortunately that very thread pool does not have
- * the ability to stop when all the tasks are over, so we count them ourselves and this requires every
- * task to call taskEnd()....
+ * send tasks to the thread pool in JTBParallel, one per chunk of the class list. Each task prints
+ * the methods of its classes into their own slots, and the file is written in class list order
+ * once they are all done.
+ * generateVisitorFile() returns once the tasks are submitted, and getFinished() tells when the
+ * file is written.
  * 
  * The generated visitors will use a thread pool (ExecturService) with a fixed number of threads, specifiable at construction time.
+ * With IITGlobals.forkJoin, they use a ForkJoinPool instead, where each visit method forks its
+ * children as RecursiveActions and joins them (work stealing, no shared task counter).
+ * The visitors returning a value then fork RecursiveTasks, and merge the values of the children
+ * with combine(), so that accept(v, true) on the root returns the value of the whole tree.
+ * Subtrees smaller than the visitor's sequential cutoff are visited inline, without forking.
  *
  */
 
@@ -25,23 +36,33 @@ public abstract class AbstractThreadedVisitorBuilder {
 	private static final int INDENT_AMT = 3;
     protected final Spacing spc = new Spacing(INDENT_AMT);
 
-    protected PrintWriter out;
+    protected OutputFile out;
     
-    // we need id when we signal the builder is finished, to let Main know which builder it is
-		protected int id;
 	   protected Vector<ClassInfo>[] classLists;
 	   
-	   // the threads will each work on one part of classLists
+	   // the threads will each work on one part of classLists, and print the method of each of
+	   // its classes to the slot of the class, so the threads never wait for one another and the
+	   // methods end up in the order of the class list, whatever the chunks and the scheduling
 	   protected Runnable[] runnables;
-	   protected int runningRunnables; // initialized with the final number of tasks
+	   private final String[] methods;
+	   private final IdentityHashMap<ClassInfo, Integer> positions = new IdentityHashMap<ClassInfo, Integer>();
+	   protected final StringBuilder header = new StringBuilder();
+	   private static final String LINE_SEPARATOR = System.getProperty("line.separator");
+
+	   // completed when all the runnables are finished and the file is closed
+	   private CompletableFuture<Void> finished = CompletableFuture.completedFuture(null);
 	   
 	  
 	   protected File visitorDir;
-	   public AbstractThreadedVisitorBuilder(int index, Vector<ClassInfo>[] classLists) {
-		   id = index;
+	   /**
+	    * classLists are the chunks of classList, see VectorChunker.
+	    */
+	   public AbstractThreadedVisitorBuilder(Vector<ClassInfo> classList, Vector<ClassInfo>[] classLists) {
 		   this.classLists = classLists;
 		   runnables = new Runnable[classLists.length];
-	       runningRunnables = classLists.length;
+		   methods = new String[classList.size()];
+		   for (int i=0; i<methods.length; i++)
+			   positions.put(classList.elementAt(i), i);
 		    
 		   visitorDir = new File(Globals.visitorDir);
 	
@@ -52,72 +73,385 @@ public abstract class AbstractThreadedVisitorBuilder {
 		                        "directory.");
 	   }
 
-	   protected void taskEnd() {
-		   --runningRunnables;
-		   if (runningRunnables == 0) { // if all tasks are finished
-			   // polish the file, and signal the end of the visitor generation
-		       spc.updateSpc(-1);
-		       printLineSync(spc.spc + "}\n");
-		       out.flush();
-		       out.close();
-		       JTBParallel.setFinished(this.id);
-		   }
+	   /**
+	    * Submits the runnables to the thread pool of JTBParallel.  When they are
+	    * all finished, the file is written, and getFinished() completes.  If one
+	    * of them fails, the file is left as it was, and getFinished() completes
+	    * with the exception.
+	    */
+	   protected void submitRunnables() {
+		   CompletableFuture<?>[] tasks = new CompletableFuture<?>[runnables.length];
+		   for (int i=0; i<runnables.length; i++)
+			   tasks[i] = CompletableFuture.runAsync(runnables[i], JTBParallel.threadPool);
+
+		   finished = CompletableFuture.allOf(tasks).whenComplete(new BiConsumer<Void, Throwable>() {
+			   public void accept(Void v, Throwable t) {
+				   // assemble the file in class list order and write it at once,
+				   // unless a task failed
+				   if (t != null) {
+					   out.abort();
+					   return;
+				   }
+
+				   int size = header.length();
+				   for (int i=0; i<methods.length; i++)
+					   size += methods[i].length();
+
+				   StringBuilder file = new StringBuilder(size + 16);
+				   file.append(header);
+				   for (int i=0; i<methods.length; i++)
+					   file.append(methods[i]);
+				   spc.updateSpc(-1);
+				   printLine(file, spc.spc + "}\n");
+
+				   out.print(file);
+				   out.flush();
+				   out.close();
+			   }
+		   });
 	   }
 
-	   protected void printLineSync(String txt) {
-		   synchronized (out) {
-			   out.println(txt);
-		   }
+	   public CompletableFuture<Void> getFinished() {
+		   return finished;
+	   }
+
+	   // the sequential part of the file, at the top
+	   protected void printLine(String txt) {
+		   printLine(header, txt);
+	   }
+
+	   protected static void printLine(StringBuilder buf, String txt) {
+		   buf.append(txt).append(LINE_SEPARATOR);
+	   }
+
+	   // the visit method of one class, called from the tasks
+	   protected void printMethod(ClassInfo cur, String txt) {
+		   methods[positions.get(cur)] = txt + LINE_SEPARATOR;
 	   }
 	   
-	   protected void printVisitorThreadPoolCode() {
+	   protected void printVisitorThreadPoolCode(String visitorName, String retType, String argType) {
+		   if ( IITGlobals.forkJoin ) {
+			   printForkJoinPoolCode(visitorName, retType, argType);
+			   return;
+		   }
 		   // since the pool does not provide a count of threads, we do it ourselves
 
          // freeThreads is of class Integer so we can use it with synchronized
-		 printLineSync(spc.spc + "private ExecutorService threadPool;\n");
-		 printLineSync("Integer tasks=0; // number of tasks currently running\n");
-		 printLineSync("Integer totalCreatedTasks=0; // added number of tasks\n");
+		 printLine(spc.spc + "private ExecutorService threadPool;\n");
+		 printLine("Integer tasks=0; // number of tasks currently running\n");
+		 printLine("Integer totalCreatedTasks=0; // added number of tasks\n");
 	         
-		 printLineSync( spc.spc + "public synchronized void addTask(Runnable r) {\n" +
+		 printLine( spc.spc + "public synchronized void addTask(Runnable r) {\n" +
 			 		spc.spc + "  ++tasks;\n" +
 			 		spc.spc + "  ++totalCreatedTasks;\n" +
 			 		spc.spc + "  threadPool.submit(r);\n" + 
 			 		spc.spc + "}\n");
 		 
-		 printLineSync( spc.spc + "public synchronized void taskEnd() {\n" +
+		 printLine( spc.spc + "public synchronized void taskEnd() {\n" +
 				spc.spc + "  --tasks;\n" +
 				spc.spc + "  if (tasks == 0) {\n" +
 				spc.spc + "    threadPool.shutdown();\n" +
 				spc.spc + "  }\n" +
 		 		spc.spc + "}\n");
 	   }
+
+	   // With the ForkJoinPool, every visit method forks one task per large child subtree
+	   // and joins them before returning, so the traversal ends when the root task returns.
+	   // addTask() is only reached from accept(v, true), i.e. the entry point of the
+	   // traversal: it runs the task in the pool and waits for it. No counter, no lock.
+	   private void printForkJoinPoolCode(String visitorName, String retType, String argType) {
+		   String arguParam = (argType == null ? "" : ", final " + argType + " argu");
+		   String argu = (argType == null ? "" : "argu, ");
+
+		   printLine(spc.spc + "private ForkJoinPool threadPool;\n");
+
+		   printLine( spc.spc + "public void addTask(Runnable r) {\n" +
+				   spc.spc + "  ForkJoinTask<?> t = ForkJoinTask.adapt(r);\n" +
+				   spc.spc + "  if (ForkJoinTask.getPool() == threadPool) t.invoke();\n" +
+				   spc.spc + "  else threadPool.invoke(t);\n" +
+				   spc.spc + "}\n");
+
+		   printLine(spc.spc + "public void taskEnd() {}\n");
+
+		   // subtrees smaller than the cutoff are not worth a task, they are visited inline
+		   printLine( spc.spc + "protected int sequentialCutoff = " + DEFAULT_SEQUENTIAL_CUTOFF + ";\n\n" +
+				   spc.spc + "/**\n" +
+				   spc.spc + " * Subtrees of fewer than n nodes (see Node.subtreeSize()) are visited\n" +
+				   spc.spc + " * sequentially by the task which reaches them.\n" +
+				   spc.spc + " */\n" +
+				   spc.spc + "public void setSequentialCutoff(int n) {\n" +
+				   spc.spc + "  sequentialCutoff = n;\n" +
+				   spc.spc + "}\n");
+
+		   // a task per large child; the small ones are visited inline while the
+		   // large ones run, and a large list is halved until its parts are small
+		   String arguFirst = (argType == null ? "" : argType + " argu, ");
+		   String arguLast = (argType == null ? "" : ", argu");
+		   String rangeSize =
+				   spc.spc + "  int size = 0;\n" +
+				   spc.spc + "  for (int i = lo; i < hi && size < sequentialCutoff; ++i)\n" +
+				   spc.spc + "    size += n.elementAt(i).subtreeSize();\n";
+
+		   if ( !combinesResults(retType) ) {
+			   printLine( spc.spc + "protected RecursiveAction task(final Node n" + arguParam + ") {\n" +
+					   spc.spc + "  return new RecursiveAction() {\n" +
+					   spc.spc + "    protected void compute() { n.accept(" + visitorName + ".this, " +
+					   argu + "false); }\n" +
+					   spc.spc + "  };\n" +
+					   spc.spc + "}\n");
+
+			   printLine( spc.spc + "protected RecursiveAction task(final NodeListInterface n, final int lo, final int hi" +
+					   arguParam + ") {\n" +
+					   spc.spc + "  return new RecursiveAction() {\n" +
+					   spc.spc + "    protected void compute() { visitRange(n, lo, hi" + arguLast + "); }\n" +
+					   spc.spc + "  };\n" +
+					   spc.spc + "}\n");
+
+			   printLine( spc.spc + "protected void visitChildren(" + arguFirst + "Node... children) {\n" +
+					   spc.spc + "  List<RecursiveAction> forked = new ArrayList<RecursiveAction>(children.length);\n" +
+					   spc.spc + "  for (int i = 0; i < children.length; ++i)\n" +
+					   spc.spc + "    if (children[i].subtreeSize() >= sequentialCutoff) {\n" +
+					   spc.spc + "      RecursiveAction t = task(children[i]" + arguLast + ");\n" +
+					   spc.spc + "      t.fork();\n" +
+					   spc.spc + "      forked.add(t);\n" +
+					   spc.spc + "    }\n" +
+					   spc.spc + "  for (int i = 0; i < children.length; ++i)\n" +
+					   spc.spc + "    if (children[i].subtreeSize() < sequentialCutoff)\n" +
+					   spc.spc + "      children[i].accept(this, " + argu + "false);\n" +
+					   spc.spc + "  for (int i = forked.size() - 1; i >= 0; --i)\n" +
+					   spc.spc + "    forked.get(i).join();\n" +
+					   spc.spc + "}\n");
+
+			   printLine( spc.spc + "protected void visitRange(NodeListInterface n, int lo, int hi" + arguParam + ") {\n" +
+					   rangeSize +
+					   spc.spc + "  if (size < sequentialCutoff || hi - lo == 1) {\n" +
+					   spc.spc + "    for (int i = lo; i < hi; ++i)\n" +
+					   spc.spc + "      n.elementAt(i).accept(this, " + argu + "false);\n" +
+					   spc.spc + "    return;\n" +
+					   spc.spc + "  }\n" +
+					   spc.spc + "  int mid = (lo + hi) >>> 1;\n" +
+					   spc.spc + "  ForkJoinTask.invokeAll(task(n, lo, mid" + arguLast + "), task(n, mid, hi" +
+					   arguLast + "));\n" +
+					   spc.spc + "}\n");
+
+			   printLine( spc.spc + "protected void visitAll(NodeListInterface n" + arguParam + ") {\n" +
+					   spc.spc + "  visitRange(n, 0, n.size()" + arguLast + ");\n" +
+					   spc.spc + "}\n");
+			   return;
+		   }
+
+		   // the visitors returning a value compute one value per subtree, and the
+		   // values of the children of a node are merged, in order, by combine()
+		   printLine( spc.spc + "/**\n" +
+				   spc.spc + " * Merges the values of two sibling subtrees, left coming first in the\n" +
+				   spc.spc + " * tree.  Must be associative, siblings are combined from left to right.\n" +
+				   spc.spc + " * The default keeps the first non-null value.\n" +
+				   spc.spc + " */\n" +
+				   spc.spc + "public R combine(R left, R right) {\n" +
+				   spc.spc + "  return left != null ? left : right;\n" +
+				   spc.spc + "}\n");
+
+		   printLine( spc.spc + "public R invoke(Node n" + arguParam + ") {\n" +
+				   spc.spc + "  RecursiveTask<R> t = task(n" + arguLast + ");\n" +
+				   spc.spc + "  if (ForkJoinTask.getPool() == threadPool) return t.invoke();\n" +
+				   spc.spc + "  return threadPool.invoke(t);\n" +
+				   spc.spc + "}\n");
+
+		   printLine( spc.spc + "protected RecursiveTask<R> task(final Node n" + arguParam + ") {\n" +
+				   spc.spc + "  return new RecursiveTask<R>() {\n" +
+				   spc.spc + "    protected R compute() { return n.accept(" + visitorName + ".this, " +
+				   argu + "false); }\n" +
+				   spc.spc + "  };\n" +
+				   spc.spc + "}\n");
+
+		   printLine( spc.spc + "protected RecursiveTask<R> task(final NodeListInterface n, final int lo, final int hi" +
+				   arguParam + ") {\n" +
+				   spc.spc + "  return new RecursiveTask<R>() {\n" +
+				   spc.spc + "    protected R compute() { return visitRange(n, lo, hi" + arguLast + "); }\n" +
+				   spc.spc + "  };\n" +
+				   spc.spc + "}\n");
+
+		   printLine( spc.spc + "protected R visitChildren(" + arguFirst + "Node... children) {\n" +
+				   spc.spc + "  List<RecursiveTask<R>> forked = new ArrayList<RecursiveTask<R>>(children.length);\n" +
+				   spc.spc + "  for (int i = 0; i < children.length; ++i) {\n" +
+				   spc.spc + "    RecursiveTask<R> t = null;\n" +
+				   spc.spc + "    if (children[i].subtreeSize() >= sequentialCutoff) {\n" +
+				   spc.spc + "      t = task(children[i]" + arguLast + ");\n" +
+				   spc.spc + "      t.fork();\n" +
+				   spc.spc + "    }\n" +
+				   spc.spc + "    forked.add(t);\n" +
+				   spc.spc + "  }\n" +
+				   spc.spc + "  R ret = null;\n" +
+				   spc.spc + "  for (int i = 0; i < children.length; ++i) {\n" +
+				   spc.spc + "    R r = (forked.get(i) == null ? children[i].accept(this, " + argu + "false) :\n" +
+				   spc.spc + "           forked.get(i).join());\n" +
+				   spc.spc + "    ret = (i == 0 ? r : combine(ret, r));\n" +
+				   spc.spc + "  }\n" +
+				   spc.spc + "  return ret;\n" +
+				   spc.spc + "}\n");
+
+		   printLine( spc.spc + "protected R visitRange(NodeListInterface n, int lo, int hi" + arguParam + ") {\n" +
+				   rangeSize +
+				   spc.spc + "  if (size < sequentialCutoff || hi - lo == 1) {\n" +
+				   spc.spc + "    R ret = null;\n" +
+				   spc.spc + "    for (int i = lo; i < hi; ++i) {\n" +
+				   spc.spc + "      R r = n.elementAt(i).accept(this, " + argu + "false);\n" +
+				   spc.spc + "      ret = (i == lo ? r : combine(ret, r));\n" +
+				   spc.spc + "    }\n" +
+				   spc.spc + "    return ret;\n" +
+				   spc.spc + "  }\n" +
+				   spc.spc + "  int mid = (lo + hi) >>> 1;\n" +
+				   spc.spc + "  RecursiveTask<R> right = task(n, mid, hi" + arguLast + ");\n" +
+				   spc.spc + "  right.fork();\n" +
+				   spc.spc + "  R left = visitRange(n, lo, mid" + arguLast + ");\n" +
+				   spc.spc + "  return combine(left, right.join());\n" +
+				   spc.spc + "}\n");
+
+		   printLine( spc.spc + "protected R visitAll(NodeListInterface n" + arguParam + ") {\n" +
+				   spc.spc + "  return visitRange(n, 0, n.size()" + arguLast + ");\n" +
+				   spc.spc + "}\n");
+	   }
+
+	   // default number of nodes under which the fork/join visitors stop forking
+	   public static final int DEFAULT_SEQUENTIAL_CUTOFF = 1000;
+
+	   // with fork/join, the visitors returning a value combine the values of the children
+	   protected boolean combinesResults(String retType) {
+		   return IITGlobals.forkJoin && !retType.equals("void");
+	   }
+
+	   // the constructors of the visitor; with fork/join, the default one shares
+	   // the common pool and the other one creates a pool which shutdown() ends
+	   protected void printConstructors(String visitorName) {
+		   if ( !IITGlobals.forkJoin ) {
+			   printLine(spc.spc + "public " + visitorName + "() {\n" +
+					   spc.spc + "  this(Runtime.getRuntime().availableProcessors());\n" +
+					   spc.spc + "}\n");
+			   printLine(spc.spc + "public " + visitorName + "(int maxNoThreads) {\n" +
+					   spc.spc + "  threadPool = Executors.newFixedThreadPool(maxNoThreads);\n" +
+					   spc.spc + "}\n\n");
+			   return;
+		   }
+
+		   printLine(spc.spc + "/**\n" +
+				   spc.spc + " * Runs the tasks on ForkJoinPool.commonPool(), shared by all the visitors.\n" +
+				   spc.spc + " */\n" +
+				   spc.spc + "public " + visitorName + "() {\n" +
+				   spc.spc + "  threadPool = ForkJoinPool.commonPool();\n" +
+				   spc.spc + "}\n");
+		   printLine(spc.spc + "/**\n" +
+				   spc.spc + " * Runs the tasks on a pool of its own, of maxNoThreads threads, until\n" +
+				   spc.spc + " * shutdown() is called.\n" +
+				   spc.spc + " */\n" +
+				   spc.spc + "public " + visitorName + "(int maxNoThreads) {\n" +
+				   spc.spc + "  threadPool = new ForkJoinPool(maxNoThreads);\n" +
+				   spc.spc + "}\n");
+		   printLine(spc.spc + "/**\n" +
+				   spc.spc + " * Ends the threads of the pool created by the constructor, if any.  The\n" +
+				   spc.spc + " * common pool is left running.\n" +
+				   spc.spc + " */\n" +
+				   spc.spc + "public void shutdown() {\n" +
+				   spc.spc + "  if (threadPool != ForkJoinPool.commonPool()) threadPool.shutdown();\n" +
+				   spc.spc + "}\n\n");
+	   }
+
+	   // the body of a user-generated visit method: one accept (or one task) per field,
+	   // followed by the return statement if there is a return type
+	   protected String getFieldsVisitStr(Vector<String> fields, String retType, String argType) {
+		   StringBuffer buf = new StringBuffer();
+		   String argu = (argType == null ? "" : "argu, ");
+
+		   if ( combinesResults(retType) ) {
+			   if ( fields.size() == 0 )
+				   buf.append(spc.spc + "  return null;\n");
+			   else if ( fields.size() == 1 )
+				   buf.append(spc.spc + "  return n." + fields.firstElement() + ".accept(this, " +
+						   argu + "false);\n");
+			   else {
+				   // small subtrees: combine the children from left to right, inline
+				   String inline = "n." + fields.firstElement() + ".accept(this, " + argu + "false)";
+				   for (int i = 1; i < fields.size(); ++i)
+					   inline = "combine(" + inline + ",\n" + spc.spc + "      n." + fields.elementAt(i) +
+					   		".accept(this, " + argu + "false))";
+				   buf.append(spc.spc + "  if (n.subtreeSize() < sequentialCutoff)\n");
+				   buf.append(spc.spc + "    return " + inline + ";\n");
+				   buf.append(spc.spc + "  return visitChildren(");
+				   appendChildren(buf, fields, argType);
+				   buf.append(");\n");
+			   }
+			   return buf.toString();
+		   }
+
+		   if ( !IITGlobals.forkJoin || fields.size() <= 1 ) {
+			   for (Enumeration<String> e = fields.elements(); e.hasMoreElements();)
+				   buf.append(spc.spc + "  n." + e.nextElement() + ".accept(this, " + argu +
+						   (IITGlobals.forkJoin ? "false" : "true") + ");\n");
+		   }
+		   else {
+			   buf.append(spc.spc + "  if (n.subtreeSize() < sequentialCutoff) {\n");
+			   for (Enumeration<String> e = fields.elements(); e.hasMoreElements();)
+				   buf.append(spc.spc + "    n." + e.nextElement() + ".accept(this, " + argu + "false);\n");
+			   buf.append(spc.spc + "  }\n");
+			   buf.append(spc.spc + "  else visitChildren(");
+			   appendChildren(buf, fields, argType);
+			   buf.append(");\n");
+		   }
+
+		   if ( !retType.equals("void") )
+			   buf.append(spc.spc + "return null;\n");
+		   return buf.toString();
+	   }
+
+	   // the arguments of visitChildren(): argu, if any, then the fields
+	   private void appendChildren(StringBuffer buf, Vector<String> fields, String argType) {
+		   if ( argType != null ) buf.append("argu, ");
+		   for (Enumeration<String> e = fields.elements(); e.hasMoreElements();) {
+			   buf.append("n." + e.nextElement());
+			   if ( e.hasMoreElements() ) buf.append(", ");
+		   }
+	   }
 	   
 	   protected void printAutoVisitorMethods(String ret, String arg) {
-		   printLineSync("   //\n" +
+		   printLine("   //\n" +
 		   "   // Threaded Auto class visitors\n" +
 		   "   //\n");
 
-		  printLineSync(getNodeListVisitorStr(ret, arg));
-		  printLineSync(getNodeListOptionalVisitorStr(ret, arg));
-		  printLineSync(getNodeOptionalVisitorStr(ret, arg));
-		  printLineSync(getNodeSequenceVisitorStr(ret, arg));
-		  printLineSync(getNodeTokenVisitorStr(ret, arg));
-		  printLineSync(getNodeChoiceVisitorStr(ret, arg));
+		  printLine(getNodeListVisitorStr(ret, arg));
+		  printLine(getNodeListOptionalVisitorStr(ret, arg));
+		  printLine(getNodeOptionalVisitorStr(ret, arg));
+		  printLine(getNodeSequenceVisitorStr(ret, arg));
+		  printLine(getNodeTokenVisitorStr(ret, arg));
+		  printLine(getNodeChoiceVisitorStr(ret, arg));
 	   }
 
-	   private String getEnumerationStr(String argType) {
+	   // visits every element of a list, then returns (the combined value, or null)
+	   private String getEnumerationStr(String retType, String argType) {
+		   if ( IITGlobals.forkJoin )
+			   return  "  " + (retType.equals("void") ? "" : "return ") + "visitAll(n" +
+					   (argType == null ? "" : ", argu") + ");\n";
+		   if ( Globals.arrayLists )
+			   return  "  for (int i = 0; i < n.size(); ++i) {\n" +
+					   "    n.elementAt(i).accept(this, " +
+					   (argType == null ? "" : "argu, ") + "true);\n" +
+					   "  }\n" +
+					   (retType.equals("void") ? "" : "return null;");
 		   return  "  for (Enumeration<Node> e = n.elements(); e.hasMoreElements();) {\n" +
 				   "    e.nextElement().accept(this, " +
 				   (argType == null ? "" : "argu, ") + "true);\n" +
-				   "  }\n";
+				   "  }\n" +
+				   (retType.equals("void") ? "" : "return null;");
+	   }
+
+	   // a choice or an optional has a single child, there is nothing to fork
+	   private String getSingleChildFlag() {
+		   return IITGlobals.forkJoin ? "false" : "true";
 	   }
 	   
 	   private String getNodeListVisitorStr(String retType, String argType) {
 		   String funcStr = 
 				   	"public " + retType +" visit(NodeList n" + 
 					(argType == null ? "" : ", " + argType + " argu") + ") {\n" +
-					getEnumerationStr(argType) +
-					(retType.equals("void") ? "" : "return null;") +
+					getEnumerationStr(retType, argType) +
 					"}\n";
 		   return funcStr;
 	   }
@@ -126,16 +460,14 @@ public abstract class AbstractThreadedVisitorBuilder {
 				   (argType == null ? "" : ", " + argType + " argu") + ") {\n" +
 				   "  if (!n.present()) return" + 
 				   (retType.equals("void") ? "" : " null") + ";\n" +
-				   getEnumerationStr(argType) +
-				   (retType.equals("void") ? "" : "return null;") +
+				   getEnumerationStr(retType, argType) +
 					"}\n";
 	   }
 	   
 	   private String getNodeSequenceVisitorStr(String retType, String argType){
 		   return "public " + retType + " visit(NodeSequence n" +
 				   (argType == null ? "" : ", " + argType + " argu") + ") {\n" +
-				   getEnumerationStr(argType) + 
-				   (retType.equals("void") ? "" : "return null;") +
+				   getEnumerationStr(retType, argType) +
 					"}\n";
 	   }
 	   
@@ -144,7 +476,7 @@ public abstract class AbstractThreadedVisitorBuilder {
 				   (argType == null ? "" : ", " + argType + " argu") + ") {\n  " +
 				   (retType.equals("void") ? "" : "return ") +
 				   "n.choice.accept(this, " + 
-				   (argType == null ? "" : "argu, ")+"true);\n" +
+				   (argType == null ? "" : "argu, ") + getSingleChildFlag() + ");\n" +
 				   "}\n";
 	   }
 	   
@@ -155,7 +487,7 @@ public abstract class AbstractThreadedVisitorBuilder {
 				    (retType.equals("void") ? "" : " null") + ";\n  " +
 					   (retType.equals("void") ? "" : "return ") +
 				    "n.node.accept(this, " + 
-				   (argType == null ? "" : "argu, ")+"true);\n" +
+				   (argType == null ? "" : "argu, ") + getSingleChildFlag() + ");\n" +
 				   "}\n";
 	   }
 	   
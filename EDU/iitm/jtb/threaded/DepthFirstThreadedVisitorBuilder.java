@@ -2,14 +2,13 @@ package EDU.iitm.jtb.threaded;
 
 import java.io.File;
 import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
-import java.io.PrintWriter;
 import java.util.Enumeration;
 import java.util.Vector;
 
 import EDU.purdue.jtb.misc.ClassInfo;
 import EDU.purdue.jtb.misc.FileExistsException;
 import EDU.purdue.jtb.misc.Globals;
+import EDU.purdue.jtb.misc.OutputFile;
 
 /**
  * 
@@ -24,17 +23,16 @@ public class DepthFirstThreadedVisitorBuilder extends AbstractThreadedVisitorBui
 	    * Vectors must contain objects of type ClassInfo
 	    */
 	
-	public DepthFirstThreadedVisitorBuilder(int id, Vector<ClassInfo>[] classLists) {
-		super(id, classLists);
+	public DepthFirstThreadedVisitorBuilder(Vector<ClassInfo> classList, Vector<ClassInfo>[] classLists) {
+		super(classList, classLists);
 	}
 	   
 	   
 	   // we assume this function is called from a thread, so we won't fork to execute it
 	   // 
-	   // to print to the output file, we use the method printLine, defined below, which
-	   // provides synchronization on the output stream. To ensure a block of text is printed as a whole,
-	   // we should give it at once to printLine. For example when we write a function to the output,
-	   // it should not be interleaved with another one, so the function would be such a block.
+	   // to print to the output file, we use the method printLine: the sequential part goes to the
+	   // header, and each task prints the methods of its chunk with printMethod. The file is written in one
+	   // go when all the tasks are finished, so the output is always the same for the same grammar.
 	   public void generateVisitorFile() throws FileExistsException {
 		   File file = new File(visitorDir, IITGlobals.DepthFirstThreadedVisitorName + ".java");
 
@@ -42,7 +40,7 @@ public class DepthFirstThreadedVisitorBuilder extends AbstractThreadedVisitorBui
 	            throw new FileExistsException(IITGlobals.DepthFirstThreadedVisitorName + ".java");
 
 	         try {
-	        	 out = new PrintWriter(new FileOutputStream(file), false);
+	        	 out = new OutputFile(file);
 	         }
 	         catch (FileNotFoundException fe) {
 	        	 return;
@@ -63,24 +61,18 @@ public class DepthFirstThreadedVisitorBuilder extends AbstractThreadedVisitorBui
 	         strBuf.append(spc.spc + " */\n");
 	         strBuf.append(spc.spc + "public class " + IITGlobals.DepthFirstThreadedVisitorName + " {\n");
 
-	         printLineSync(strBuf.toString());
+	         printLine(strBuf.toString());
 
-	         printVisitorThreadPoolCode();
+	         printVisitorThreadPoolCode(IITGlobals.DepthFirstThreadedVisitorName, "void", null);
   
-	         // default constructor
-	         printLineSync(spc.spc +    "public " + IITGlobals.DepthFirstThreadedVisitorName + "() {\n" +
-			        		 		spc.spc + "  this(Runtime.getRuntime().availableProcessors());\n" +
-			        		 		spc.spc + "}\n");
-	         // constructor to specify the maximum number of threads
-	         printLineSync(spc.spc +    "public " + IITGlobals.DepthFirstThreadedVisitorName + "(int maxNoThreads) {\n" +
-	        		 				spc.spc + "  threadPool = Executors.newFixedThreadPool(maxNoThreads);\n" +
-	        		 				spc.spc + "}\n\n");
+	         // the constructors, and shutdown() with fork/join
+	         printConstructors(IITGlobals.DepthFirstThreadedVisitorName);
 	         
 	         
 	         printAutoVisitorMethods("void", null);
 	         
 	         spc.updateSpc(+1);
-	         printLineSync(spc.spc + "//\n" +
+	         printLine(spc.spc + "//\n" +
 	        		 spc.spc + "// User-generated visitor methods below\n" +
 	        		 spc.spc + "//\n");
 
@@ -106,18 +98,13 @@ public class DepthFirstThreadedVisitorBuilder extends AbstractThreadedVisitorBui
 	     		            // try to generate a thread for each field in cur
 	     		            Vector<String> fields = cur.getNameList();
 	     		            threadStrBuf.append(spc.spc +    "public void visit(" + name + " n) {\n");
-	     		            for (Enumeration<String> e2 = fields.elements(); e2.hasMoreElements();) {
-	     		            	String fieldName = e2.nextElement();
-	     		            	threadStrBuf.append(
-	     		            			spc.spc + "  n." + fieldName + ".accept(this, true);\n");
-	     		            }
+	     		            threadStrBuf.append(getFieldsVisitStr(fields, "void", null));
 	     		            threadStrBuf.append(spc.spc + "}\n");
-	     		            printLineSync(threadStrBuf.toString());
+	     		            printMethod(cur, threadStrBuf.toString());
 	        			 }
-	        			 taskEnd(); // signals this runnable is finished
 	        		 }
 	        	 };
-	        	 JTBParallel.submitTask(runnables[i]);
 	         }
+	         submitRunnables();
 	   }
 }
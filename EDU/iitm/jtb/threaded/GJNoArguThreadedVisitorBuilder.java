@@ -2,20 +2,19 @@ package EDU.iitm.jtb.threaded;
 
 import java.io.File;
 import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
-import java.io.PrintWriter;
 import java.util.Enumeration;
 import java.util.Vector;
 
 import EDU.purdue.jtb.misc.ClassInfo;
 import EDU.purdue.jtb.misc.FileExistsException;
 import EDU.purdue.jtb.misc.Globals;
+import EDU.purdue.jtb.misc.OutputFile;
 
 public class GJNoArguThreadedVisitorBuilder extends
 		AbstractThreadedVisitorBuilder {
 
-	public GJNoArguThreadedVisitorBuilder(int id,  Vector<ClassInfo>[] classLists) {
-		super(id, classLists);
+	public GJNoArguThreadedVisitorBuilder(Vector<ClassInfo> classList, Vector<ClassInfo>[] classLists) {
+		super(classList, classLists);
 	}
 	
 	@Override
@@ -26,7 +25,7 @@ public class GJNoArguThreadedVisitorBuilder extends
            throw new FileExistsException(IITGlobals.GJNoArguThreadedVisitorName + ".java");
 
         try {
-       	 out = new PrintWriter(new FileOutputStream(file), false);
+       	 out = new OutputFile(file);
         }
         catch (FileNotFoundException fe) {
        	 return;
@@ -47,24 +46,18 @@ public class GJNoArguThreadedVisitorBuilder extends
         strBuf.append(spc.spc + " */\n");
         strBuf.append(spc.spc + "public class " + IITGlobals.GJNoArguThreadedVisitorName + "<R> {\n");
 
-        printLineSync(strBuf.toString());
+        printLine(strBuf.toString());
 
-        printVisitorThreadPoolCode();
+        printVisitorThreadPoolCode(IITGlobals.GJNoArguThreadedVisitorName, "R", null);
 
-        // default constructor
-        printLineSync(spc.spc +    "public " + IITGlobals.GJNoArguThreadedVisitorName + "() {\n" +
-		        		 		spc.spc + "  this(Runtime.getRuntime().availableProcessors());\n" +
-		        		 		spc.spc + "}\n");
-        // constructor to specify the maximum number of threads
-        printLineSync(spc.spc +    "public " + IITGlobals.GJNoArguThreadedVisitorName + "(int maxNoThreads) {\n" +
-       		 				spc.spc + "  threadPool = Executors.newFixedThreadPool(maxNoThreads);\n" +
-       		 				spc.spc + "}\n\n");
+        // the constructors, and shutdown() with fork/join
+        printConstructors(IITGlobals.GJNoArguThreadedVisitorName);
         
         
         printAutoVisitorMethods("R", null);
         
         spc.updateSpc(+1);
-        printLineSync(spc.spc + "//\n" +
+        printLine(spc.spc + "//\n" +
        		 spc.spc + "// User-generated visitor methods below\n" +
        		 spc.spc + "//\n");
 
@@ -90,19 +83,14 @@ public class GJNoArguThreadedVisitorBuilder extends
     		            // try to generate a thread for each field in cur
     		            Vector<String> fields = cur.getNameList();
     		            threadStrBuf.append(spc.spc +    "public R visit(" + name + " n) {\n");
-    		            for (Enumeration<String> e2 = fields.elements(); e2.hasMoreElements();) {
-    		            	String fieldName = e2.nextElement();
-    		            	threadStrBuf.append(
-    		            			spc.spc + "  n." + fieldName + ".accept(this, true);\n");
-    		            }
-    		            threadStrBuf.append(spc.spc + "return null;\n}\n");
-    		            printLineSync(threadStrBuf.toString());
+    		            threadStrBuf.append(getFieldsVisitStr(fields, "R", null));
+    		            threadStrBuf.append(spc.spc + "}\n");
+    		            printMethod(cur, threadStrBuf.toString());
        			 }
-       			 taskEnd(); // signals this runnable is finished
        		 }
        	 };
-       	 JTBParallel.submitTask(runnables[i]);
         }
+        submitRunnables();
 	}
 
 }
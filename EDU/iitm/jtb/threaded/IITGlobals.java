@@ -7,4 +7,16 @@ public class IITGlobals {
 	public final static String GJThreadedVisitorName = "GJThreadedVisitor";
 	public final static String progName = "JTB-parallel";
 	public final static String version = "1.0b";
+
+	//
+	// Changeable flags
+	//
+
+	// generate threaded visitors running on a ForkJoinPool (one task per subtree,
+	// joined by the parent) instead of the counted fixed thread pool
+	public static boolean forkJoin = false;
+
+	// print the times, allocations and outputs of the tasks of each grammar, and
+	// the critical path, at the end of its generation
+	public static boolean printStats = false;
 }
@@ -55,6 +55,7 @@
 package EDU.iitm.jtb.threaded;
 
 import EDU.purdue.jtb.parser.*;
+import EDU.purdue.jtb.syntaxtree.JavaCCInput;
 import EDU.purdue.jtb.syntaxtree.Node;
 import EDU.purdue.jtb.visitor.*;
 import EDU.purdue.jtb.misc.*;
@@ -64,11 +65,12 @@ import EDU.purdue.jtb.misc.toolkit.*;
 
 import java.io.*;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.Executors;
-import java.util.concurrent.locks.Condition;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.Future;
 
 /**
  * Java Tree Builder (JTB) Driver
@@ -81,44 +83,61 @@ import java.util.concurrent.locks.ReentrantLock;
  */
 public class JTBParallel {
    private static InputStream in;
+   // the grammar files given on the command line, more than one means batch mode
+   private static Vector<String> inFilenames = new Vector<String>();
 
    private static String progName = IITGlobals.progName;
    private static String version = IITGlobals.version;
    private static String scriptName = Globals.scriptName;
    
 
-   // all the stuff needed for sync
-   // We use condition variables to wait for the threaded visitor builders.
-   
-   static int threadedBuildersNumber = 4;
-   final static ReentrantLock lock = new ReentrantLock();
-   final static Condition[] threadedBuildersFinishedConditions = new Condition[threadedBuildersNumber];
-   final static boolean[] threadedBuildersFinishedBools = new boolean[threadedBuildersNumber];
-
    static int coreNo = Runtime.getRuntime().availableProcessors();
    final static ExecutorService threadPool = Executors.newFixedThreadPool(coreNo);
-   
-   public static void submitTask(Runnable r) {
-	   threadPool.submit(r);
-   }
-   public static ReentrantLock getLock() {
-	   return lock;
+
+   // number of chunks the class list is split into, for the generators working
+   // on it in parallel.  The chunks have about the same cost (see VectorChunker),
+   // so one per core is enough.
+   static int chunkNumber = coreNo;
+
+   // the files generated by FileGenerator.generateAutoClassFiles()
+   private static final String[] AUTO_CLASSES = {
+      "Node", "NodeListInterface", "NodeChoice", "NodeList", "NodeListOptional",
+      "NodeOptional", "NodeSequence", "NodeToken"
+   };
+
+   // the task graph of the last grammar processed, kept to look at its timings
+   private static TaskGraph lastGraph;
+
+   public static TaskGraph getLastTaskGraph() {
+      return lastGraph;
    }
-   public static void setFinished(int builderIndex) {
-	   threadedBuildersFinishedBools[builderIndex] = true;
-	   lock.lock();
-	   threadedBuildersFinishedConditions[builderIndex].signal();
-	   lock.unlock();
+
+   // Thrown by a task of the graph when the errors reported so far prevent the
+   // tasks depending on it from running.  The errors are summed up at the end.
+   private static class GenerationStopped extends RuntimeException {
+      GenerationStopped() { super("errors found"); }
    }
    
    // Main
    
-   public static void main(String args[]) {
-      JTBParser parser;
-      final Node root;
-      
-      
+   /**
+    * Parses one grammar file.  The parser is generated with STATIC = false, so
+    * each call uses its own parser instance and several grammars can be parsed
+    * at the same time from different threads.
+    */
+   public static Node parse(InputStream in) throws ParseException {
+      return new JTBParser(in).JavaCCInput();
+   }
+
+   /**
+    * Parses one grammar file, read at once through a MappedCharStream.
+    */
+   public static Node parse(File file) throws ParseException, IOException {
+      return new JTBParser(new JTBParserTokenManager(new MappedCharStream(file)))
+         .JavaCCInput();
+   }
 
+   public static void main(String args[]) {
       try { if ( !processCommandLine(args) ) return; }
       catch (InvalidCommandLineException e) {
          System.err.println(progName + ":  " + e.getMessage());
@@ -127,454 +146,684 @@ public class JTBParallel {
       catch (Exception e) { Errors.hardErr(e.getMessage()); }
 
       System.err.println(progName + " version " + version);
-      System.err.println(progName + ":  Reading from " + Globals.inFilename +
-                         "...");
-      parser = new JTBParser(in);
 
       try {
-          // the setup needs to be done sequentially
-         root = parser.JavaCCInput();
-         System.err.println(progName + ":  Input file parsed successfully.");
-         
-         
-         //
-         // A few notes for the parallelization
-         // - If any thread notices errors, it will report them, and exit the program
-         // - To print to System.err, we will use our log() method, which provides synchronization
-         // - list, the variable holding the classes created from the grammar file, will be
-         //     chunked, and hold in an array, see below. But some visitors should be refactored if
-         //     we want to use that, since we should instantiate several of them and each would
-         //     print the "automatic" classes, behavior that we don't want
-         
-         	
-         
-         //
-         // Perform actions based on command-line flags
-         //
-         ClassGenerator vcg = new ClassGenerator();
-
-         Errors.resetCounts();
-
-         if ( !Globals.noSemanticCheck ) {
-            root.accept(new SemanticChecker());
-
-            if ( Errors.errorCount() > 0 ) {
-               Errors.printSummary();
-               return;
+         if ( inFilenames.size() > 1 )
+            processBatch();
+         else {
+            System.err.println(progName + ":  Reading from " + Globals.inFilename +
+                               "...");
+            generate(in != null ? parse(in) : parse(new File(Globals.inFilename)));
+         }
+      }
+      catch (ParseException e) {
+         System.err.println("\n" + e.getMessage() + "\n");
+         System.err.println(progName + ":  Encountered errors during " +
+                            "parse.");
+      }
+      catch (Exception e) { Errors.hardErr(e); }
+      finally { threadPool.shutdown(); }
+   }
+
+   /**
+    * Processes all the grammars given on the command line in this JVM.  The
+    * grammars are all parsed at the same time on the thread pool, then each
+    * one goes through the generation pipeline, on the same pool, and into its
+    * own directory, named after the grammar file.  The generators share the
+    * settings in Globals, so two pipelines never run at the same time.
+    */
+   private static void processBatch() throws Exception {
+      final String nodeDir = Globals.nodeDir;
+      final String visitorDir = Globals.visitorDir;
+      final String outFilename = Globals.outFilename;
+      final String recordsFilename = Globals.recordsFilename;
+
+      Vector<Future<Node>> roots = new Vector<Future<Node>>();
+      for ( Enumeration<String> e = inFilenames.elements(); e.hasMoreElements(); ) {
+         final String filename = e.nextElement();
+         roots.add(threadPool.submit(new Callable<Node>() {
+            public Node call() throws Exception {
+               return parse(new File(filename));
             }
+         }));
+      }
+
+      for ( int i = 0; i < inFilenames.size(); ++i ) {
+         String filename = inFilenames.elementAt(i);
+         File dir = new File(getOutputDirName(filename));
+         Node root;
+
+         System.err.println(progName + ":  Reading from " + filename + "...");
+         try {
+            root = roots.elementAt(i).get();
          }
-         
-         root.accept(vcg);              // create the class list
-         final Vector<ClassInfo> list = vcg.getClassList();
-         int chunkNumber = 4;
-         final Vector<ClassInfo>[] chunkList = VectorChunker.<ClassInfo>chunk(list, chunkNumber);
-         
-         // if any of the two conditions is true, we will use gen
-         final FileGenerator gen;
-         final FileGenerator[] gens;
-         if (Globals.printClassList || Globals.generateFiles) {
-        	 gen = new FileGenerator(list);
-        	 gens = new FileGenerator[chunkNumber];
-        	 for (int i=0; i< chunkNumber; i++)
-        		 gens[i] = new FileGenerator(chunkList[i]);
+         catch (ExecutionException e) {
+            // the other grammars are still generated
+            Throwable cause = e.getCause();
+            if ( cause instanceof ParseException || cause instanceof TokenMgrError ) {
+               System.err.println("\n" + cause.getMessage() + "\n");
+               System.err.println(progName + ":  Encountered errors during " +
+                                  "parse of \"" + filename + "\".");
+            }
+            else if ( cause instanceof IOException )
+               System.err.println(progName + ":  Could not read \"" + filename +
+                                  "\":  " + cause.getMessage());
+            else
+               throw e;
+            continue;
          }
-         else {
-        	 gen = null;
-        	 gens = null;
+
+         if ( !dir.exists() )
+            dir.mkdir();
+         else if ( !dir.isDirectory() ) {
+            System.err.println(progName + ":  \"" + dir + "\" exists but is " +
+                               "not a directory, skipping \"" + filename + "\".");
+            continue;
          }
 
-         if ( Errors.errorCount() > 0 ) {
-            Errors.printSummary();
-            return;
+         Globals.inFilename = filename;
+         Globals.nodeDir = new File(dir, nodeDir).getPath();
+         Globals.visitorDir = new File(dir, visitorDir).getPath();
+         Globals.outFilename = new File(dir, outFilename).getPath();
+         Globals.recordsFilename = new File(dir, recordsFilename).getPath();
+
+         generate(root);
+      }
+   }
+
+   // two grammars of the same name would be generated to the same directory
+   private static void checkOutputDirNames() throws InvalidCommandLineException {
+      Hashtable<String, String> grammars = new Hashtable<String, String>();
+
+      for ( Enumeration<String> e = inFilenames.elements(); e.hasMoreElements(); ) {
+         String filename = e.nextElement();
+         String dir = getOutputDirName(filename);
+         String other = grammars.put(dir, filename);
+
+         if ( other != null )
+            throw new InvalidCommandLineException("\"" + other + "\" and \"" +
+               filename + "\" would both be generated to directory \"" + dir +
+               "\".");
+      }
+   }
+
+   // "grammars/Java.jj" is generated to directory "Java"
+   private static String getOutputDirName(String filename) {
+      String name = new File(filename).getName();
+      int dot = name.lastIndexOf('.');
+      return dot > 0 ? name.substring(0, dot) : name + ".out";
+   }
+
+   /**
+    * Runs the generation pipeline for one parsed grammar, and waits until all
+    * its tasks are finished.
+    */
+   static void generate(final Node root) throws Exception {
+      System.err.println(progName + ":  Input file parsed successfully.");
+      OutputFile.resetCounts();
+
+      //
+      // A few notes for the parallelization
+      // - If a task notices errors, it reports them and throws GenerationStopped, so
+      //     that the tasks depending on it do not run.  The summary is printed at the end
+      // - To print to System.err, we will use our log() method, which provides synchronization
+      // - list, the variable holding the classes created from the grammar file, will be
+      //     chunked, and hold in an array, see below. But some visitors should be refactored if
+      //     we want to use that, since we should instantiate several of them and each would
+      //     print the "automatic" classes, behavior that we don't want
+      // - Each step is a task of a TaskGraph, given the tasks whose results it uses, and
+      //     starts as soon as they are finished.  The generators only need the class list,
+      //     or its chunks, so none of them waits for another one.
+      //
+      Errors.resetCounts();
+
+      final TaskGraph graph = new TaskGraph(Globals.inFilename, threadPool);
+      lastGraph = graph;
+
+      //
+      // Perform actions based on command-line flags
+      //
+      final TaskGraph.Task<Void> semanticCheck = graph.add("SemanticChecker",
+         new Runnable() {
+            public void run() {
+               if ( Globals.noSemanticCheck ) return;
+
+               root.accept(new SemanticChecker());
+               if ( Errors.errorCount() > 0 )
+                  throw new GenerationStopped();
+            }
+         });
+
+      // with -scheme, the grammar must also suit the Scheme toolkit.  Like the
+      // semantic errors, its errors stop the generation before any file is
+      // written, so that all the outputs are generated or none.
+      TaskGraph.Task<?> checked = semanticCheck;
+      if ( Globals.generateFiles && Globals.schemeToolkit )
+         checked = graph.add("SchemeSemanticChecker", new Runnable() {
+            public void run() {
+               root.accept(new SchemeSemanticChecker());
+               if ( Errors.errorCount() > 0 )
+                  throw new GenerationStopped();
+            }
+         }, semanticCheck);
+
+      final TaskGraph.Task<Hashtable> tokenTable = graph.add("TokenTableBuilder",
+         new Callable<Hashtable>() {
+            public Hashtable call() {
+               TokenTableBuilder builder = new TokenTableBuilder();
+               root.accept(builder);
+               return builder.getTokenTable();
+            }
+         });
+
+      // create the class list.  The generators all depend on it, so if it has
+      // errors, nothing is generated.
+      final TaskGraph.Task<Vector<ClassInfo>> classList = graph.add("ClassGenerator",
+         new Callable<Vector<ClassInfo>>() {
+            public Vector<ClassInfo> call() {
+               ClassGenerator vcg = new ClassGenerator(tokenTable.get());
+               root.accept(vcg);
+               Vector<ClassInfo> list = vcg.getClassList();
+
+               if ( Errors.errorCount() > 0 )
+                  throw new GenerationStopped();
+
+               // we want these two reports to appear before anything else, so
+               // they are part of this task
+               if ( Globals.printGrammarToOut ) root.accept(new Printer(System.out));
+               if ( Globals.printClassList ) {
+                  System.out.println("\nThe classes generated and the fields each " +
+                                     "contains are as follows:\n");
+                  new FileGenerator(list).printClassList(new PrintWriter(System.out, true));
+               }
+               return list;
+            }
+         }, checked, tokenTable);
+
+      if ( Globals.generateFiles ) {
+         final TaskGraph.Task<Vector<ClassInfo>[]> chunkList = graph.add("VectorChunker",
+            new Callable<Vector<ClassInfo>[]>() {
+               public Vector<ClassInfo>[] call() {
+                  return VectorChunker.chunkByCost(classList.get(), chunkNumber);
+               }
+            }, classList);
+
+         /********* Threaded visitors generators ************/
+
+         // these builders submit their own tasks, one per chunk, and their
+         // task of the graph ends when the file is finished.  They take the
+         // longest, so they are added first, to be started first.
+         graph.addAsync(IITGlobals.DepthFirstThreadedVisitorName,
+            new Callable<CompletableFuture<Void>>() {
+               public CompletableFuture<Void> call() {
+                  return generateThreadedVisitor(
+                     new DepthFirstThreadedVisitorBuilder(classList.get(), chunkList.get()),
+                     IITGlobals.DepthFirstThreadedVisitorName);
+               }
+            }, classList, chunkList);
+
+         graph.addAsync(IITGlobals.GJNoArguThreadedVisitorName,
+            new Callable<CompletableFuture<Void>>() {
+               public CompletableFuture<Void> call() {
+                  return generateThreadedVisitor(
+                     new GJNoArguThreadedVisitorBuilder(classList.get(), chunkList.get()),
+                     IITGlobals.GJNoArguThreadedVisitorName);
+               }
+            }, classList, chunkList);
+
+         graph.addAsync(IITGlobals.GJVoidThreadedVisitorName,
+            new Callable<CompletableFuture<Void>>() {
+               public CompletableFuture<Void> call() {
+                  return generateThreadedVisitor(
+                     new GJVoidThreadedVisitorBuilder(classList.get(), chunkList.get()),
+                     IITGlobals.GJVoidThreadedVisitorName);
+               }
+            }, classList, chunkList);
+
+         graph.addAsync(IITGlobals.GJThreadedVisitorName,
+            new Callable<CompletableFuture<Void>>() {
+               public CompletableFuture<Void> call() {
+                  return generateThreadedVisitor(
+                     new GJThreadedVisitorBuilder(classList.get(), chunkList.get()),
+                     IITGlobals.GJThreadedVisitorName);
+               }
+            }, classList, chunkList);
+
+         // create the new grammar file.  It does not use the class list, but it
+         // must not be written if the class list has errors.  The productions
+         // are annotated in parallel, and the task ends when the file is written.
+         // The other generators report their errors at the same time, so the
+         // task only fails on the errors of the Annotator.
+         graph.addAsync("Annotator", new Callable<CompletableFuture<Void>>() {
+            public CompletableFuture<Void> call() {
+               final TaskGraph.Task<?> task = TaskGraph.current();
+
+               try {
+                  final Annotator annotator = new Annotator();
+                  return annotator.annotate((JavaCCInput)root, threadPool).thenRun(
+                     new Runnable() {
+                        public void run() {
+                           written(task, new File(Globals.outFilename));
+                           if ( annotator.errorCount() > 0 )
+                              throw new GenerationStopped();
+
+                           log( progName + ":  \"" + Globals.outFilename +
+                                "\" generated to current directory.");
+                        }
+                     });
+               }
+               catch (FileExistsException e) {
+                  log(progName + ":  \"" + Globals.outFilename +
+                      "\" already exists.  Won't overwrite.");
+                  return CompletableFuture.completedFuture(null);
+               }
+            }
+         }, classList);
+
+         // generate the auto class files
+         graph.add("AutoClasses", new Runnable() {
+            public void run() {
+               try {
+                  new FileGenerator(classList.get()).generateAutoClassFiles();
+                  for ( int i = 0; i < AUTO_CLASSES.length; ++i )
+                     written(new File(Globals.nodeDir, AUTO_CLASSES[i] + ".java"));
+               }
+               catch (FileExistsException e) {
+                  log(progName + ":  One or more of the automatic "+
+                      "node class files already exists.  Won't overwrite.");
+               }
+            }
+         }, classList);
+
+         // the char stream of the generated parser, next to the output grammar
+         if ( Globals.mappedCharStream ) {
+            graph.add(MappedCharStreamBuilder.outFilename, new Runnable() {
+               public void run() {
+                  try {
+                     MappedCharStreamBuilder mcs =
+                        new MappedCharStreamBuilder((JavaCCInput)root);
+                     if ( !mcs.generateMappedCharStream() ) return;
+                     written(new File(mcs.getDir(), MappedCharStreamBuilder.outFilename));
+                     log(progName + ":  \"" +
+                         MappedCharStreamBuilder.outFilename + "\" generated to " +
+                         "directory \"" + mcs.getDir() + "\".");
+                  }
+                  catch (FileExistsException e) {
+                     log(progName + ":  \"" +
+                         MappedCharStreamBuilder.outFilename + "\" already exists.  " +
+                         "Won't overwrite.");
+                  }
+               }
+            }, classList);
          }
 
-         // we want these two reports to appear before anything else, so we will
-         // let it do sequentially
-         if ( Globals.printGrammarToOut ) root.accept(new Printer(System.out));
-         if ( Globals.printClassList ) {
-            System.out.println("\nThe classes generated and the fields each " +
-                               "contains are as follows:\n");
-            for (int i=0; i<chunkNumber; i++)
-            	gens[i].printClassList(new PrintWriter(System.out, true));
+         // generate the user class files, one task per chunk (there are less
+         // chunks than chunkNumber if the grammar has very few productions)
+         for ( int i = 0; i < chunkNumber; i++ ) {
+            final int j = i;
+            graph.add("FileGenerator[" + j + "]", new Runnable() {
+               public void run() {
+                  if ( j >= chunkList.get().length ) return;
+
+                  try {
+                     new FileGenerator(chunkList.get()[j]).generateClassFiles();
+                     for ( Enumeration<ClassInfo> e = chunkList.get()[j].elements(); e.hasMoreElements(); )
+                        written(new File(Globals.nodeDir, e.nextElement().getName() + ".java"));
+                     log(progName + ":  Syntax tree Java source " +
+                         "files generated to directory \"" + Globals.nodeDir + "\".");
+                  }
+                  catch (FileExistsException e) {
+                     log(progName + ":  One or more of the generated "+
+                         "node class files already exists.  Won't overwrite.");
+                  }
+               }
+            }, chunkList);
          }
-         // is the end of the sequential part here ????
-
-         if ( Globals.generateFiles ) {
-        	 
-        	 // create the new grammar file
-        	threadPool.submit(
-        	new Runnable() {
-            	public void run() {
-            		try {
-                        root.accept(new Annotator());
-
-                        if ( Errors.errorCount() > 0 ) {
-                        	synchronized (System.err){
-                        		Errors.printSummary(); // uses System.err
-                                System.exit(1);
-                        	}
-                        }
 
-                        log( progName + ":  \"" + Globals.outFilename +
-                        		"\" generated to current directory.");
-                     }
-                     catch (FileExistsException e) {
-                        log(progName + ":  \"" + Globals.outFilename +
-                                           "\" already exists.  Won't overwrite.");
-                     }
-            		
-            	}
-            });             
-
-            // generate the auto class files
-        	threadPool.submit(
-        	new Runnable() {
-            	public void run() {
-            		// use gens[0], any would be fine
-            		try { gens[0].generateAutoClassFiles(); }
-                    catch (FileExistsException e) {
-                    	log(progName + ":  One or more of the automatic "+
-                    		"node class files already exists.  Won't overwrite.");
-                    }
-            	}
-            });
-            
-            // generate the user class files
-            for (int i=0; i<chunkNumber; i++) {
-            	final int j = i;
-            	threadPool.submit(
-            	new Runnable() {
-            		public void run() {
-	            		try {
-	                        gens[j].generateClassFiles();
-	                        log(progName + ":  Syntax tree Java source " +
-	                        		"files generated to directory \"" + Globals.nodeDir + "\".");
-	                     }
-	                     catch (FileExistsException e) {
-	                    	 log(progName + ":  One or more of the generated "+
-	                    				 "node class files already exists.  Won't overwrite.");
-	                     }
-	            	}
-	            });
+         graph.add(Globals.GJVisitorName, new Runnable() {
+            public void run() {
+               try {
+                  new FileGenerator(classList.get()).generateVisitorFile();
+                  written(new File(Globals.visitorDir, Globals.GJVisitorName + ".java"));
+                  log (progName + ":  \"" + Globals.GJVisitorName +
+                       ".java\" generated " + "to directory \"" +
+                       Globals.visitorDir + "\".");
+               }
+               catch (FileExistsException e) {
+                  log(progName + ":  \"" + Globals.GJVisitorName +
+                      "\" already exists.  Won't overwrite.");
+               }
             }
-            
-			
-            threadPool.submit(
-            new Runnable() {
-            	public void run() {
-		            try {
-		               gen.generateVisitorFile();
-		               log (progName + ":  \"" + Globals.GJVisitorName +
-		                  ".java\" generated " + "to directory \"" +
-		                  Globals.visitorDir + "\".");
-		            }
-		            catch (FileExistsException e) {
-		            	log(progName + ":  \"" + Globals.GJVisitorName +
-		                  "\" already exists.  Won't overwrite.");
-		            }
-            	}
-            });
-            
-            
-            threadPool.submit( new Runnable() {
-            	public void run() {
-					try {
-		               new OldFileGenerator(list).generateVisitorFile();
-		               log(progName + ":  \"" + Globals.visitorName +
-		                  ".java\" generated " + "to directory \"" +
-		                  Globals.visitorDir + "\".");
-		            }
-		            catch (FileExistsException e) {
-		            	log(progName + ":  \"" + Globals.visitorName +
-		                  "\" already exists.  Won't overwrite.");
-		            }
-            	}
-            });
-            
-			threadPool.submit( new Runnable() {
-            	public void run() {
-					try {
-		               new NoArguFileGenerator(list).generateVisitorFile();
-		               log(progName + ":  \"" + Globals.GJNoArguVisitorName +
-		                  ".java\" generated " + "to directory \"" +
-		                  Globals.visitorDir + "\".");
-		            }
-		            catch (FileExistsException e) {
-		            	log(progName + ":  \"" + Globals.GJNoArguVisitorName +
-		                  "\" already exists.  Won't overwrite.");
-		            }
-            	}
-			});
-			
-			threadPool.submit( new Runnable() {
-            	public void run() {
-					try {
-		               new VoidFileGenerator(list).generateVisitorFile();
-		               log(progName + ":  \"" + Globals.GJVoidVisitorName +
-		                  ".java\" generated " + "to directory \"" +
-		                  Globals.visitorDir + "\".");
-		            }
-		            catch (FileExistsException e) {
-		            	log(progName + ":  \"" + Globals.GJVoidVisitorName +
-		                  "\" already exists.  Won't overwrite.");
-		            }
-            	}
-			});
-			
-			threadPool.submit( new Runnable() {
-            	public void run() {
-		            try {
-		               new GJDepthFirstVisitorBuilder(list).generateDepthFirstVisitor();
-		               log(progName + ":  \"" +
-		                  GJDepthFirstVisitorBuilder.outFilename + "\" " +
-		                  "generated to directory \"" + Globals.visitorDir + "\".");
-		            }
-		            catch (FileExistsException e) {
-		            	log(progName + ":  \"" +
-		                  GJDepthFirstVisitorBuilder.outFilename + "\" already exists.  "+
-		                  "Won't overwrite.");
-		            }
-            	}
-			});
-			
-
-            threadPool.submit( new Runnable() {
-            	public void run() {
-					try {
-					   new OldDepthFirstVisitorBuilder(list).generateDepthFirstVisitor();
-					   log(progName + ":  \"" +
-		                  OldDepthFirstVisitorBuilder.outFilename + "\" " +
-		                  "generated to directory \"" + Globals.visitorDir + "\".");
-		            }
-		            catch (FileExistsException e) {
-		            	log(progName + ":  \"" +
-		                  OldDepthFirstVisitorBuilder.outFilename + "\" already exists.  "+
-		                  "Won't overwrite.");
-		            }
-            	}
-            });
-            
-			threadPool.submit( new Runnable() {
-            	public void run() {
-		            try {
-		               new GJNoArguDepthFirstBuilder(list).generateDepthFirstVisitor();
-		               log(progName + ":  \"" +
-		                  GJNoArguDepthFirstBuilder.outFilename + "\" " +
-		                  "generated to directory \"" + Globals.visitorDir + "\".");
-		            }
-		            catch (FileExistsException e) {
-		            	log(progName + ":  \"" +
-		                  GJNoArguDepthFirstBuilder.outFilename + "\" already exists.  "+
-		                  "Won't overwrite.");
-		            }
-            	}
-			});
-
-            threadPool.submit( new Runnable() {
-            	public void run() {
-            		try {
-                        new GJVoidDepthFirstBuilder(list).generateDepthFirstVisitor();
-                        log(progName + ":  \"" +
-                           GJVoidDepthFirstBuilder.outFilename + "\" " +
-                           "generated to directory \"" + Globals.visitorDir + "\".");
-                     }
-                     catch (FileExistsException e) {
-                     	log(progName + ":  \"" +
-                           GJDepthFirstVisitorBuilder.outFilename + "\" already exists.  "+
-                           "Won't overwrite.");
-                     }
-            	}
-            });
-            
-
-            /********* Threaded visitors generators ************/
-            
-            for (int i=0; i<threadedBuildersNumber; ++i) {
-            	threadedBuildersFinishedConditions[i] = lock.newCondition();
+         }, classList);
+
+         graph.add(Globals.visitorName, new Runnable() {
+            public void run() {
+               try {
+                  new OldFileGenerator(classList.get()).generateVisitorFile();
+                  written(new File(Globals.visitorDir, Globals.visitorName + ".java"));
+                  log(progName + ":  \"" + Globals.visitorName +
+                      ".java\" generated " + "to directory \"" +
+                      Globals.visitorDir + "\".");
+               }
+               catch (FileExistsException e) {
+                  log(progName + ":  \"" + Globals.visitorName +
+                      "\" already exists.  Won't overwrite.");
+               }
             }
-            
-			threadPool.submit( new Runnable() {
-            	public void run() {
-		            try {
-		            	new DepthFirstThreadedVisitorBuilder(0, chunkList).generateVisitorFile();
-		                log(progName + ":  \"" + IITGlobals.DepthFirstThreadedVisitorName +
-		                   ".java\" generated " + "to directory \"" +
-		                   Globals.visitorDir + "\".");
-		             }
-		             catch (FileExistsException e) {
-		            	 log(progName + ":  \"" + IITGlobals.DepthFirstThreadedVisitorName +
-		                   "\" (threaded visitor) already exists.  Won't overwrite.");
-		             }
-            	}
-            });
-			
-			threadPool.submit( new Runnable() {
-            	public void run() {
-		            try {
-		            	new GJNoArguThreadedVisitorBuilder(1, chunkList).generateVisitorFile();
-		                log(progName + ":  \"" + IITGlobals.GJNoArguThreadedVisitorName +
-		                   ".java\" generated " + "to directory \"" +
-		                   Globals.visitorDir + "\".");
-		             }
-		             catch (FileExistsException e) {
-		            	 log(progName + ":  \"" + IITGlobals.GJNoArguThreadedVisitorName +
-		                   "\" (threaded visitor) already exists.  Won't overwrite.");
-		             }
-            	}
-            });
-			
-			threadPool.submit( new Runnable() {
-            	public void run() {
-		            try {
-		            	new GJVoidThreadedVisitorBuilder(2, chunkList).generateVisitorFile();
-		                log(progName + ":  \"" + IITGlobals.GJVoidThreadedVisitorName +
-		                   ".java\" generated " + "to directory \"" +
-		                   Globals.visitorDir + "\".");
-		             }
-		             catch (FileExistsException e) {
-		            	 log(progName + ":  \"" + IITGlobals.GJVoidThreadedVisitorName +
-		                   "\" (threaded visitor) already exists.  Won't overwrite.");
-		             }
-            	}
-            });
-			
-			threadPool.submit( new Runnable() {
-            	public void run() {
-		            try {
-		            	new GJThreadedVisitorBuilder(3, chunkList).generateVisitorFile();
-		                log(progName + ":  \"" + IITGlobals.GJThreadedVisitorName +
-		                   ".java\" generated " + "to directory \"" +
-		                   Globals.visitorDir + "\".");
-		             }
-		             catch (FileExistsException e) {
-		            	 log(progName + ":  \"" + IITGlobals.GJThreadedVisitorName +
-		                   "\" (threaded visitor) already exists.  Won't overwrite.");
-		             }
-            	}
-            });
-            
-            
-            // we have to wait for all the tasks to be finished here, since 
-            // the number of errors is checked hereafter
-            for (int i=0; i<threadedBuildersFinishedConditions.length; ++i) {
-            	if (!threadedBuildersFinishedBools[i]) {
-	            	lock.lock();
-	            	threadedBuildersFinishedConditions[i].await();
-	            	lock.unlock();
-            	}
+         }, classList);
+
+         graph.add(Globals.GJNoArguVisitorName, new Runnable() {
+            public void run() {
+               try {
+                  new NoArguFileGenerator(classList.get()).generateVisitorFile();
+                  written(new File(Globals.visitorDir, Globals.GJNoArguVisitorName + ".java"));
+                  log(progName + ":  \"" + Globals.GJNoArguVisitorName +
+                      ".java\" generated " + "to directory \"" +
+                      Globals.visitorDir + "\".");
+               }
+               catch (FileExistsException e) {
+                  log(progName + ":  \"" + Globals.GJNoArguVisitorName +
+                      "\" already exists.  Won't overwrite.");
+               }
             }
-            threadPool.shutdown();
-            while (!threadPool.awaitTermination(1, TimeUnit.SECONDS)); // loop forever until it is finished
+         }, classList);
 
+         graph.add(Globals.GJVoidVisitorName, new Runnable() {
+            public void run() {
+               try {
+                  new VoidFileGenerator(classList.get()).generateVisitorFile();
+                  written(new File(Globals.visitorDir, Globals.GJVoidVisitorName + ".java"));
+                  log(progName + ":  \"" + Globals.GJVoidVisitorName +
+                      ".java\" generated " + "to directory \"" +
+                      Globals.visitorDir + "\".");
+               }
+               catch (FileExistsException e) {
+                  log(progName + ":  \"" + Globals.GJVoidVisitorName +
+                      "\" already exists.  Won't overwrite.");
+               }
+            }
+         }, classList);
 
-            if ( Globals.schemeToolkit ) {
-               root.accept(new SchemeSemanticChecker());
+         graph.add(GJDepthFirstVisitorBuilder.outFilename, new Runnable() {
+            public void run() {
+               try {
+                  new GJDepthFirstVisitorBuilder(classList.get()).generateDepthFirstVisitor();
+                  written(new File(Globals.visitorDir, GJDepthFirstVisitorBuilder.outFilename));
+                  log(progName + ":  \"" +
+                      GJDepthFirstVisitorBuilder.outFilename + "\" " +
+                      "generated to directory \"" + Globals.visitorDir + "\".");
+               }
+               catch (FileExistsException e) {
+                  log(progName + ":  \"" +
+                      GJDepthFirstVisitorBuilder.outFilename + "\" already exists.  "+
+                      "Won't overwrite.");
+               }
+            }
+         }, classList);
 
-               if ( Errors.errorCount() > 0 ) {
-                  Errors.printSummary();
-                  return;
-               }
-
-               threadPool.submit(
-            	  new Runnable() {
-            		  public void run() {
-            			  try {
-			                  new SchemeVisitorBuilder(list).generateSchemeBuilder();
-			                  System.err.println(progName + ":  \"" +
-			                     SchemeVisitorBuilder.outFilename + "\" generated to " +
-			                     "directory \"" + Globals.visitorDir + "\".");
-			               }
-			               catch (FileExistsException e) {
-			                  System.err.println(progName + ":  \"" +
-			                     SchemeVisitorBuilder.outFilename + "\" already exists.  " +
-			                     "Won't overwrite.");
-			               }
-            		  }
-            	  });
-               
-               threadPool.submit(
-             	  new Runnable() {
-             		  public void run() {
-             			  try {
-		                  new SchemeRecordBuilder(list).generateSchemeRecords();
-		                  System.err.println(progName + ":  \"" +
-		                     SchemeRecordBuilder.outFilename + "\" generated to " +
-		                     "current directory.");
-		               }
-		               catch (FileExistsException e) {
-		                  System.err.println(progName + ":  \"" +
-		                     SchemeRecordBuilder.outFilename + "\" already exists.  " +
-		                     "Won't overwrite.");
-		               }
-					   System.err.println();
-		            }
-             	  });
-            } // end if Globals.schemeToolkit
-
-            if ( Globals.printerToolkit ) {
-            	threadPool.submit(
-            		new Runnable() {
-            			public void run() {
-            				 try {
-            	                  new TreeDumperBuilder().generateTreeDumper();
-            	                  System.err.println(progName + ":  \"" +
-            	                     TreeDumperBuilder.outFilename + "\" generated to " +
-            	                     "directory \"" + Globals.visitorDir + "\".");
-            	               }
-            	               catch (FileExistsException e) {
-            	                  System.err.println(progName + ":  \"" +
-            	                     TreeDumperBuilder.outFilename + "\" already exists.  " +
-            	                     "Won't overwrite.");
-            	               }
-            			}
-            		});
-              
-
-            	threadPool.submit(
-                		new Runnable() {
-                			public void run() {
-                				 try {
-					                  new TreeFormatterBuilder(list).generateTreeFormatter();
-					                  System.err.println(progName + ":  \"" +
-					                     TreeFormatterBuilder.outFilename + "\" generated to " +
-					                     "directory \"" + Globals.visitorDir + "\".");
-					               }
-					               catch (FileExistsException e) {
-					                  System.err.println(progName + ":  \"" +
-					                     TreeFormatterBuilder.outFilename + "\" already exists.  " +
-					                     "Won't overwrite.");
-					               }
-                			}
-                		});
-            } // end if toolKit
-	/* 
-            try { 
-               new CopyCat().copy();
-               System.err.println(progName + ":  gj packages duplicated to directory \"gj\".");
+         graph.add(OldDepthFirstVisitorBuilder.outFilename, new Runnable() {
+            public void run() {
+               try {
+                  new OldDepthFirstVisitorBuilder(classList.get()).generateDepthFirstVisitor();
+                  written(new File(Globals.visitorDir, OldDepthFirstVisitorBuilder.outFilename));
+                  log(progName + ":  \"" +
+                      OldDepthFirstVisitorBuilder.outFilename + "\" " +
+                      "generated to directory \"" + Globals.visitorDir + "\".");
+               }
+               catch (FileExistsException e) {
+                  log(progName + ":  \"" +
+                      OldDepthFirstVisitorBuilder.outFilename + "\" already exists.  "+
+                      "Won't overwrite.");
+               }
             }
-            catch (FileNotFoundException e) {
-               System.err.println("Duplicating GJ libraries is not completed.");
+         }, classList);
+
+         graph.add(GJNoArguDepthFirstBuilder.outFilename, new Runnable() {
+            public void run() {
+               try {
+                  new GJNoArguDepthFirstBuilder(classList.get()).generateDepthFirstVisitor();
+                  written(new File(Globals.visitorDir, GJNoArguDepthFirstBuilder.outFilename));
+                  log(progName + ":  \"" +
+                      GJNoArguDepthFirstBuilder.outFilename + "\" " +
+                      "generated to directory \"" + Globals.visitorDir + "\".");
+               }
+               catch (FileExistsException e) {
+                  log(progName + ":  \"" +
+                      GJNoArguDepthFirstBuilder.outFilename + "\" already exists.  "+
+                      "Won't overwrite.");
+               }
             }
-            catch (SecurityException e) {
-               System.err.println("Duplicating GJ libraries is not completed " +
-                                  " due to security reasons.");
+         }, classList);
+
+         graph.add(GJVoidDepthFirstBuilder.outFilename, new Runnable() {
+            public void run() {
+               try {
+                  new GJVoidDepthFirstBuilder(classList.get()).generateDepthFirstVisitor();
+                  written(new File(Globals.visitorDir, GJVoidDepthFirstBuilder.outFilename));
+                  log(progName + ":  \"" +
+                      GJVoidDepthFirstBuilder.outFilename + "\" " +
+                      "generated to directory \"" + Globals.visitorDir + "\".");
+               }
+               catch (FileExistsException e) {
+                  log(progName + ":  \"" +
+                      GJVoidDepthFirstBuilder.outFilename + "\" already exists.  "+
+                      "Won't overwrite.");
+               }
             }
-	*/
+         }, classList);
+
+         if ( Globals.schemeToolkit ) {
+            graph.add(SchemeVisitorBuilder.outFilename, new Runnable() {
+               public void run() {
+                  try {
+                     new SchemeVisitorBuilder(classList.get()).generateSchemeBuilder();
+                     written(new File(Globals.visitorDir, SchemeVisitorBuilder.outFilename));
+                     log(progName + ":  \"" +
+                         SchemeVisitorBuilder.outFilename + "\" generated to " +
+                         "directory \"" + Globals.visitorDir + "\".");
+                  }
+                  catch (FileExistsException e) {
+                     log(progName + ":  \"" +
+                         SchemeVisitorBuilder.outFilename + "\" already exists.  " +
+                         "Won't overwrite.");
+                  }
+               }
+            }, classList);
 
-            threadPool.shutdown();
-            while (!threadPool.awaitTermination(1, TimeUnit.SECONDS));
-            if ( Errors.errorCount() > 0 || Errors.warningCount() > 0 )
-               Errors.printSummary();
+            graph.add(SchemeRecordBuilder.outFilename, new Runnable() {
+               public void run() {
+                  try {
+                     new SchemeRecordBuilder(classList.get()).generateSchemeRecords();
+                     written(new File(Globals.recordsFilename));
+                     log(progName + ":  \"" + Globals.recordsFilename +
+                         "\" generated.");
+                  }
+                  catch (FileExistsException e) {
+                     log(progName + ":  \"" +
+                         Globals.recordsFilename + "\" already exists.  " +
+                         "Won't overwrite.");
+                  }
+               }
+            }, classList);
+         } // end if Globals.schemeToolkit
+
+         if ( Globals.printerToolkit ) {
+            graph.add(TreeDumperBuilder.outFilename, new Runnable() {
+               public void run() {
+                  try {
+                     new TreeDumperBuilder().generateTreeDumper();
+                     written(new File(Globals.visitorDir, TreeDumperBuilder.outFilename));
+                     log(progName + ":  \"" +
+                         TreeDumperBuilder.outFilename + "\" generated to " +
+                         "directory \"" + Globals.visitorDir + "\".");
+                  }
+                  catch (FileExistsException e) {
+                     log(progName + ":  \"" +
+                         TreeDumperBuilder.outFilename + "\" already exists.  " +
+                         "Won't overwrite.");
+                  }
+               }
+            }, classList);
+
+            graph.add(TreeFormatterBuilder.outFilename, new Runnable() {
+               public void run() {
+                  try {
+                     new TreeFormatterBuilder(classList.get()).generateTreeFormatter();
+                     written(new File(Globals.visitorDir, TreeFormatterBuilder.outFilename));
+                     log(progName + ":  \"" +
+                         TreeFormatterBuilder.outFilename + "\" generated to " +
+                         "directory \"" + Globals.visitorDir + "\".");
+                  }
+                  catch (FileExistsException e) {
+                     log(progName + ":  \"" +
+                         TreeFormatterBuilder.outFilename + "\" already exists.  " +
+                         "Won't overwrite.");
+                  }
+               }
+            }, classList);
+         } // end if toolKit
+
+         if ( Globals.flatToolkit ) {
+            graph.add(FlatTreeBuilder.treeFilename, new Runnable() {
+               public void run() {
+                  try {
+                     new FlatTreeBuilder(classList.get()).generateFlatTree();
+                     written(new File(Globals.nodeDir, FlatTreeBuilder.treeFilename));
+                     log(progName + ":  \"" +
+                         FlatTreeBuilder.treeFilename + "\" generated to " +
+                         "directory \"" + Globals.nodeDir + "\".");
+                  }
+                  catch (FileExistsException e) {
+                     log(progName + ":  \"" +
+                         FlatTreeBuilder.treeFilename + "\" already exists.  " +
+                         "Won't overwrite.");
+                  }
+               }
+            }, classList);
+
+            graph.add(FlatTreeBuilder.visitorFilename, new Runnable() {
+               public void run() {
+                  try {
+                     new FlatTreeBuilder(classList.get()).generateFlatVisitor();
+                     written(new File(Globals.visitorDir, FlatTreeBuilder.visitorFilename));
+                     log(progName + ":  \"" +
+                         FlatTreeBuilder.visitorFilename + "\" generated to " +
+                         "directory \"" + Globals.visitorDir + "\".");
+                  }
+                  catch (FileExistsException e) {
+                     log(progName + ":  \"" +
+                         FlatTreeBuilder.visitorFilename + "\" already exists.  " +
+                         "Won't overwrite.");
+                  }
+               }
+            }, classList);
+         } // end if Globals.flatToolkit
+
+         if ( Globals.kindDispatch ) {
+            graph.add(SwitchVisitorBuilder.visitorFilename, new Runnable() {
+               public void run() {
+                  try {
+                     new SwitchVisitorBuilder(classList.get()).generateSwitchVisitor();
+                     written(new File(Globals.visitorDir, SwitchVisitorBuilder.visitorFilename));
+                     log(progName + ":  \"" +
+                         SwitchVisitorBuilder.visitorFilename + "\" generated to " +
+                         "directory \"" + Globals.visitorDir + "\".");
+                  }
+                  catch (FileExistsException e) {
+                     log(progName + ":  \"" +
+                         SwitchVisitorBuilder.visitorFilename + "\" already exists.  " +
+                         "Won't overwrite.");
+                  }
+               }
+            }, classList);
+         } // end if Globals.kindDispatch
+
+         if ( Globals.iterativeToolkit ) {
+            graph.add(IterativeVisitorBuilder.visitorFilename, new Runnable() {
+               public void run() {
+                  try {
+                     new IterativeVisitorBuilder(classList.get()).generateIterativeVisitor();
+                     written(new File(Globals.visitorDir, IterativeVisitorBuilder.visitorFilename));
+                     log(progName + ":  \"" +
+                         IterativeVisitorBuilder.visitorFilename + "\" generated to " +
+                         "directory \"" + Globals.visitorDir + "\".");
+                  }
+                  catch (FileExistsException e) {
+                     log(progName + ":  \"" +
+                         IterativeVisitorBuilder.visitorFilename + "\" already exists.  " +
+                         "Won't overwrite.");
+                  }
+               }
+            }, classList);
+         } // end if Globals.iterativeToolkit
+      }
+
+      boolean stopped = false;
+      for ( Enumeration<Throwable> e = graph.await().elements(); e.hasMoreElements(); ) {
+         Throwable t = e.nextElement();
+         if ( t instanceof GenerationStopped )
+            stopped = true;
+         else if ( t instanceof UncheckedIOException ) {
+            Errors.softErr(t.getMessage());
+            stopped = true;
          }
+         else
+            Errors.hardErr(t);
       }
-      catch (ParseException e) {
-         System.err.println("\n" + e.getMessage() + "\n");
-         System.err.println(progName + ":  Encountered errors during " +
-                            "parse.");
+
+      // the files whose contents did not change are left alone (see OutputFile)
+      if ( OutputFile.unchangedCount() > 0 )
+         log(progName + ":  " + OutputFile.writtenCount() + " files written, " +
+             OutputFile.unchangedCount() + " unchanged.");
+
+      if ( stopped || Errors.errorCount() > 0 || Errors.warningCount() > 0 )
+         Errors.printSummary();
+
+      if ( IITGlobals.printStats ) {
+         System.err.println();
+         graph.printStats(System.err);
       }
-      catch (Exception e) { Errors.hardErr(e); }
    }
-   
+
+   // starts a threaded visitor builder, the returned future completes when its
+   // file is finished
+   private static CompletableFuture<Void> generateThreadedVisitor(
+      AbstractThreadedVisitorBuilder builder, final String visitorName) {
+      final TaskGraph.Task<?> task = TaskGraph.current();
+
+      try {
+         builder.generateVisitorFile();
+      }
+      catch (FileExistsException e) {
+         log(progName + ":  \"" + visitorName +
+             "\" (threaded visitor) already exists.  Won't overwrite.");
+         return CompletableFuture.completedFuture(null);
+      }
+
+      return builder.getFinished().thenRun(new Runnable() {
+         public void run() {
+            written(task, new File(Globals.visitorDir, visitorName + ".java"));
+            log(progName + ":  \"" + visitorName + ".java\" generated " +
+                "to directory \"" + Globals.visitorDir + "\".");
+         }
+      });
+   }
+
+   // counts the given files in the bytes written by the task, unless they were
+   // left unchanged
+   private static void written(TaskGraph.Task<?> task, File... files) {
+      if ( task == null ) return;
+
+      for ( int i = 0; i < files.length; ++i )
+         if ( OutputFile.wasWritten(files[i]) )
+            task.addBytesWritten(files[i].length());
+   }
+
+   // same for the task run by the current thread
+   private static void written(File... files) {
+      written(TaskGraph.current(), files);
+   }
+
    // since the method is static, only one thread at a time can write here
    private static void log(String s) {
 	   System.err.println(s);
@@ -587,22 +836,17 @@ public class JTBParallel {
    private static boolean processCommandLine(String[] args)
    throws InvalidCommandLineException {
       boolean returnVal = false;
+      boolean stdin = false;
 
       for ( int i = 0; i < args.length; ++i ) {
          if ( args[i].charAt(0) != '-' ) {
-            if ( returnVal ) {
-               returnVal = false;   // 2 filenames passed as arguments?
+            if ( stdin ) {
+               returnVal = false;   // filenames and -si passed as arguments?
                break;
             }
             else {
-               try { in = new java.io.FileInputStream(args[i]); }
-               catch (java.io.FileNotFoundException e) {
-                  System.err.println(progName + ":  File \"" + args[i] +
-                                     "\" not found.");
+               if ( !addInputFile(args[i]) )
                   return false;
-               }
-
-               Globals.inFilename = args[i];
                returnVal = true;
             }
          }
@@ -650,6 +894,11 @@ public class JTBParallel {
                }
             }
             else if ( args[i].equals("-si") ) {
+               if ( !inFilenames.isEmpty() ) {
+                  returnVal = false;
+                  break;
+               }
+               stdin = true;
                in = System.in;
                Globals.inFilename = "standard input";
                returnVal = true;
@@ -674,12 +923,53 @@ public class JTBParallel {
                Globals.parentPointers = true;
             else if ( args[i].equals("-tk") )
                Globals.keepSpecialTokens = true;
+            else if ( args[i].equals("-al") )
+               Globals.arrayLists = true;
+            else if ( args[i].equals("-ct") )
+               Globals.compactTokens = true;
+            else if ( args[i].equals("-se") )
+               Globals.shareEmpty = true;
+            else if ( args[i].equals("-mcs") )
+               Globals.mappedCharStream = true;
+            else if ( args[i].equals("-st") )
+               Globals.streams = true;
+            else if ( args[i].equals("-ix") )
+               Globals.nodeIndex = true;
+            else if ( args[i].equals("-bin") )
+               Globals.binaryTrees = true;
+            else if ( args[i].equals("-cache") ) {
+               Globals.parseCache = true;
+               Globals.binaryTrees = true;
+            }
+            else if ( args[i].equals("-emit") ) {
+               ++i;
+               if ( i >= args.length || args[i].charAt(0) == '-' )
+                  throw new InvalidCommandLineException("Option \"-emit\" " +
+                     "must be followed by a list of productions.");
+               else {
+                  StringTokenizer st = new StringTokenizer(args[i], ",");
+                  while ( st.hasMoreTokens() )
+                     Globals.emitProductions.addElement(st.nextToken());
+               }
+            }
+
+            // Parallel options
+            else if ( args[i].equals("-fj") )
+               IITGlobals.forkJoin = true;
+            else if ( args[i].equals("-stats") )
+               IITGlobals.printStats = true;
 
             // Toolkit options
             else if ( args[i].equals("-scheme") )
                Globals.schemeToolkit = true;
             else if ( args[i].equals("-printer") )
                Globals.printerToolkit = true;
+            else if ( args[i].equals("-flat") )
+               Globals.flatToolkit = true;
+            else if ( args[i].equals("-kind") )
+               Globals.kindDispatch = true;
+            else if ( args[i].equals("-iter") )
+               Globals.iterativeToolkit = true;
 
             // Debug options
             else if ( args[i].equals("-cl") )
@@ -695,6 +985,45 @@ public class JTBParallel {
          }
       }
 
+      // the shared empty nodes have no parent, each node needs its own with -pp
+      if ( Globals.shareEmpty && Globals.parentPointers ) {
+         System.err.println(progName + ":  \"-se\" is ignored with \"-pp\".");
+         Globals.shareEmpty = false;
+      }
+
+      // with -flat the parser makes no nodes, to record, hand out or share
+      if ( Globals.flatToolkit ) {
+         if ( Globals.nodeIndex ) {
+            System.err.println(progName + ":  \"-ix\" is ignored with \"-flat\".");
+            Globals.nodeIndex = false;
+         }
+         if ( !Globals.emitProductions.isEmpty() ) {
+            System.err.println(progName + ":  \"-emit\" is ignored with \"-flat\".");
+            Globals.emitProductions.removeAllElements();
+         }
+         if ( Globals.shareEmpty ) {
+            System.err.println(progName + ":  \"-se\" is ignored with \"-flat\".");
+            Globals.shareEmpty = false;
+         }
+      }
+
+      if ( returnVal && !stdin ) {
+         if ( inFilenames.isEmpty() ) {
+            System.err.println(progName + ":  No grammar file found.");
+            return false;
+         }
+         Globals.inFilename = inFilenames.firstElement();
+         if ( inFilenames.size() > 1 )
+            checkOutputDirNames();
+         else {
+            if ( !new File(Globals.inFilename).isFile() ) {
+               System.err.println(progName + ":  File \"" + Globals.inFilename +
+                                  "\" not found.");
+               return false;
+            }
+         }
+      }
+
       if ( returnVal )
          return true;
       else {
@@ -703,11 +1032,35 @@ public class JTBParallel {
       }
    }
 
+   // adds a grammar file, or all the .jj files of a directory, to the input files
+   private static boolean addInputFile(String name) {
+      File file = new File(name);
+
+      if ( file.isDirectory() ) {
+         String[] names = file.list();
+         Arrays.sort(names);
+         for ( int i = 0; i < names.length; ++i )
+            if ( names[i].endsWith(".jj") )
+               inFilenames.add(new File(file, names[i]).getPath());
+         return true;
+      }
+      if ( !file.exists() ) {
+         System.err.println(progName + ":  File \"" + name + "\" not found.");
+         return false;
+      }
+      inFilenames.add(name);
+      return true;
+   }
+
    private static void printHelp() {
       System.out.print(
 progName + " version " + version + "\n" +
 "\n" +
-"Usage: " + scriptName + " [OPTIONS] " + "[inputfile]\n" +
+"Usage: " + scriptName + " [OPTIONS] " + "[inputfile ...]\n" +
+"\n" +
+"Several input files, or directories of .jj files, are processed in one run;\n" +
+"the output of each grammar goes to a directory named after its file.  Two\n" +
+"files of the same name, in different directories, cannot be given together.\n" +
 "\n" +
 "Standard options:\n" +
 "  -h          Displays this help message.\n" +
@@ -723,11 +1076,52 @@ progName + " version " + version + "\n" +
 "  -ns NAME    Uses NAME as the class which all node classes will extend.\n" +
 "  -pp         Generate parent pointers in all node classes.\n" +
 "  -tk         Generate special tokens into the tree.\n" +
+"  -al         Keep the nodes of the lists and the special tokens in\n" +
+"              ArrayLists instead of Vectors, and visit the lists by index.\n" +
+"  -ct         Generate compact NodeTokens: the positions are packed in a\n" +
+"              long, behind accessors, and the specials kept in an array.\n" +
+"  -se         Give all the empty ( )* and [ ] nodes the same shared\n" +
+"              NodeListOptional.EMPTY and NodeOptional.EMPTY.  Ignored\n" +
+"              with -pp: a shared node cannot have the parent of each use.\n" +
+"  -mcs        Generate MappedCharStream, which reads the input of the\n" +
+"              parser at once, next to the output grammar and in the package\n" +
+"              of the parser.  The grammar must set STATIC = false.\n" +
+"  -st         Generate stream(), parallelStream() and spliterator() in the\n" +
+"              list nodes, and descendants(), splitting the subtree of a\n" +
+"              node, in all the nodes.\n" +
+"  -ix         Generate NodeIndex, into which the parser records the nodes\n" +
+"              it builds by class, to find all the nodes of a class.\n" +
+"  -bin        Generate NodeWriter and NodeReader, which write a syntax tree\n" +
+"              in a compact binary form and read it back.\n" +
+"  -cache      Generate NodeCache, which keeps the trees of the parsed\n" +
+"              sources in a directory and reads an unchanged source back\n" +
+"              instead of parsing it.  Implies -bin.\n" +
+"  -emit NAME[,NAME...]\n" +
+"              Hand the nodes of the productions NAME to the NodeListener of\n" +
+"              the parsing thread as soon as they are built.\n" +
+"\n" +
+"Parallel options:\n" +
+"  -fj         Generate threaded visitors running on a ForkJoinPool.  The\n" +
+"              GJ ones return the values of the subtrees merged by combine().\n" +
+"              Their default constructor uses the common pool; the one taking\n" +
+"              a number of threads creates a pool, ended by shutdown().\n" +
+"  -stats      Print, for each grammar, the time each generation task waited\n" +
+"              and ran, the bytes it allocated and wrote, and the critical\n" +
+"              path.  The tasks are also recorded as flight recorder events.\n" +
 "\n" +
 "Toolkit options:\n" +
 "  -scheme     Generate: (1) Scheme records representing the grammar.\n" +
 "                        (2) A Scheme tree building visitor.\n"+
 "  -printer    Generate a syntax tree dumping visitor.\n" +
+"  -flat       Generate: (1) FlatTree, the syntax tree in arrays.\n" +
+"                        (2) FlatDepthFirst, a cursor visitor walking it.\n" +
+"              The parser fills the FlatTree started by FlatTree.start(),\n" +
+"              without making nodes, and returns node numbers.  -ix, -emit\n" +
+"              and -se are ignored.\n" +
+"  -kind       Generate: (1) nodeKind() in the nodes, from NodeKind.\n" +
+"                        (2) SwitchDepthFirst, a visitor switching on it.\n" +
+"  -iter       Generate IterativeDepthFirst, a visitor keeping its own stack,\n" +
+"              with pre- and post-visit methods, for trees of any depth.\n" +
 /*
 "\n" +
 "Debugging options:\n" +
@@ -0,0 +1,306 @@
+package EDU.iitm.jtb.threaded;
+
+import java.io.File;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.util.Enumeration;
+import java.util.Vector;
+
+import EDU.purdue.jtb.JTB;
+import EDU.purdue.jtb.misc.ClassInfo;
+import EDU.purdue.jtb.misc.Errors;
+import EDU.purdue.jtb.misc.FileGenerator;
+import EDU.purdue.jtb.misc.Globals;
+import EDU.purdue.jtb.misc.NoArguFileGenerator;
+import EDU.purdue.jtb.misc.OldFileGenerator;
+import EDU.purdue.jtb.misc.VoidFileGenerator;
+import EDU.purdue.jtb.misc.toolkit.GJDepthFirstVisitorBuilder;
+import EDU.purdue.jtb.misc.toolkit.GJNoArguDepthFirstBuilder;
+import EDU.purdue.jtb.misc.toolkit.GJVoidDepthFirstBuilder;
+import EDU.purdue.jtb.misc.toolkit.OldDepthFirstVisitorBuilder;
+import EDU.purdue.jtb.parser.ParseException;
+import EDU.purdue.jtb.syntaxtree.JavaCCInput;
+import EDU.purdue.jtb.syntaxtree.Node;
+import EDU.purdue.jtb.visitor.Annotator;
+import EDU.purdue.jtb.visitor.ClassGenerator;
+import EDU.purdue.jtb.visitor.SemanticChecker;
+
+/**
+ * Measures the time of each stage of the generation pipeline, and of the whole
+ * pipeline with both drivers (JTB.main and JTBParallel), over a set of grammars.
+ *
+ * Usage: java EDU.iitm.jtb.threaded.PipelineBenchmark [-wi n] [-i n] [grammar ...]
+ *
+ * -wi is the number of warmup iterations of each stage, -i the number of
+ * measured ones.  The default grammars are the ones in testGrammars.  The files
+ * are generated into a temporary directory, and the messages of the generators
+ * are not printed.  A grammar which does not parse is reported and skipped.
+ *
+ * Like in a JMH benchmark with a setup at the invocation level, every stage
+ * working on the class list gets a new one before each iteration, outside of
+ * the measure, so the first use of cached values (the EBNF comments of
+ * ClassInfo) is measured each time.
+ */
+public class PipelineBenchmark {
+   private static final String[] DEFAULT_GRAMMARS = {
+      "testGrammars/C.jj", "testGrammars/Java.jj", "testGrammars/PlSql.jj",
+      "testGrammars/cobol.jj", "testGrammars/php.jj"
+   };
+
+   private static int warmupIterations = 5;
+   private static int iterations = 10;
+
+   private static final PrintStream report = System.out;
+   private static final PrintStream stderr = System.err;
+
+   private static String grammar;        // the grammar file being measured
+   private static Node root;             // its syntax tree
+   private static Vector<ClassInfo> list; // a new class list for every iteration
+
+   /**
+    * A stage of the pipeline.  setUp() is called before each iteration, and
+    * not measured.
+    */
+   private static abstract class Stage {
+      final String name;
+
+      Stage(String name)     { this.name = name; }
+
+      void setUp() throws Exception { }
+      abstract void run() throws Exception;
+   }
+
+   // stages which need a new class list
+   private static abstract class ListStage extends Stage {
+      ListStage(String name) { super(name); }
+
+      void setUp() {
+         ClassGenerator vcg = new ClassGenerator();
+         root.accept(vcg);
+         list = vcg.getClassList();
+      }
+   }
+
+   public static void main(String[] args) throws Exception {
+      Vector<String> grammars = new Vector<String>();
+
+      for ( int i = 0; i < args.length; ++i ) {
+         if ( args[i].equals("-wi") && i + 1 < args.length )
+            warmupIterations = Integer.parseInt(args[++i]);
+         else if ( args[i].equals("-i") && i + 1 < args.length )
+            iterations = Integer.parseInt(args[++i]);
+         else
+            grammars.add(args[i]);
+      }
+
+      if ( grammars.isEmpty() )
+         for ( int i = 0; i < DEFAULT_GRAMMARS.length; ++i )
+            grammars.add(DEFAULT_GRAMMARS[i]);
+
+      File dir = File.createTempFile("jtb-bench", "");
+      dir.delete();
+      dir.mkdir();
+      Globals.nodeDir = new File(dir, "syntaxtree").getPath();
+      Globals.visitorDir = new File(dir, "visitor").getPath();
+      Globals.outFilename = new File(dir, "jtb.out.jj").getPath();
+
+      report.println(JTBParallel.coreNo + " processors, " + warmupIterations +
+                     " warmup and " + iterations + " measured iterations " +
+                     "per stage, times in ms");
+      report.println();
+      report.println(format("stage", "mean", "stddev", "min"));
+
+      try {
+         for ( Enumeration<String> e = grammars.elements(); e.hasMoreElements(); )
+            measureGrammar(e.nextElement());
+      }
+      finally {
+         JTBParallel.threadPool.shutdown();
+         delete(dir);
+      }
+   }
+
+   private static void measureGrammar(String filename) throws Exception {
+      grammar = filename;
+      Globals.inFilename = filename;
+      report.println();
+      report.println(filename);
+
+      try { root = parse(); }
+      catch (ParseException e) {
+         report.println("   does not parse, skipped: " +
+                        e.getMessage().split("\n")[0]);
+         return;
+      }
+
+      measure(new Stage("JTBParser.JavaCCInput") {
+         void run() throws Exception { parse(); }
+      });
+      measure(new Stage("SemanticChecker") {
+         void run() { root.accept(new SemanticChecker()); }
+      });
+      measure(new Stage("ClassGenerator") {
+         void run() { new ClassGenerator().visit((JavaCCInput)root); }
+      });
+      measure(new Stage("Annotator") {
+         void run() { root.accept(new Annotator(new NullWriter())); }
+      });
+      measure(new Stage("Annotator (parallel)") {
+         void run() {
+            new Annotator(new NullWriter()).annotate((JavaCCInput)root,
+                                                     JTBParallel.threadPool).join();
+         }
+      });
+      measure(new ListStage("FileGenerator.generateAutoClassFiles") {
+         void run() throws Exception { new FileGenerator(list).generateAutoClassFiles(); }
+      });
+      measure(new ListStage("FileGenerator.generateClassFiles") {
+         void run() throws Exception { new FileGenerator(list).generateClassFiles(); }
+      });
+      measure(new ListStage(Globals.GJVisitorName) {
+         void run() throws Exception { new FileGenerator(list).generateVisitorFile(); }
+      });
+      measure(new ListStage(Globals.visitorName) {
+         void run() throws Exception { new OldFileGenerator(list).generateVisitorFile(); }
+      });
+      measure(new ListStage(Globals.GJNoArguVisitorName) {
+         void run() throws Exception { new NoArguFileGenerator(list).generateVisitorFile(); }
+      });
+      measure(new ListStage(Globals.GJVoidVisitorName) {
+         void run() throws Exception { new VoidFileGenerator(list).generateVisitorFile(); }
+      });
+      measure(new ListStage(GJDepthFirstVisitorBuilder.outFilename) {
+         void run() throws Exception {
+            new GJDepthFirstVisitorBuilder(list).generateDepthFirstVisitor();
+         }
+      });
+      measure(new ListStage(OldDepthFirstVisitorBuilder.outFilename) {
+         void run() throws Exception {
+            new OldDepthFirstVisitorBuilder(list).generateDepthFirstVisitor();
+         }
+      });
+      measure(new ListStage(GJNoArguDepthFirstBuilder.outFilename) {
+         void run() throws Exception {
+            new GJNoArguDepthFirstBuilder(list).generateDepthFirstVisitor();
+         }
+      });
+      measure(new ListStage(GJVoidDepthFirstBuilder.outFilename) {
+         void run() throws Exception {
+            new GJVoidDepthFirstBuilder(list).generateDepthFirstVisitor();
+         }
+      });
+      measure(new ListStage(IITGlobals.DepthFirstThreadedVisitorName) {
+         void run() throws Exception {
+            generate(new DepthFirstThreadedVisitorBuilder(list, chunks()));
+         }
+      });
+      measure(new ListStage(IITGlobals.GJNoArguThreadedVisitorName) {
+         void run() throws Exception {
+            generate(new GJNoArguThreadedVisitorBuilder(list, chunks()));
+         }
+      });
+      measure(new ListStage(IITGlobals.GJVoidThreadedVisitorName) {
+         void run() throws Exception {
+            generate(new GJVoidThreadedVisitorBuilder(list, chunks()));
+         }
+      });
+      measure(new ListStage(IITGlobals.GJThreadedVisitorName) {
+         void run() throws Exception {
+            generate(new GJThreadedVisitorBuilder(list, chunks()));
+         }
+      });
+
+      // the whole pipelines, parse included
+      measure(new Stage("JTB.main") {
+         void run() {
+            JTB.main(new String[] { grammar });
+         }
+      });
+      measure(new Stage("JTBParallel") {
+         void run() throws Exception {
+            JTBParallel.generate(parse());
+         }
+      });
+   }
+
+   private static Node parse() throws Exception {
+      return JTBParallel.parse(new File(grammar));
+   }
+
+   private static Vector<ClassInfo>[] chunks() {
+      return VectorChunker.chunkByCost(list, JTBParallel.chunkNumber);
+   }
+
+   private static void generate(AbstractThreadedVisitorBuilder builder) throws Exception {
+      builder.generateVisitorFile();
+      builder.getFinished().join();
+   }
+
+   private static void measure(Stage stage) throws Exception {
+      long[] times = new long[iterations];
+
+      System.setErr(new PrintStream(new NullOutputStream()));
+      try {
+         for ( int i = 0; i < warmupIterations; ++i ) {
+            stage.setUp();
+            stage.run();
+         }
+
+         for ( int i = 0; i < iterations; ++i ) {
+            stage.setUp();
+            long start = System.nanoTime();
+            stage.run();
+            times[i] = System.nanoTime() - start;
+         }
+      }
+      finally {
+         System.setErr(stderr);
+         Errors.resetCounts();
+      }
+
+      double mean = 0, variance = 0;
+      long min = Long.MAX_VALUE;
+
+      for ( int i = 0; i < times.length; ++i ) {
+         mean += times[i];
+         min = Math.min(min, times[i]);
+      }
+      mean /= times.length;
+
+      for ( int i = 0; i < times.length; ++i )
+         variance += (times[i] - mean) * (times[i] - mean);
+      variance /= times.length;
+
+      report.println(format("   " + stage.name, ms(mean), ms(Math.sqrt(variance)),
+                            ms(min)));
+   }
+
+   private static String ms(double nanos) {
+      return String.format("%.3f", nanos / 1e6);
+   }
+
+   private static String format(String name, String mean, String stddev, String min) {
+      return String.format("%-42s %10s %10s %10s", name, mean, stddev, min);
+   }
+
+   private static void delete(File f) {
+      File[] files = f.listFiles();
+
+      if ( files != null )
+         for ( int i = 0; i < files.length; ++i )
+            delete(files[i]);
+      f.delete();
+   }
+
+   private static class NullOutputStream extends OutputStream {
+      public void write(int b) { }
+      public void write(byte[] b, int off, int len) { }
+   }
+
+   private static class NullWriter extends Writer {
+      public void write(char[] buf, int off, int len) { }
+      public void flush() { }
+      public void close() { }
+   }
+}
@@ -0,0 +1,49 @@
+package EDU.iitm.jtb.threaded;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight recorder event for one task of a TaskGraph, committed when the task
+ * ends.  The duration of the event is the run time of the task.
+ */
+@Name("EDU.iitm.jtb.PipelineTask")
+@Label("Pipeline Task")
+@Category({ "JTB", "Pipeline" })
+@Description("A task of the JTBParallel generation pipeline")
+@StackTrace(false)
+class PipelineTaskEvent extends Event {
+   @Label("Graph")
+   @Description("The grammar the task works on")
+   String graph;
+
+   @Label("Task")
+   String task;
+
+   @Label("Queue Wait")
+   @Description("Time between the end of the inputs and the start of the task")
+   @Timespan(Timespan.NANOSECONDS)
+   long queueWait;
+
+   @Label("Run Time")
+   @Timespan(Timespan.NANOSECONDS)
+   long runTime;
+
+   @Label("Bytes Written")
+   @DataAmount(DataAmount.BYTES)
+   long bytesWritten;
+
+   @Label("Allocated")
+   @Description("Bytes allocated by the thread which started the task, while it ran it")
+   @DataAmount(DataAmount.BYTES)
+   long allocated;
+
+   @Label("Failed")
+   boolean failed;
+}
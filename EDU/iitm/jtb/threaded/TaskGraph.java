@@ -0,0 +1,377 @@
+package EDU.iitm.jtb.threaded;
+
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Enumeration;
+import java.util.Vector;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+
+import jdk.jfr.FlightRecorder;
+
+/**
+ * The tasks of the generation pipeline of one grammar, with the inputs each
+ * of them needs.  A task is submitted to the executor as soon as all its
+ * inputs are finished, and not before, so there is no barrier between the
+ * generators: a task only waits for the tasks it really depends on.  When
+ * several tasks become ready at the same time, they are submitted in the
+ * order they were added to the graph, so the longest ones should be added
+ * first.
+ *
+ * If a task fails, the tasks depending on it are not run, and fail with the
+ * same exception.  The graph records when each task was ready, started and
+ * ended, so that its critical path can be found once it is finished, as well
+ * as the bytes it allocated and wrote.  Each task is also recorded as a
+ * PipelineTaskEvent when the flight recorder runs.
+ */
+public class TaskGraph {
+   private static final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+   // the task run by the current thread
+   private static final ThreadLocal<Task<?>> current = new ThreadLocal<Task<?>>();
+
+   private final String name;
+   private final Executor executor;
+   private final Vector<Task<?>> tasks = new Vector<Task<?>>();
+   private final long creationTime = System.nanoTime();
+
+   /**
+    * A task of the graph, and the future of its result.  The times are in
+    * nanoseconds since the creation of the graph.
+    */
+   public static class Task<T> {
+      private final String name;
+      private final Task<?>[] inputs;
+      private final Callable<? extends CompletionStage<T>> work;
+      private final CompletableFuture<T> future = new CompletableFuture<T>();
+      private boolean submitted = false;
+
+      private volatile long readyTime = -1;
+      private volatile long startTime = -1;
+      private volatile long endTime = -1;
+
+      private volatile long allocatedBytes = -1;
+      private final AtomicLong bytesWritten = new AtomicLong();
+      private PipelineTaskEvent event;
+
+      private Task(String name, Task<?>[] inputs,
+                   Callable<? extends CompletionStage<T>> work) {
+         this.name = name;
+         this.inputs = inputs;
+         this.work = work;
+      }
+
+      public String getName()                { return name; }
+      public Task<?>[] getInputs()           { return inputs; }
+      public CompletableFuture<T> future()   { return future; }
+
+      /**
+       * Returns the result of the task.  Meant to be called by the tasks
+       * having this one as input, when it is already finished.
+       */
+      public T get()                         { return future.join(); }
+
+      public boolean hasRun()                { return endTime >= 0; }
+      public long getReadyTime()             { return readyTime; }
+      public long getStartTime()             { return startTime; }
+      public long getEndTime()               { return endTime; }
+
+      // time spent in the queue of the executor once the inputs were ready
+      public long getWaitTime()              { return startTime - readyTime; }
+      public long getRunTime()               { return endTime - startTime; }
+
+      // -1 if the JVM cannot tell; for the tasks which end asynchronously,
+      // only the part run by the thread starting the task is counted
+      public long getAllocatedBytes()        { return allocatedBytes; }
+
+      public long getBytesWritten()          { return bytesWritten.get(); }
+      public void addBytesWritten(long n)    { bytesWritten.addAndGet(n); }
+   }
+
+   /**
+    * name is the name of the graph in the statistics, e.g. the grammar file.
+    */
+   public TaskGraph(String name, Executor executor) {
+      this.name = name;
+      this.executor = executor;
+   }
+
+   public String getName() {
+      return name;
+   }
+
+   /**
+    * Returns the task run by the current thread, or null if it does not run
+    * one.  Meant for the work of the tasks, which has no reference to its
+    * task otherwise.
+    */
+   public static Task<?> current() {
+      return current.get();
+   }
+
+   /**
+    * Adds a task computing a value with the given inputs, which must have
+    * been added before.
+    */
+   public <T> Task<T> add(String name, final Callable<T> work, Task<?>... inputs) {
+      return addAsync(name, new Callable<CompletionStage<T>>() {
+         public CompletionStage<T> call() throws Exception {
+            return CompletableFuture.completedFuture(work.call());
+         }
+      }, inputs);
+   }
+
+   /**
+    * Adds a task without result.
+    */
+   public Task<Void> add(String name, final Runnable work, Task<?>... inputs) {
+      return add(name, new Callable<Void>() {
+         public Void call() {
+            work.run();
+            return null;
+         }
+      }, inputs);
+   }
+
+   /**
+    * Adds a task which starts its work and returns before it is finished, the
+    * returned stage completing at the end of the work.  The task ends, and
+    * the tasks depending on it start, when that stage completes.  This way
+    * no thread of the executor is blocked while the work runs on other ones.
+    */
+   public synchronized <T> Task<T> addAsync(String name,
+                                            Callable<? extends CompletionStage<T>> work,
+                                            Task<?>... inputs) {
+      Task<T> task = new Task<T>(name, inputs, work);
+
+      tasks.add(task);
+      submitReadyTasks();
+      return task;
+   }
+
+   //
+   // Submits the tasks whose inputs are all finished, in the order they were
+   // added.  The inputs of a task are always added before it, so a failure is
+   // passed on to all the tasks depending on it in one pass.
+   //
+   private synchronized void submitReadyTasks() {
+      for ( Enumeration<Task<?>> e = tasks.elements(); e.hasMoreElements(); ) {
+         Task<?> task = e.nextElement();
+         Throwable failure = null;
+         boolean ready = !task.submitted;
+
+         for ( int i = 0; ready && i < task.inputs.length; ++i ) {
+            CompletableFuture<?> input = task.inputs[i].future;
+
+            if ( !input.isDone() )
+               ready = false;
+            else if ( input.isCompletedExceptionally() && failure == null )
+               failure = getFailure(input);
+         }
+
+         if ( !ready ) continue;
+
+         task.submitted = true;
+         task.readyTime = now();
+
+         if ( failure != null )
+            task.future.completeExceptionally(failure);
+         else
+            start(task);
+      }
+   }
+
+   private <T> void start(final Task<T> task) {
+      executor.execute(new Runnable() {
+         public void run() {
+            CompletionStage<T> stage;
+            long allocated = allocatedBytes();
+
+            // creating the first event starts the flight recorder, which takes
+            // a while, so there are none unless it already runs
+            if ( FlightRecorder.isInitialized() ) {
+               task.event = new PipelineTaskEvent();
+               task.event.begin();
+            }
+            task.startTime = now();
+            current.set(task);
+            try { stage = task.work.call(); }
+            catch (Throwable t) {
+               task.allocatedBytes = allocatedBytes(allocated);
+               end(task, null, t);
+               return;
+            }
+            finally { current.remove(); }
+
+            task.allocatedBytes = allocatedBytes(allocated);
+
+            stage.whenComplete(new BiConsumer<T, Throwable>() {
+               public void accept(T result, Throwable t) {
+                  end(task, result, t);
+               }
+            });
+         }
+      });
+   }
+
+   private <T> void end(Task<T> task, T result, Throwable t) {
+      task.endTime = now();
+      commitEvent(task, t != null);
+
+      if ( t == null )
+         task.future.complete(result);
+      else if ( t instanceof CompletionException && t.getCause() != null )
+         task.future.completeExceptionally(t.getCause());
+      else
+         task.future.completeExceptionally(t);
+
+      submitReadyTasks();
+   }
+
+   private void commitEvent(Task<?> task, boolean failed) {
+      PipelineTaskEvent event = task.event;
+
+      if ( event == null ) return;
+      event.end();
+      if ( !event.shouldCommit() ) return;
+
+      event.graph = name;
+      event.task = task.name;
+      event.queueWait = task.getWaitTime();
+      event.runTime = task.getRunTime();
+      event.bytesWritten = task.getBytesWritten();
+      event.allocated = task.allocatedBytes;
+      event.failed = failed;
+      event.commit();
+   }
+
+   private static long allocatedBytes() {
+      if ( threads instanceof com.sun.management.ThreadMXBean )
+         return ((com.sun.management.ThreadMXBean)threads).getThreadAllocatedBytes(
+            Thread.currentThread().getId());
+      return -1;
+   }
+
+   // bytes allocated by the current thread since it had allocated "since"
+   private static long allocatedBytes(long since) {
+      long now = allocatedBytes();
+      return since < 0 || now < 0 ? -1 : now - since;
+   }
+
+   private static Throwable getFailure(CompletableFuture<?> future) {
+      try {
+         future.join();
+         return null;
+      }
+      catch (CompletionException e) {
+         return e.getCause() != null ? e.getCause() : e;
+      }
+   }
+
+   private long now() {
+      return System.nanoTime() - creationTime;
+   }
+
+   public Vector<Task<?>> getTasks() {
+      return tasks;
+   }
+
+   /**
+    * Waits until every task of the graph has ended, or has been skipped
+    * because one of its inputs failed.  Returns the exceptions thrown by the
+    * tasks, each only once, in the order the tasks were added.
+    */
+   public Vector<Throwable> await() {
+      Vector<Throwable> failures = new Vector<Throwable>();
+
+      for ( Enumeration<Task<?>> e = tasks.elements(); e.hasMoreElements(); ) {
+         Throwable t = getFailure(e.nextElement().future);
+
+         if ( t != null && !failures.contains(t) )
+            failures.add(t);
+      }
+
+      return failures;
+   }
+
+   /**
+    * Returns the critical path of the finished graph: starting from the task
+    * ending last, the chain of tasks obtained by following each time the
+    * input which ended last.  This is the chain of tasks which determined the
+    * total time of the graph.
+    */
+   public Vector<Task<?>> getCriticalPath() {
+      Vector<Task<?>> path = new Vector<Task<?>>();
+      Task<?> last = lastEnded(tasks.toArray(new Task<?>[tasks.size()]));
+
+      while ( last != null ) {
+         path.add(0, last);
+         last = lastEnded(last.inputs);
+      }
+
+      return path;
+   }
+
+   private static Task<?> lastEnded(Task<?>[] candidates) {
+      Task<?> last = null;
+
+      for ( int i = 0; i < candidates.length; ++i )
+         if ( candidates[i].hasRun() &&
+              (last == null || candidates[i].endTime > last.endTime) )
+            last = candidates[i];
+
+      return last;
+   }
+
+   /**
+    * Prints a table of the tasks of the finished graph, with the time each one
+    * waited in the queue of the executor once ready, its run time, the bytes
+    * it allocated and wrote, then the critical path.
+    */
+   public void printStats(PrintStream out) {
+      Vector<Task<?>> path = getCriticalPath();
+      long total = path.isEmpty() ? 0 : path.lastElement().endTime;
+
+      out.println("Tasks of " + name + ":");
+      out.println(String.format("%-32s %10s %10s %10s %12s %12s", "task",
+                                "ready ms", "wait ms", "run ms", "allocated", "written"));
+
+      for ( Enumeration<Task<?>> e = tasks.elements(); e.hasMoreElements(); ) {
+         Task<?> task = e.nextElement();
+
+         if ( !task.hasRun() )
+            out.println(String.format("%-32s %10s", task.name, "skipped"));
+         else
+            out.println(String.format("%-32s %10s %10s %10s %12s %12s", task.name,
+                                      ms(task.readyTime), ms(task.getWaitTime()),
+                                      ms(task.getRunTime()), bytes(task.allocatedBytes),
+                                      bytes(task.getBytesWritten())));
+      }
+
+      StringBuffer buf = new StringBuffer("critical path, " + ms(total) + " ms:");
+      for ( Enumeration<Task<?>> e = path.elements(); e.hasMoreElements(); ) {
+         Task<?> task = e.nextElement();
+         buf.append(" " + task.name + " (" + ms(task.getWaitTime()) + " + " +
+                    ms(task.getRunTime()) + ")");
+         if ( e.hasMoreElements() ) buf.append(" ->");
+      }
+      out.println(buf);
+   }
+
+   private static String ms(long nanos) {
+      return String.format("%.2f", nanos / 1e6);
+   }
+
+   private static String bytes(long n) {
+      if ( n < 0 )           return "?";
+      if ( n < 1024 )        return n + " B";
+      if ( n < 1024 * 1024 ) return String.format("%.1f KB", n / 1024.0);
+      return String.format("%.1f MB", n / (1024.0 * 1024));
+   }
+}
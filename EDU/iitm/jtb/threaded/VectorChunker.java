@@ -1,8 +1,14 @@
 package EDU.iitm.jtb.threaded;
 
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.Enumeration;
 import java.util.Vector;
 
+import EDU.purdue.jtb.misc.ClassInfo;
+import EDU.purdue.jtb.syntaxtree.NodeToken;
+import EDU.purdue.jtb.visitor.DepthFirstVisitor;
+
 public class VectorChunker {
 
 	// creates simple block chunks from the given vector, and returns them as an array of vectors
@@ -34,4 +40,62 @@ public class VectorChunker {
 		
 		return ret;
 	}
+
+	// Splits the class list into chunks of about the same generation cost, by giving each
+	// class, the most expensive first, to the chunk with the lowest cost so far (greedy bin
+	// packing). A big production thus ends up in a chunk with few others. The classes of a
+	// chunk keep the order of the list.
+	public static Vector<ClassInfo>[] chunkByCost(Vector<ClassInfo> v, int chunksNo) {
+		if (chunksNo > v.size()) chunksNo = v.size();
+		if (chunksNo <= 0) chunksNo = 1;
+
+		final long[] costs = new long[v.size()];
+		Integer[] order = new Integer[v.size()];
+		for (int i=0; i<costs.length; i++) {
+			costs[i] = estimateCost(v.elementAt(i));
+			order[i] = i;
+		}
+
+		// most expensive first, the sort is stable so equal costs keep the list order
+		Arrays.sort(order, new Comparator<Integer>() {
+			public int compare(Integer a, Integer b) {
+				return Long.compare(costs[b], costs[a]);
+			}
+		});
+
+		long[] loads = new long[chunksNo];
+		int[] chunkOf = new int[costs.length];
+		for (int i=0; i<order.length; i++) {
+			int lightest = 0;
+			for (int c=1; c<chunksNo; c++)
+				if (loads[c] < loads[lightest])
+					lightest = c;
+			loads[lightest] += costs[order[i]];
+			chunkOf[order[i]] = lightest;
+		}
+
+		Vector<ClassInfo>[] ret = new Vector[chunksNo];
+		for (int c=0; c<chunksNo; c++)
+			ret[c] = new Vector<ClassInfo>();
+		for (int i=0; i<costs.length; i++)
+			ret[chunkOf[i]].add(v.elementAt(i));
+
+		return ret;
+	}
+
+	// The generators print, for each class, one line or method per field and the EBNF
+	// production as a comment, which grows with the number of tokens of the production.
+	public static long estimateCost(ClassInfo info) {
+		TokenCounter counter = new TokenCounter();
+		info.getAstNode().accept(counter);
+		return info.getNameList().size() + counter.tokens;
+	}
+
+	private static class TokenCounter extends DepthFirstVisitor {
+		long tokens = 0;
+
+		public void visit(NodeToken n) {
+			++tokens;
+		}
+	}
 }
@@ -55,6 +55,7 @@
 package EDU.purdue.jtb;
 
 import EDU.purdue.jtb.parser.*;
+import EDU.purdue.jtb.syntaxtree.JavaCCInput;
 import EDU.purdue.jtb.syntaxtree.Node;
 import EDU.purdue.jtb.visitor.*;
 import EDU.purdue.jtb.misc.*;
@@ -92,9 +93,15 @@ public class JTB {
       System.err.println(progName + " version " + version);
       System.err.println(progName + ":  Reading from " + Globals.inFilename +
                          "...");
-      parser = new JTBParser(in);
 
       try {
+         // a file is read at once, standard input through a Reader
+         if ( in != null )
+            parser = new JTBParser(in);
+         else
+            parser = new JTBParser(new JTBParserTokenManager(
+               new MappedCharStream(new File(Globals.inFilename))));
+
          root = parser.JavaCCInput();
          System.err.println(progName + ":  Input file parsed successfully.");
 
@@ -166,6 +173,21 @@ public class JTB {
                   "node class files already exists.  Won't overwrite.");
             }
 
+            if ( Globals.mappedCharStream ) {
+               try {
+                  MappedCharStreamBuilder mcs = new MappedCharStreamBuilder((JavaCCInput)root);
+                  if ( mcs.generateMappedCharStream() )
+                     System.err.println(progName + ":  \"" +
+                        MappedCharStreamBuilder.outFilename + "\" generated to " +
+                        "directory \"" + mcs.getDir() + "\".");
+               }
+               catch (FileExistsException e) {
+                  System.err.println(progName + ":  \"" +
+                     MappedCharStreamBuilder.outFilename + "\" already exists.  " +
+                     "Won't overwrite.");
+               }
+            }
+
             try {
                gen.generateClassFiles();
                System.err.println(progName + ":  Syntax tree Java source " +
@@ -332,6 +354,65 @@ public class JTB {
                }
 			   System.err.println();
             }
+
+            if ( Globals.flatToolkit ) {
+               FlatTreeBuilder flat = new FlatTreeBuilder(list);
+
+               try {
+                  flat.generateFlatTree();
+                  System.err.println(progName + ":  \"" +
+                     FlatTreeBuilder.treeFilename + "\" generated to " +
+                     "directory \"" + Globals.nodeDir + "\".");
+               }
+               catch (FileExistsException e) {
+                  System.err.println(progName + ":  \"" +
+                     FlatTreeBuilder.treeFilename + "\" already exists.  " +
+                     "Won't overwrite.");
+               }
+
+               try {
+                  flat.generateFlatVisitor();
+                  System.err.println(progName + ":  \"" +
+                     FlatTreeBuilder.visitorFilename + "\" generated to " +
+                     "directory \"" + Globals.visitorDir + "\".");
+               }
+               catch (FileExistsException e) {
+                  System.err.println(progName + ":  \"" +
+                     FlatTreeBuilder.visitorFilename + "\" already exists.  " +
+                     "Won't overwrite.");
+               }
+			   System.err.println();
+            }
+
+            if ( Globals.kindDispatch ) {
+               try {
+                  new SwitchVisitorBuilder(list).generateSwitchVisitor();
+                  System.err.println(progName + ":  \"" +
+                     SwitchVisitorBuilder.visitorFilename + "\" generated to " +
+                     "directory \"" + Globals.visitorDir + "\".");
+               }
+               catch (FileExistsException e) {
+                  System.err.println(progName + ":  \"" +
+                     SwitchVisitorBuilder.visitorFilename + "\" already exists.  " +
+                     "Won't overwrite.");
+               }
+			   System.err.println();
+            }
+
+            if ( Globals.iterativeToolkit ) {
+               try {
+                  new IterativeVisitorBuilder(list).generateIterativeVisitor();
+                  System.err.println(progName + ":  \"" +
+                     IterativeVisitorBuilder.visitorFilename + "\" generated to " +
+                     "directory \"" + Globals.visitorDir + "\".");
+               }
+               catch (FileExistsException e) {
+                  System.err.println(progName + ":  \"" +
+                     IterativeVisitorBuilder.visitorFilename + "\" already exists.  " +
+                     "Won't overwrite.");
+               }
+			   System.err.println();
+            }
 	/* 
             try { 
                new CopyCat().copy();
@@ -372,8 +453,7 @@ public class JTB {
                break;
             }
             else {
-               try { in = new java.io.FileInputStream(args[i]); }
-               catch (java.io.FileNotFoundException e) {
+               if ( !new File(args[i]).isFile() ) {
                   System.err.println(progName + ":  File \"" + args[i] +
                                      "\" not found.");
                   return false;
@@ -451,12 +531,47 @@ public class JTB {
                Globals.parentPointers = true;
             else if ( args[i].equals("-tk") )
                Globals.keepSpecialTokens = true;
+            else if ( args[i].equals("-al") )
+               Globals.arrayLists = true;
+            else if ( args[i].equals("-ct") )
+               Globals.compactTokens = true;
+            else if ( args[i].equals("-se") )
+               Globals.shareEmpty = true;
+            else if ( args[i].equals("-mcs") )
+               Globals.mappedCharStream = true;
+            else if ( args[i].equals("-st") )
+               Globals.streams = true;
+            else if ( args[i].equals("-ix") )
+               Globals.nodeIndex = true;
+            else if ( args[i].equals("-bin") )
+               Globals.binaryTrees = true;
+            else if ( args[i].equals("-cache") ) {
+               Globals.parseCache = true;
+               Globals.binaryTrees = true;
+            }
+            else if ( args[i].equals("-emit") ) {
+               ++i;
+               if ( i >= args.length || args[i].charAt(0) == '-' )
+                  throw new InvalidCommandLineException("Option \"-emit\" " +
+                     "must be followed by a list of productions.");
+               else {
+                  StringTokenizer st = new StringTokenizer(args[i], ",");
+                  while ( st.hasMoreTokens() )
+                     Globals.emitProductions.addElement(st.nextToken());
+               }
+            }
 
             // Toolkit options
             else if ( args[i].equals("-scheme") )
                Globals.schemeToolkit = true;
             else if ( args[i].equals("-printer") )
                Globals.printerToolkit = true;
+            else if ( args[i].equals("-flat") )
+               Globals.flatToolkit = true;
+            else if ( args[i].equals("-kind") )
+               Globals.kindDispatch = true;
+            else if ( args[i].equals("-iter") )
+               Globals.iterativeToolkit = true;
 
             // Debug options
             else if ( args[i].equals("-cl") )
@@ -472,6 +587,28 @@ public class JTB {
          }
       }
 
+      // the shared empty nodes have no parent, each node needs its own with -pp
+      if ( Globals.shareEmpty && Globals.parentPointers ) {
+         System.err.println(progName + ":  \"-se\" is ignored with \"-pp\".");
+         Globals.shareEmpty = false;
+      }
+
+      // with -flat the parser makes no nodes, to record, hand out or share
+      if ( Globals.flatToolkit ) {
+         if ( Globals.nodeIndex ) {
+            System.err.println(progName + ":  \"-ix\" is ignored with \"-flat\".");
+            Globals.nodeIndex = false;
+         }
+         if ( !Globals.emitProductions.isEmpty() ) {
+            System.err.println(progName + ":  \"-emit\" is ignored with \"-flat\".");
+            Globals.emitProductions.removeAllElements();
+         }
+         if ( Globals.shareEmpty ) {
+            System.err.println(progName + ":  \"-se\" is ignored with \"-flat\".");
+            Globals.shareEmpty = false;
+         }
+      }
+
       if ( returnVal )
          return true;
       else {
@@ -500,11 +637,43 @@ progName + " version " + version + "\n" +
 "  -ns NAME    Uses NAME as the class which all node classes will extend.\n" +
 "  -pp         Generate parent pointers in all node classes.\n" +
 "  -tk         Generate special tokens into the tree.\n" +
+"  -al         Keep the nodes of the lists and the special tokens in\n" +
+"              ArrayLists instead of Vectors, and visit the lists by index.\n" +
+"  -ct         Generate compact NodeTokens: the positions are packed in a\n" +
+"              long, behind accessors, and the specials kept in an array.\n" +
+"  -se         Give all the empty ( )* and [ ] nodes the same shared\n" +
+"              NodeListOptional.EMPTY and NodeOptional.EMPTY.  Ignored\n" +
+"              with -pp: a shared node cannot have the parent of each use.\n" +
+"  -mcs        Generate MappedCharStream, which reads the input of the\n" +
+"              parser at once, next to the output grammar and in the package\n" +
+"              of the parser.  The grammar must set STATIC = false.\n" +
+"  -st         Generate stream(), parallelStream() and spliterator() in the\n" +
+"              list nodes, and descendants(), splitting the subtree of a\n" +
+"              node, in all the nodes.\n" +
+"  -ix         Generate NodeIndex, into which the parser records the nodes\n" +
+"              it builds by class, to find all the nodes of a class.\n" +
+"  -bin        Generate NodeWriter and NodeReader, which write a syntax tree\n" +
+"              in a compact binary form and read it back.\n" +
+"  -cache      Generate NodeCache, which keeps the trees of the parsed\n" +
+"              sources in a directory and reads an unchanged source back\n" +
+"              instead of parsing it.  Implies -bin.\n" +
+"  -emit NAME[,NAME...]\n" +
+"              Hand the nodes of the productions NAME to the NodeListener of\n" +
+"              the parsing thread as soon as they are built.\n" +
 "\n" +
 "Toolkit options:\n" +
 "  -scheme     Generate: (1) Scheme records representing the grammar.\n" +
 "                        (2) A Scheme tree building visitor.\n"+
 "  -printer    Generate a syntax tree dumping visitor.\n" +
+"  -flat       Generate: (1) FlatTree, the syntax tree in arrays.\n" +
+"                        (2) FlatDepthFirst, a cursor visitor walking it.\n" +
+"              The parser fills the FlatTree started by FlatTree.start(),\n" +
+"              without making nodes, and returns node numbers.  -ix, -emit\n" +
+"              and -se are ignored.\n" +
+"  -kind       Generate: (1) nodeKind() in the nodes, from NodeKind.\n" +
+"                        (2) SwitchDepthFirst, a visitor switching on it.\n" +
+"  -iter       Generate IterativeDepthFirst, a visitor keeping its own stack,\n" +
+"              with pre- and post-visit methods, for trees of any depth.\n" +
 /*
 "\n" +
 "Debugging options:\n" +
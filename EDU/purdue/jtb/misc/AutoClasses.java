@@ -56,6 +56,7 @@ package EDU.purdue.jtb.misc;
 
 
 import EDU.iitm.jtb.threaded.IITGlobals;
+import java.util.*;
 
 /**
  * Class AutoClasses simply contains string representations of the automatic
@@ -73,6 +74,115 @@ class AutoClasses {
       else return "";
    }
 
+   // With Globals.shareEmpty, the parser gives all the empty ( )* and [ ]
+   // the same NodeListOptional.EMPTY and NodeOptional.EMPTY, which may not
+   // be added to.  The drivers turn it off with -pp, as they have no parent.
+   static String sharedEmptyCode(String className) {
+      if ( Globals.shareEmpty )
+         return
+            "   // shared by all the empty " + className + "s built by the parser\n" +
+            "   public static final " + className + " EMPTY = new " + className + "();\n\n";
+      else return "";
+   }
+
+   // The list of NodeListOptional.EMPTY holds nothing and throws on the
+   // methods which would add to it, whether called on the list itself, its
+   // iterators or its sublists, so that the threads sharing it never write
+   // to it.
+   static String sharedEmptyListCode() {
+      if ( !Globals.shareEmpty )
+         return "";
+
+      String list = listClass();
+      StringBuffer buf = new StringBuffer(
+         "   static {\n" +
+         "      EMPTY.nodes = new " + list + "<Node>(0) {\n" +
+         "         public boolean add(Node n)          { throw readOnly(); }\n" +
+         "         public void add(int i, Node n)      { throw readOnly(); }\n" +
+         "         public boolean addAll(Collection<? extends Node> c) { throw readOnly(); }\n" +
+         "         public boolean addAll(int i, Collection<? extends Node> c) {\n" +
+         "            throw readOnly();\n" +
+         "         }\n" +
+         "         public Node set(int i, Node n)      { throw readOnly(); }\n" +
+         "         public void ensureCapacity(int n)   { }\n");
+      if ( list.equals("Vector") )
+         buf.append(
+         "         public void addElement(Node n)      { throw readOnly(); }\n" +
+         "         public void insertElementAt(Node n, int i) { throw readOnly(); }\n" +
+         "         public void setElementAt(Node n, int i)    { throw readOnly(); }\n" +
+         "         public void setSize(int n)          { throw readOnly(); }\n");
+      buf.append(
+         "      };\n" +
+         "   }\n\n" +
+         "   private static UnsupportedOperationException readOnly() {\n" +
+         "      return new UnsupportedOperationException(\"NodeListOptional.EMPTY is shared\");\n" +
+         "   }\n\n");
+      return buf.toString();
+   }
+
+   static String sharedEmptyCheck(String className) {
+      if ( Globals.shareEmpty )
+         return
+            "      if ( this == EMPTY )\n" +
+            "         throw new UnsupportedOperationException(\"Attempt to add to " +
+            className + ".EMPTY\");\n";
+      else return "";
+   }
+
+   // With fork/join, every node knows the size of its subtree, computed when the
+   // children are added.  The threaded visitors use it to stop forking small subtrees.
+   static String subtreeSizeCode() {
+      if ( IITGlobals.forkJoin )
+         return
+            "   public int subtreeSize()      { return subtreeSize; }\n\n" +
+            "   private int subtreeSize = 1;\n";
+      else return "";
+   }
+
+   // With Globals.kindDispatch, every node tells the kind of its class, one
+   // of the NodeKind constants, so that SwitchDepthFirst can switch on it.
+   static String nodeKindCode(String kind) {
+      if ( Globals.kindDispatch )
+         return "   public int nodeKind()         { return NodeKind." + kind + "; }\n";
+      else return "";
+   }
+
+   static String addSubtreeSize(String child) {
+      if ( IITGlobals.forkJoin )
+         return "      subtreeSize += " + child + ".subtreeSize();\n";
+      else return "";
+   }
+
+   // With Globals.arrayLists, the nodes of the lists and the special tokens are
+   // kept in ArrayLists rather than Vectors, so that the parser adding them and
+   // the visitors getting them do not lock anything.
+   static String listClass() {
+      return Globals.arrayLists ? "ArrayList" : "Vector";
+   }
+
+   static String listAdd()   { return Globals.arrayLists ? "add" : "addElement"; }
+   static String listGet()   { return Globals.arrayLists ? "get" : "elementAt"; }
+
+   static String listElements(String list) {
+      if ( Globals.arrayLists )
+         return "Collections.enumeration(" + list + ")";
+      else return list + ".elements()";
+   }
+
+   static String listViewCode() {
+      if ( Globals.arrayLists )
+         return "   public java.util.List<Node> asList() { return Collections.unmodifiableList(nodes); }\n";
+      else return "";
+   }
+
+   // With Globals.streams, the lists split their nodes by halves of their
+   // range of indexes, as Vector and ArrayList do.
+   static String spliteratorCode() {
+      if ( Globals.streams )
+         return "   public Spliterator<Node> spliterator() { return nodes.spliterator(); }\n";
+      else return "";
+   }
+
    static String getNodeClassStr() {
       StringBuffer buf = new StringBuffer(
          "package " + packageName + ";\n\n" +
@@ -94,12 +204,28 @@ class AutoClasses {
     	 "   public <R,A> R accept(" + Globals.visitorPackage + "." + IITGlobals.GJThreadedVisitorName +
     			"<R,A> v, A argu, boolean parallel);\n"
       );
+      if ( IITGlobals.forkJoin )
+         buf.append(
+            "   // Number of nodes in the subtree rooted at this node, computed\n" +
+            "   // when the node is built.\n" +
+            "   public int subtreeSize();\n");
       if ( Globals.parentPointers )
          buf.append(
             "   // It is the responsibility of each implementing class to call\n" +
             "   // setParent() on each of its child Nodes.\n" +
             "   public void setParent(Node n);\n" +
             "   public Node getParent();\n");
+      if ( Globals.kindDispatch )
+         buf.append(
+            "   // The kind of the class of the node, one of the NodeKind constants.\n" +
+            "   public int nodeKind();\n");
+      if ( Globals.streams )
+         buf.append(
+            "   // The nodes of the subtree rooted at this node, this node first,\n" +
+            "   // in depth-first order; see NodeSpliterator.\n" +
+            "   public default java.util.Spliterator<Node> descendants() {\n" +
+            "      return new NodeSpliterator(this);\n" +
+            "   }\n");
 
       buf.append("}\n");
       return buf.toString();
@@ -116,7 +242,19 @@ class AutoClasses {
          "   public void addNode(Node n);\n" +
          "   public Node elementAt(int i);\n" +
          "   public java.util.Enumeration<Node> elements();\n" +
-         "   public int size();\n\n" +
+         (Globals.arrayLists ?
+         "   // unmodifiable view of the nodes\n" +
+         "   public java.util.List<Node> asList();\n" : "") +
+         "   public int size();\n" +
+         (Globals.streams ?
+         "   public java.util.Spliterator<Node> spliterator();\n" +
+         "   public default java.util.stream.Stream<Node> stream() {\n" +
+         "      return java.util.stream.StreamSupport.stream(spliterator(), false);\n" +
+         "   }\n" +
+         "   public default java.util.stream.Stream<Node> parallelStream() {\n" +
+         "      return java.util.stream.StreamSupport.stream(spliterator(), true);\n" +
+         "   }\n" : "") +
+         "\n" +
          "   public void accept(" + Globals.visitorPackage + ".Visitor v);\n" +
          "   public <R,A> R accept(" + Globals.visitorPackage + ".GJVisitor<R,A> v, A argu);\n" +
          "   public <R> R accept(" + Globals.visitorPackage + ".GJNoArguVisitor<R> v);\n" +
@@ -133,6 +271,725 @@ class AutoClasses {
 		 "}\n";
    }
 
+   static String getNodeListenerClassStr() {
+      return
+         "package " + packageName + ";\n\n" +
+         "/**\n" +
+         " * Receives the nodes of the productions given to -emit as soon as\n" +
+         " * the parser has built them, children before their parents, while\n" +
+         " * the rest of the input is still being parsed.  The listener is\n" +
+         " * called on the parsing thread; it may hand the nodes over to other\n" +
+         " * threads, e.g. through a BlockingQueue, but must not modify them.\n" +
+         " * It is set per thread, so that static and non-static parsers both\n" +
+         " * work, and several parsers may run at once.  With -pp, the parent\n" +
+         " * of a node is only set when the parent itself is built.\n" +
+         " */\n" +
+         "public interface NodeListener {\n" +
+         "   public static final ThreadLocal<NodeListener> listener =\n" +
+         "      new ThreadLocal<NodeListener>();\n\n" +
+         "   public void nodeParsed(Node n);\n" +
+         "}\n";
+   }
+
+   //
+   // NodeSpliterator goes down the tree with a GJVoidVisitor pushing the
+   // children of each class, so it needs the class list.
+   //
+   static String getNodeSpliteratorClassStr(Vector classList) {
+      StringBuffer buf = new StringBuffer(
+         "package " + packageName + ";\n\n" +
+         "import java.util.*;\n" +
+         "import java.util.function.Consumer;\n\n" +
+         "/**\n" +
+         " * Goes through the nodes of a subtree, the root first, in depth-first\n" +
+         " * order, as Node.descendants() does.  It splits on subtree boundaries:\n" +
+         " * the nodes still to go are kept as a stack of whole subtrees, and a\n" +
+         " * split hands over the first half of them.  When only one subtree is\n" +
+         " * left, its root is kept alone and its children become the subtrees.\n" +
+         " * A NodeChoice is gone through, and then its choice.\n" +
+         " *\n" +
+         " * The number of nodes is not known in advance, so the estimated size\n" +
+         " * is only halved at each split, as with an iterator; a parallel stream\n" +
+         " * then splits the tree a few times per thread.\n" +
+         " */\n" +
+         "public class NodeSpliterator implements Spliterator<Node> {\n" +
+         "   private static final Pusher pusher = new Pusher();\n\n" +
+         "   private Node first;                        // gone through without its children\n" +
+         "   private ArrayList<Node> stack = new ArrayList<Node>();   // next at the end\n" +
+         "   private long estimate;\n\n" +
+         "   public NodeSpliterator(Node root) {\n" +
+         "      stack.add(root);\n" +
+         "      estimate = Long.MAX_VALUE;\n" +
+         "   }\n\n" +
+         "   private NodeSpliterator(long estimate) {\n" +
+         "      this.estimate = estimate;\n" +
+         "   }\n\n" +
+         "   private void pushChildren(Node n) {\n" +
+         "      if ( n instanceof NodeChoice )\n" +
+         "         stack.add(((NodeChoice)n).choice);\n" +
+         "      else\n" +
+         "         n.accept(pusher, stack);\n" +
+         "   }\n\n" +
+         "   public boolean tryAdvance(Consumer<? super Node> action) {\n" +
+         "      Node n;\n\n" +
+         "      if ( first != null ) {\n" +
+         "         n = first;\n" +
+         "         first = null;\n" +
+         "      }\n" +
+         "      else if ( stack.isEmpty() )\n" +
+         "         return false;\n" +
+         "      else {\n" +
+         "         n = stack.remove(stack.size() - 1);\n" +
+         "         pushChildren(n);\n" +
+         "      }\n\n" +
+         "      action.accept(n);\n" +
+         "      return true;\n" +
+         "   }\n\n" +
+         "   public Spliterator<Node> trySplit() {\n" +
+         "      if ( first == null && stack.size() == 1 ) {\n" +
+         "         first = stack.remove(0);\n" +
+         "         pushChildren(first);\n" +
+         "      }\n\n" +
+         "      int count = stack.size() + (first != null ? 1 : 0);\n" +
+         "      if ( count < 2 )\n" +
+         "         return null;\n\n" +
+         "      estimate >>>= 1;\n" +
+         "      NodeSpliterator prefix = new NodeSpliterator(estimate);\n" +
+         "      int take = count / 2;\n\n" +
+         "      if ( first != null ) {\n" +
+         "         prefix.first = first;\n" +
+         "         first = null;\n" +
+         "         --take;\n" +
+         "      }\n\n" +
+         "      List<Node> top = stack.subList(stack.size() - take, stack.size());\n" +
+         "      prefix.stack.addAll(top);\n" +
+         "      top.clear();\n" +
+         "      return prefix;\n" +
+         "   }\n\n" +
+         "   public long estimateSize() { return estimate; }\n\n" +
+         "   public int characteristics() { return ORDERED | NONNULL; }\n\n" +
+         "   //\n" +
+         "   // Pushes the children of a node on the stack, the last one first.\n" +
+         "   //\n" +
+         "   static class Pusher implements " + Globals.visitorPackage + "." +
+            Globals.GJVoidVisitorName + "<ArrayList<Node>> {\n" +
+         "      private void pushAll(NodeListInterface n, ArrayList<Node> stack) {\n" +
+         "         for ( int i = n.size() - 1; i >= 0; --i )\n" +
+         "            stack.add(n.elementAt(i));\n" +
+         "      }\n\n" +
+         "      public void visit(NodeList n, ArrayList<Node> stack)         { pushAll(n, stack); }\n" +
+         "      public void visit(NodeListOptional n, ArrayList<Node> stack) { pushAll(n, stack); }\n" +
+         "      public void visit(NodeSequence n, ArrayList<Node> stack)     { pushAll(n, stack); }\n" +
+         "      public void visit(NodeOptional n, ArrayList<Node> stack) {\n" +
+         "         if ( n.present() )\n" +
+         "            stack.add(n.node);\n" +
+         "      }\n" +
+         "      public void visit(NodeToken n, ArrayList<Node> stack)        { }\n");
+
+      for ( Enumeration e = classList.elements(); e.hasMoreElements(); ) {
+         ClassInfo cur = (ClassInfo)e.nextElement();
+         Vector names = cur.getNameList();
+
+         buf.append("\n      public void visit(" + cur.getName() +
+                    " n, ArrayList<Node> stack) {\n");
+         for ( int i = names.size() - 1; i >= 0; --i )
+            buf.append("         stack.add(n." + (String)names.elementAt(i) + ");\n");
+         buf.append("      }\n");
+      }
+
+      buf.append(
+         "   }\n" +
+         "}\n");
+      return buf.toString();
+   }
+
+   //
+   // NodeIndex has a class id for each class of the class list, named as
+   // the Annotator names them.  The ids are the kinds of NodeKind and FlatTree:
+   // those of the automatic classes come first, though they are not recorded.
+   //
+   static String getNodeIndexClassStr(Vector classList) {
+      KindNames ids = KindNames.withAutoClasses();
+      StringBuffer buf = new StringBuffer(
+         "package " + packageName + ";\n\n" +
+         "import java.util.*;\n" +
+         "import java.util.stream.*;\n\n" +
+         "/**\n" +
+         " * The nodes built by the parser, by class, so that all the nodes of a\n" +
+         " * class are found without going through the tree.  Call begin() before\n" +
+         " * parsing: the parser then records each node it builds on this thread,\n" +
+         " * under the id of its class, into an array growing as needed.  The id\n" +
+         " * of a class is its kind, as in NodeKind and FlatTree.  The nodes of a\n" +
+         " * class are kept in the order the parser finished them, so a node comes\n" +
+         " * after the nodes of its subtree.  Only the nodes of the grammar classes\n" +
+         " * are recorded, not the automatic ones.\n" +
+         " *\n" +
+         " * Once end() has returned, the index does not change any more, and\n" +
+         " * several threads may query it at once, e.g. through parallelStream().\n" +
+         " */\n" +
+         "public class NodeIndex {\n");
+
+      for ( Enumeration e = classList.elements(); e.hasMoreElements(); )
+         buf.append("   public static final int " +
+                    ids.add(((ClassInfo)e.nextElement()).getName()) + " = " +
+                    (ids.size() - 1) + ";\n");
+
+      buf.append(
+         "\n   public static final String[] classNames = {\n");
+      for ( int i = 0; i < KindNames.autoClasses.length; ++i )
+         buf.append("      \"" + KindNames.autoClasses[i] + "\",\n");
+      for ( int i = 0; i < classList.size(); ++i )
+         buf.append("      \"" + ((ClassInfo)classList.elementAt(i)).getName() +
+                    "\"" + (i + 1 < classList.size() ? "," : "") + "\n");
+      buf.append(
+         "   };\n\n" +
+         "   private static final ThreadLocal<NodeIndex> current =\n" +
+         "      new ThreadLocal<NodeIndex>();\n\n" +
+         "   private Node[][] nodes = new Node[classNames.length][];\n" +
+         "   private int[] counts = new int[classNames.length];\n\n" +
+         "   /**\n" +
+         "    * Returns a new index, into which the nodes the parser builds on this\n" +
+         "    * thread are recorded until end() is called.\n" +
+         "    */\n" +
+         "   public static NodeIndex begin() {\n" +
+         "      NodeIndex index = new NodeIndex();\n" +
+         "      current.set(index);\n" +
+         "      return index;\n" +
+         "   }\n\n" +
+         "   /**\n" +
+         "    * Stops recording the nodes into this index.\n" +
+         "    */\n" +
+         "   public void end() {\n" +
+         "      if ( current.get() == this )\n" +
+         "         current.remove();\n\n" +
+         "      for ( int id = 0; id < nodes.length; ++id )\n" +
+         "         if ( nodes[id] != null && nodes[id].length != counts[id] )\n" +
+         "            nodes[id] = Arrays.copyOf(nodes[id], counts[id]);\n" +
+         "   }\n\n" +
+         "   //\n" +
+         "   // Called by the parser for each node it builds\n" +
+         "   //\n" +
+         "   public static Node record(Node n, int id) {\n" +
+         "      NodeIndex index = current.get();\n\n" +
+         "      if ( index != null ) {\n" +
+         "         Node[] a = index.nodes[id];\n" +
+         "         int count = index.counts[id];\n\n" +
+         "         if ( a == null )\n" +
+         "            a = index.nodes[id] = new Node[8];\n" +
+         "         else if ( count == a.length )\n" +
+         "            a = index.nodes[id] = Arrays.copyOf(a, 2 * count);\n" +
+         "         a[count] = n;\n" +
+         "         index.counts[id] = count + 1;\n" +
+         "      }\n" +
+         "      return n;\n" +
+         "   }\n\n" +
+         "   public int count(int id) { return counts[id]; }\n\n" +
+         "   public Node get(int id, int i) {\n" +
+         "      if ( i < 0 || i >= counts[id] )\n" +
+         "         throw new IndexOutOfBoundsException(\"\" + i);\n" +
+         "      return nodes[id][i];\n" +
+         "   }\n\n" +
+         "   public List<Node> all(int id) {\n" +
+         "      if ( counts[id] == 0 )\n" +
+         "         return Collections.emptyList();\n" +
+         "      return Collections.unmodifiableList(\n" +
+         "         Arrays.asList(nodes[id]).subList(0, counts[id]));\n" +
+         "   }\n\n" +
+         "   public Spliterator<Node> spliterator(int id) {\n" +
+         "      if ( counts[id] == 0 )\n" +
+         "         return Spliterators.emptySpliterator();\n" +
+         "      return Spliterators.spliterator(nodes[id], 0, counts[id],\n" +
+         "         Spliterator.IMMUTABLE | Spliterator.ORDERED | Spliterator.NONNULL);\n" +
+         "   }\n\n" +
+         "   public Stream<Node> stream(int id) {\n" +
+         "      return StreamSupport.stream(spliterator(id), false);\n" +
+         "   }\n\n" +
+         "   public Stream<Node> parallelStream(int id) {\n" +
+         "      return StreamSupport.stream(spliterator(id), true);\n" +
+         "   }\n" +
+         "}\n");
+      return buf.toString();
+   }
+
+   //
+   // NodeWriter and NodeReader number the node types as follows: 0 for null,
+   // 1 to 6 for NodeList, NodeListOptional, NodeOptional, NodeSequence,
+   // NodeToken and NodeChoice, then the classes of the class list from 7.
+   //
+   private static final int firstBinaryClass = 7;
+
+   // A hash of the classes and their fields, written in the header so that
+   // a tree is only read back by the classes it was written from.
+   static int binaryGrammarHash(Vector classList) {
+      StringBuffer buf = new StringBuffer(Globals.keepSpecialTokens ? "tk" : "");
+
+      for ( Enumeration e = classList.elements(); e.hasMoreElements(); ) {
+         ClassInfo cur = (ClassInfo)e.nextElement();
+         buf.append(" " + cur.getName() + cur.getTypeList());
+      }
+      return buf.toString().hashCode();
+   }
+
+   static String getNodeWriterClassStr(Vector classList) {
+      StringBuffer buf = new StringBuffer(
+         "package " + packageName + ";\n\n" +
+         "import java.io.*;\n" +
+         "import java.nio.charset.StandardCharsets;\n" +
+         "import java.util.*;\n\n" +
+         "/**\n" +
+         " * Writes a syntax tree in a compact binary form, read back by\n" +
+         " * NodeReader much faster than the source is parsed again.\n" +
+         " *\n" +
+         " * After a header, the nodes follow in depth-first order, each one a type\n" +
+         " * number followed by its children; a list gives its size first.  The\n" +
+         " * numbers are written as varints, the positions of a token relative to\n" +
+         " * the previous one, and an image only the first time, later tokens with\n" +
+         " * the same image giving its number.\n" +
+         " */\n" +
+         "public class NodeWriter implements " + Globals.visitorPackage + ".Visitor {\n" +
+         "   static final int MAGIC = 0x4a544254;         // \"JTBT\"\n" +
+         "   static final int VERSION = 1;\n" +
+         "   static final int GRAMMAR = " + binaryGrammarHash(classList) + ";\n\n" +
+         "   private byte[] bytes = new byte[8192];\n" +
+         "   private int length;\n" +
+         "   private HashMap<String,Integer> images = new HashMap<String,Integer>();\n" +
+         "   private int line;                           // of the previous token\n\n" +
+         "   private NodeWriter() { }\n\n" +
+         "   public static byte[] toBytes(Node root) {\n" +
+         "      NodeWriter w = new NodeWriter();\n\n" +
+         "      w.writeInt(MAGIC);\n" +
+         "      w.writeVarint(VERSION);\n" +
+         "      w.writeInt(GRAMMAR);\n" +
+         "      w.node(root);\n" +
+         "      return Arrays.copyOf(w.bytes, w.length);\n" +
+         "   }\n\n" +
+         "   public static void write(Node root, OutputStream out) throws IOException {\n" +
+         "      out.write(toBytes(root));\n" +
+         "      out.flush();\n" +
+         "   }\n\n" +
+         "   public static void write(Node root, File file) throws IOException {\n" +
+         "      OutputStream out = new FileOutputStream(file);\n" +
+         "      try { write(root, out); }\n" +
+         "      finally { out.close(); }\n" +
+         "   }\n\n" +
+         "   private void ensure(int n) {\n" +
+         "      if ( length + n > bytes.length )\n" +
+         "         bytes = Arrays.copyOf(bytes, Math.max(2 * bytes.length, length + n));\n" +
+         "   }\n\n" +
+         "   private void writeInt(int i) {\n" +
+         "      ensure(4);\n" +
+         "      bytes[length++] = (byte)(i >>> 24);\n" +
+         "      bytes[length++] = (byte)(i >>> 16);\n" +
+         "      bytes[length++] = (byte)(i >>> 8);\n" +
+         "      bytes[length++] = (byte)i;\n" +
+         "   }\n\n" +
+         "   private void writeVarint(int i) {\n" +
+         "      ensure(5);\n" +
+         "      while ( (i & ~0x7f) != 0 ) {\n" +
+         "         bytes[length++] = (byte)(i & 0x7f | 0x80);\n" +
+         "         i >>>= 7;\n" +
+         "      }\n" +
+         "      bytes[length++] = (byte)i;\n" +
+         "   }\n\n" +
+         "   // a small negative number as a small varint\n" +
+         "   private void writeSigned(int i) {\n" +
+         "      writeVarint(i << 1 ^ i >> 31);\n" +
+         "   }\n\n" +
+         "   private void node(Node n) {\n" +
+         "      if ( n == null )\n" +
+         "         writeVarint(0);\n" +
+         "      else if ( n instanceof NodeChoice ) {\n" +
+         "         NodeChoice c = (NodeChoice)n;\n\n" +
+         "         writeVarint(6);\n" +
+         "         writeVarint(c.which + 1);\n" +
+         "         node(c.choice);\n" +
+         "      }\n" +
+         "      else\n" +
+         "         n.accept(this);\n" +
+         "   }\n\n" +
+         "   private void nodes(NodeListInterface n) {\n" +
+         "      writeVarint(n.size());\n" +
+         "      for ( int i = 0; i < n.size(); ++i )\n" +
+         "         node(n.elementAt(i));\n" +
+         "   }\n\n" +
+         "   private void token(NodeToken n) {\n" +
+         "      Integer image = images.get(n.tokenImage);\n\n" +
+         "      if ( image != null )\n" +
+         "         writeVarint(image.intValue() + 1);\n" +
+         "      else {\n" +
+         "         byte[] utf8 = n.tokenImage.getBytes(StandardCharsets.UTF_8);\n\n" +
+         "         images.put(n.tokenImage, images.size());\n" +
+         "         writeVarint(0);\n" +
+         "         writeVarint(utf8.length);\n" +
+         "         ensure(utf8.length);\n" +
+         "         System.arraycopy(utf8, 0, bytes, length, utf8.length);\n" +
+         "         length += utf8.length;\n" +
+         "      }\n\n" +
+         "      int beginLine = " + Globals.tokenGet("n", "beginLine") + ";\n\n" +
+         "      writeVarint(n.kind + 1);\n" +
+         "      writeSigned(beginLine - line);\n" +
+         "      writeVarint(" + Globals.tokenGet("n", "beginColumn") + " + 1);\n" +
+         "      writeSigned(" + Globals.tokenGet("n", "endLine") + " - beginLine);\n" +
+         "      writeVarint(" + Globals.tokenGet("n", "endColumn") + " + 1);\n" +
+         "      line = beginLine;\n" +
+         (Globals.keepSpecialTokens ?
+         "\n      writeVarint(n.numSpecials());\n" +
+         "      for ( int i = 0; i < n.numSpecials(); ++i )\n" +
+         "         token(n.getSpecialAt(i));\n" : "") +
+         "   }\n\n" +
+         "   public void visit(NodeList n) {\n" +
+         "      writeVarint(1);\n" +
+         "      nodes(n);\n" +
+         "   }\n\n" +
+         "   public void visit(NodeListOptional n) {\n" +
+         "      writeVarint(2);\n" +
+         "      nodes(n);\n" +
+         "   }\n\n" +
+         "   public void visit(NodeOptional n) {\n" +
+         "      writeVarint(3);\n" +
+         "      writeVarint(n.present() ? 1 : 0);\n" +
+         "      if ( n.present() )\n" +
+         "         node(n.node);\n" +
+         "   }\n\n" +
+         "   public void visit(NodeSequence n) {\n" +
+         "      writeVarint(4);\n" +
+         "      nodes(n);\n" +
+         "   }\n\n" +
+         "   public void visit(NodeToken n) {\n" +
+         "      writeVarint(5);\n" +
+         "      token(n);\n" +
+         "   }\n");
+
+      int type = firstBinaryClass;
+      for ( Enumeration e = classList.elements(); e.hasMoreElements(); ++type ) {
+         ClassInfo cur = (ClassInfo)e.nextElement();
+
+         buf.append("\n   public void visit(" + cur.getName() + " n) {\n" +
+                    "      writeVarint(" + type + ");\n");
+         for ( Enumeration f = cur.getNameList().elements(); f.hasMoreElements(); )
+            buf.append("      node(n." + (String)f.nextElement() + ");\n");
+         buf.append("   }\n");
+      }
+
+      buf.append("}\n");
+      return buf.toString();
+   }
+
+   static String getNodeReaderClassStr(Vector classList) {
+      StringBuffer buf = new StringBuffer(
+         "package " + packageName + ";\n\n" +
+         "import java.io.*;\n" +
+         "import java.nio.*;\n" +
+         "import java.nio.channels.FileChannel;\n" +
+         "import java.nio.charset.StandardCharsets;\n" +
+         "import java.util.*;\n\n" +
+         "/**\n" +
+         " * Reads back a syntax tree written by NodeWriter, from a ByteBuffer, e.g.\n" +
+         " * a file mapped into memory by read(File).  The nodes are built through\n" +
+         " * their constructors and addNode(), as the parser builds them.\n" +
+         " */\n" +
+         "public class NodeReader {\n" +
+         "   private ByteBuffer in;\n" +
+         "   private ArrayList<String> images = new ArrayList<String>();\n" +
+         "   private int line;                           // of the previous token\n\n" +
+         "   private NodeReader(ByteBuffer in) {\n" +
+         "      this.in = in;\n" +
+         "   }\n\n" +
+         "   public static Node read(ByteBuffer in) throws IOException {\n" +
+         "      NodeReader r = new NodeReader(in.order(ByteOrder.BIG_ENDIAN));\n\n" +
+         "      try {\n" +
+         "         if ( in.getInt() != NodeWriter.MAGIC )\n" +
+         "            throw new StreamCorruptedException(\"not a syntax tree\");\n" +
+         "         if ( r.readVarint() != NodeWriter.VERSION || in.getInt() != NodeWriter.GRAMMAR )\n" +
+         "            throw new InvalidClassException(\"the tree was written by other node classes\");\n" +
+         "         return r.node();\n" +
+         "      }\n" +
+         "      catch (BufferUnderflowException e) {\n" +
+         "         throw new EOFException(\"truncated syntax tree\");\n" +
+         "      }\n" +
+         "   }\n\n" +
+         "   public static Node read(byte[] bytes) throws IOException {\n" +
+         "      return read(ByteBuffer.wrap(bytes));\n" +
+         "   }\n\n" +
+         "   public static Node read(File file) throws IOException {\n" +
+         "      FileChannel channel = new FileInputStream(file).getChannel();\n\n" +
+         "      try {\n" +
+         "         return read(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));\n" +
+         "      }\n" +
+         "      finally {\n" +
+         "         channel.close();\n" +
+         "      }\n" +
+         "   }\n\n" +
+         "   private int readVarint() throws IOException {\n" +
+         "      int i = 0;\n\n" +
+         "      for ( int shift = 0; shift < 35; shift += 7 ) {\n" +
+         "         byte b = in.get();\n\n" +
+         "         i |= (b & 0x7f) << shift;\n" +
+         "         if ( b >= 0 )\n" +
+         "            return i;\n" +
+         "      }\n" +
+         "      throw new StreamCorruptedException(\"bad varint\");\n" +
+         "   }\n\n" +
+         "   private int readSigned() throws IOException {\n" +
+         "      int i = readVarint();\n" +
+         "      return i >>> 1 ^ -(i & 1);\n" +
+         "   }\n\n" +
+         "   private NodeToken token() throws IOException {\n" +
+         "      int image = readVarint();\n\n" +
+         "      if ( image == 0 ) {\n" +
+         "         int length = readVarint();\n" +
+         "         byte[] utf8 = new byte[length];\n\n" +
+         "         in.get(utf8);\n" +
+         "         images.add(new String(utf8, StandardCharsets.UTF_8).intern());\n" +
+         "         image = images.size();\n" +
+         "      }\n" +
+         "      else if ( image > images.size() )\n" +
+         "         throw new StreamCorruptedException(\"bad image \" + image);\n\n" +
+         "      int kind = readVarint() - 1;\n" +
+         "      int beginLine = line + readSigned();\n" +
+         "      int beginColumn = readVarint() - 1;\n" +
+         "      int endLine = beginLine + readSigned();\n" +
+         "      int endColumn = readVarint() - 1;\n" +
+         "      NodeToken n = new NodeToken(images.get(image - 1), kind,\n" +
+         "                                  beginLine, beginColumn, endLine, endColumn);\n\n" +
+         "      line = beginLine;\n" +
+         (Globals.keepSpecialTokens ?
+         "      for ( int i = readVarint(); i > 0; --i )\n" +
+         "         n.addSpecial(token());\n" +
+         "      n.trimSpecials();\n" : "") +
+         "      return n;\n" +
+         "   }\n\n" +
+         "   private Node node() throws IOException {\n" +
+         "      int type = readVarint();\n\n" +
+         "      switch ( type ) {\n" +
+         "         case 0:\n" +
+         "            return null;\n" +
+         "         case 1: {\n" +
+         "            NodeList n = new NodeList();\n" +
+         "            for ( int i = readVarint(); i > 0; --i )\n" +
+         "               n.addNode(node());\n" +
+         "            return n;\n" +
+         "         }\n" +
+         "         case 2: {\n" +
+         "            int size = readVarint();\n" +
+         (Globals.shareEmpty ?
+         "            if ( size == 0 )\n" +
+         "               return NodeListOptional.EMPTY;\n" : "") +
+         "            NodeListOptional n = new NodeListOptional();\n" +
+         "            for ( int i = size; i > 0; --i )\n" +
+         "               n.addNode(node());\n" +
+         "            return n;\n" +
+         "         }\n" +
+         "         case 3:\n" +
+         "            if ( readVarint() != 0 )\n" +
+         "               return new NodeOptional(node());\n" +
+         "            return " + (Globals.shareEmpty ? "NodeOptional.EMPTY" : "new NodeOptional()") + ";\n" +
+         "         case 4: {\n" +
+         "            int size = readVarint();\n" +
+         "            NodeSequence n = new NodeSequence(size);\n" +
+         "            for ( int i = size; i > 0; --i )\n" +
+         "               n.addNode(node());\n" +
+         "            return n;\n" +
+         "         }\n" +
+         "         case 5:\n" +
+         "            return token();\n" +
+         "         case 6: {\n" +
+         "            int which = readVarint() - 1;\n" +
+         "            return new NodeChoice(node(), which);\n" +
+         "         }\n");
+
+      int type = firstBinaryClass;
+      for ( Enumeration e = classList.elements(); e.hasMoreElements(); ++type ) {
+         ClassInfo cur = (ClassInfo)e.nextElement();
+
+         buf.append("         case " + type + ":\n" +
+                    "            return new " + cur.getName() + "(");
+         for ( Enumeration t = cur.getTypeList().elements(); t.hasMoreElements(); ) {
+            buf.append("(" + (String)t.nextElement() + ")node()");
+            if ( t.hasMoreElements() )
+               buf.append(", ");
+         }
+         buf.append(");\n");
+      }
+
+      buf.append(
+         "         default:\n" +
+         "            throw new StreamCorruptedException(\"bad node type \" + type);\n" +
+         "      }\n" +
+         "   }\n" +
+         "}\n");
+      return buf.toString();
+   }
+
+   static String getNodeCacheClassStr() {
+      return
+         "package " + packageName + ";\n\n" +
+         "import java.io.*;\n" +
+         "import java.nio.file.*;\n" +
+         "import java.security.*;\n" +
+         "import java.util.*;\n" +
+         "import java.util.concurrent.atomic.AtomicLong;\n\n" +
+         "/**\n" +
+         " * Keeps the syntax trees of the parsed sources in a directory, as\n" +
+         " * NodeWriter writes them, under the SHA-256 of the source, so that a\n" +
+         " * source parsed before is read back instead of parsed again.\n" +
+         " *\n" +
+         " * Several processes may share the directory: a tree is written to a\n" +
+         " * temporary file which is then renamed, so a tree is either complete or\n" +
+         " * not there.  A tree which cannot be read, e.g. because it was written\n" +
+         " * by other node classes, is parsed again.  When the trees take more\n" +
+         " * than the given size, the least recently used ones are removed, down\n" +
+         " * to three quarters of it; reading a tree updates its modification\n" +
+         " * time.  The cache only speeds up the parsing: when a tree cannot be\n" +
+         " * stored, the source is still parsed.\n" +
+         " */\n" +
+         "public class NodeCache {\n" +
+         "   public interface Parser<E extends Exception> {\n" +
+         "      public Node parse(InputStream in) throws E;\n" +
+         "   }\n\n" +
+         "   private static final String SUFFIX = \".tree\";\n" +
+         "   private static final String TEMP_SUFFIX = \".tmp\";\n" +
+         "   private static final long STALE_TEMP = 24 * 60 * 60 * 1000L;\n\n" +
+         "   private final File dir;\n" +
+         "   private final long maxBytes;\n" +
+         "   private final AtomicLong bytes = new AtomicLong(); // as of the last scan, plus the stored trees\n\n" +
+         "   public NodeCache(File dir, long maxBytes) throws IOException {\n" +
+         "      if ( !dir.mkdirs() && !dir.isDirectory() )\n" +
+         "         throw new IOException(\"Cannot create \" + dir);\n\n" +
+         "      this.dir = dir;\n" +
+         "      this.maxBytes = maxBytes;\n" +
+         "      evict();\n" +
+         "   }\n\n" +
+         "   public <E extends Exception> Node parse(File source, Parser<E> parser)\n" +
+         "   throws IOException, E {\n" +
+         "      return parse(Files.readAllBytes(source.toPath()), parser);\n" +
+         "   }\n\n" +
+         "   public <E extends Exception> Node parse(byte[] source, Parser<E> parser)\n" +
+         "   throws IOException, E {\n" +
+         "      File entry = new File(dir, key(source) + SUFFIX);\n\n" +
+         "      if ( entry.isFile() ) {\n" +
+         "         try {\n" +
+         "            Node root = NodeReader.read(entry);\n\n" +
+         "            entry.setLastModified(System.currentTimeMillis());\n" +
+         "            return root;\n" +
+         "         }\n" +
+         "         catch (IOException e) { }      // removed meanwhile, or not readable\n" +
+         "         catch (RuntimeException e) { }\n" +
+         "      }\n\n" +
+         "      Node root = parser.parse(new ByteArrayInputStream(source));\n\n" +
+         "      try { store(entry, NodeWriter.toBytes(root)); }\n" +
+         "      catch (IOException e) { }\n" +
+         "      return root;\n" +
+         "   }\n\n" +
+         "   // the SHA-256 of the source and of the format of the trees, in hex\n" +
+         "   private static String key(byte[] source) {\n" +
+         "      try {\n" +
+         "         MessageDigest digest = MessageDigest.getInstance(\"SHA-256\");\n\n" +
+         "         digest.update((NodeWriter.VERSION + \" \" + NodeWriter.GRAMMAR + \"\\n\").getBytes(\"UTF-8\"));\n" +
+         "         byte[] hash = digest.digest(source);\n" +
+         "         StringBuffer buf = new StringBuffer(2 * hash.length);\n\n" +
+         "         for ( int i = 0; i < hash.length; ++i ) {\n" +
+         "            buf.append(Character.forDigit(hash[i] >> 4 & 0xf, 16));\n" +
+         "            buf.append(Character.forDigit(hash[i] & 0xf, 16));\n" +
+         "         }\n" +
+         "         return buf.toString();\n" +
+         "      }\n" +
+         "      catch (GeneralSecurityException e) {\n" +
+         "         throw new IllegalStateException(e);\n" +
+         "      }\n" +
+         "      catch (UnsupportedEncodingException e) {\n" +
+         "         throw new IllegalStateException(e);\n" +
+         "      }\n" +
+         "   }\n\n" +
+         "   private void store(File entry, byte[] tree) throws IOException {\n" +
+         "      Path temp = Files.createTempFile(dir.toPath(), entry.getName(), TEMP_SUFFIX);\n\n" +
+         "      try {\n" +
+         "         Files.write(temp, tree);\n" +
+         "         try {\n" +
+         "            Files.move(temp, entry.toPath(), StandardCopyOption.ATOMIC_MOVE);\n" +
+         "         }\n" +
+         "         catch (AtomicMoveNotSupportedException e) {\n" +
+         "            Files.move(temp, entry.toPath(), StandardCopyOption.REPLACE_EXISTING);\n" +
+         "         }\n" +
+         "      }\n" +
+         "      finally {\n" +
+         "         Files.deleteIfExists(temp);\n" +
+         "      }\n\n" +
+         "      if ( bytes.addAndGet(tree.length) > maxBytes )\n" +
+         "         evict();\n" +
+         "   }\n\n" +
+         "   private static class Entry {\n" +
+         "      File file;\n" +
+         "      long time, length;\n" +
+         "   }\n\n" +
+         "   //\n" +
+         "   // Adds up the size of the trees, as other processes may have stored\n" +
+         "   // some, and if it is too much, removes the least recently used ones.\n" +
+         "   // Also removes the temporary files left by processes which died.\n" +
+         "   //\n" +
+         "   private synchronized void evict() {\n" +
+         "      File[] files = dir.listFiles();\n" +
+         "      ArrayList<Entry> entries = new ArrayList<Entry>();\n" +
+         "      long size = 0, now = System.currentTimeMillis();\n\n" +
+         "      if ( files == null )\n" +
+         "         return;\n\n" +
+         "      for ( int i = 0; i < files.length; ++i ) {\n" +
+         "         Entry e = new Entry();\n\n" +
+         "         e.file = files[i];\n" +
+         "         e.time = files[i].lastModified();\n" +
+         "         e.length = files[i].length();\n" +
+         "         if ( e.file.getName().endsWith(SUFFIX) ) {\n" +
+         "            entries.add(e);\n" +
+         "            size += e.length;\n" +
+         "         }\n" +
+         "         else if ( e.file.getName().endsWith(TEMP_SUFFIX) && now - e.time > STALE_TEMP )\n" +
+         "            e.file.delete();\n" +
+         "      }\n\n" +
+         "      if ( size > maxBytes ) {\n" +
+         "         Collections.sort(entries, new Comparator<Entry>() {\n" +
+         "            public int compare(Entry a, Entry b) {\n" +
+         "               return a.time < b.time ? -1 : a.time == b.time ? 0 : 1;\n" +
+         "            }\n" +
+         "         });\n\n" +
+         "         for ( int i = 0; i < entries.size() && size > maxBytes / 4 * 3; ++i )\n" +
+         "            if ( entries.get(i).file.delete() )\n" +
+         "               size -= entries.get(i).length;\n" +
+         "      }\n\n" +
+         "      bytes.set(size);\n" +
+         "   }\n" +
+         "}\n";
+   }
+
+   static String getNodeKindClassStr(Vector classList) {
+      KindNames kinds = KindNames.withAutoClasses();
+      StringBuffer buf = new StringBuffer(
+         "package " + packageName + ";\n\n" +
+         "/**\n" +
+         " * The kinds of the node classes, returned by Node.nodeKind(): first\n" +
+         " * those of the automatic classes, then those of the grammar classes,\n" +
+         " * numbered in the order of the productions.\n" +
+         " */\n" +
+         "public class NodeKind {\n");
+
+      for ( int i = 0; i < kinds.size(); ++i )
+         buf.append("   public static final int " + kinds.get(i) + " = " + i + ";\n");
+      for ( int i = 0; i < classList.size(); ++i )
+         buf.append("   public static final int " +
+                    ((ClassInfo)classList.elementAt(i)).getKindName() + " = " +
+                    (kinds.size() + i) + ";\n");
+
+      buf.append("\n   public static final String[] names = {\n");
+      for ( int i = 0; i < KindNames.autoClasses.length; ++i )
+         buf.append("      \"" + KindNames.autoClasses[i] + "\",\n");
+      for ( int i = 0; i < classList.size(); ++i )
+         buf.append("      \"" + ((ClassInfo)classList.elementAt(i)).getName() +
+                    "\"" + (i + 1 < classList.size() ? "," : "") + "\n");
+      buf.append(
+         "   };\n" +
+         "}\n");
+      return buf.toString();
+   }
+
    static String getNodeChoiceClassStr() {
       return 
          "package " + packageName + ";\n\n" +
@@ -149,6 +1006,7 @@ class AutoClasses {
          "   public NodeChoice(Node node, int whichChoice) {\n" +
          "      choice = node;\n" +
          (Globals.parentPointers ? "      choice.setParent(this);\n" : "") +
+         addSubtreeSize("choice") +
          "      which = whichChoice;\n" +
          "   }\n\n" +
          "   public void accept(" + Globals.visitorPackage + ".Visitor v) {\n" +
@@ -181,6 +1039,8 @@ class AutoClasses {
 		 "     return choice.accept(v, argu, parallel);\n" +
 		 "   }\n" +
          parentPointerCode() +
+         nodeKindCode("NODE_CHOICE") +
+         subtreeSizeCode() +
          "   public Node choice;\n" +
          "   public int which;\n" +
          "}\n";
@@ -198,18 +1058,21 @@ class AutoClasses {
             " extends " + Globals.nodeSuperclass : "") +
             " implements NodeListInterface {\n" +
          "   public NodeList() {\n" +
-         "      nodes = new Vector<Node>();\n" +
+         "      nodes = new " + listClass() + "<Node>();\n" +
          "   }\n\n" +
          "   public NodeList(Node firstNode) {\n" +
-         "      nodes = new Vector<Node>();\n" +
+         "      nodes = new " + listClass() + "<Node>();\n" +
          "      addNode(firstNode);\n" +
          "   }\n\n" +
          "   public void addNode(Node n) {\n" +
-         "      nodes.addElement(n);\n" +
+         "      nodes." + listAdd() + "(n);\n" +
          (Globals.parentPointers ? "      n.setParent(this);\n" : "") +
+         addSubtreeSize("n") +
          "   }\n\n" +
-         "   public Enumeration<Node> elements() { return nodes.elements(); }\n" +
-         "   public Node elementAt(int i)  { return nodes.elementAt(i); }\n"+
+         "   public Enumeration<Node> elements() { return " + listElements("nodes") + "; }\n" +
+         "   public Node elementAt(int i)  { return nodes." + listGet() + "(i); }\n"+
+         listViewCode() +
+         spliteratorCode() +
          "   public int size()             { return nodes.size(); }\n" +
          "   public void accept(" + Globals.visitorPackage + ".Visitor v) {\n" +
          "      v.visit(this);\n" +
@@ -238,20 +1101,16 @@ class AutoClasses {
 		 "   }\n" +
 		 "   public <R> R accept(final " + Globals.visitorPackage + "." + IITGlobals.GJNoArguThreadedVisitorName +
 		 		"<R> v, boolean parallel) {\n" +
-		 "     if (parallel)\n" +
-		 "       v.addTask(new Runnable() { public void run() {v.visit(NodeList.this); v.taskEnd();}});\n" +
-		 "     else return v.visit(this);\n" +
-		 "     return null;\n" +
+		 getThreadedReturnAcceptBody("NodeList", false) +
 		 "   }\n" +
 		 "   public <R,A> R accept(final " + Globals.visitorPackage + "." + IITGlobals.GJThreadedVisitorName +
 		 		"<R,A> v,final  A argu, boolean parallel) {\n" +
-		 "     if (parallel)\n" +
-		 "       v.addTask(new Runnable() { public void run() {v.visit(NodeList.this, argu); v.taskEnd();}});\n" +
-		 "     else return v.visit(this, argu);\n" +
-		 "     return null;\n" +
+		 getThreadedReturnAcceptBody("NodeList", true) +
 		 "   }\n" +
         parentPointerCode() +
-         "   public Vector<Node> nodes;\n" +
+        nodeKindCode("NODE_LIST") +
+        subtreeSizeCode() +
+         "   public " + listClass() + "<Node> nodes;\n" +
          "}\n");
 
       return buf.toString();
@@ -268,19 +1127,25 @@ class AutoClasses {
             (Globals.nodeSuperclass != null ?
             " extends " + Globals.nodeSuperclass : "") +
             " implements NodeListInterface {\n" +
+         sharedEmptyCode("NodeListOptional") +
+         sharedEmptyListCode() +
          "   public NodeListOptional() {\n" +
-         "      nodes = new Vector<Node>();\n" +
+         "      nodes = new " + listClass() + "<Node>();\n" +
          "   }\n\n" +
          "   public NodeListOptional(Node firstNode) {\n" +
-         "      nodes = new Vector<Node>();\n" +
+         "      nodes = new " + listClass() + "<Node>();\n" +
          "      addNode(firstNode);\n" +
          "   }\n\n" +
          "   public void addNode(Node n) {\n" +
-         "      nodes.addElement(n);\n" +
+         sharedEmptyCheck("NodeListOptional") +
+         "      nodes." + listAdd() + "(n);\n" +
          (Globals.parentPointers ? "      n.setParent(this);\n" : "") +
+         addSubtreeSize("n") +
          "   }\n\n" +
-         "   public Enumeration<Node> elements() { return nodes.elements(); }\n" +
-         "   public Node elementAt(int i)  { return nodes.elementAt(i); }\n"+
+         "   public Enumeration<Node> elements() { return " + listElements("nodes") + "; }\n" +
+         "   public Node elementAt(int i)  { return nodes." + listGet() + "(i); }\n"+
+         listViewCode() +
+         spliteratorCode() +
          "   public int size()             { return nodes.size(); }\n" +
          "   public boolean present()      { return nodes.size() != 0; }\n" +
          "   public void accept(" + Globals.visitorPackage + ".Visitor v) {\n" +
@@ -310,20 +1175,16 @@ class AutoClasses {
 		 "   }\n" +
 		 "   public <R> R accept(final " + Globals.visitorPackage + "." + IITGlobals.GJNoArguThreadedVisitorName +
 	 		"<R> v, boolean parallel) {\n" +
-		 "     if (parallel)\n" +
-		 "       v.addTask(new Runnable() { public void run() {v.visit(NodeListOptional.this); v.taskEnd();}});\n" +
-		 "     else return v.visit(this);\n" +
-		 "     return null;\n" +
+		 getThreadedReturnAcceptBody("NodeListOptional", false) +
 		 "   }\n" +
 		 "   public <R,A> R accept(final " + Globals.visitorPackage + "." + IITGlobals.GJThreadedVisitorName +
 		 		"<R,A> v,final  A argu, boolean parallel) {\n" +
-		 "     if (parallel)\n" +
-		 "       v.addTask(new Runnable() { public void run() {v.visit(NodeListOptional.this, argu); v.taskEnd();}});\n" +
-		 "     else return v.visit(this, argu);\n" +
-		 "     return null;\n" +
+		 getThreadedReturnAcceptBody("NodeListOptional", true) +
 		 "   }\n" +
         parentPointerCode() +
-         "   public Vector<Node> nodes;\n" +
+        nodeKindCode("NODE_LIST_OPTIONAL") +
+        subtreeSizeCode() +
+         "   public " + listClass() + "<Node> nodes;\n" +
          "}\n");
 
       return buf.toString();
@@ -339,6 +1200,7 @@ class AutoClasses {
             (Globals.nodeSuperclass != null ?
             " extends " + Globals.nodeSuperclass : "") +
             " implements Node {\n" +
+         sharedEmptyCode("NodeOptional") +
          "   public NodeOptional() {\n" +
          "      node = null;\n" +
          "   }\n\n" +
@@ -346,10 +1208,12 @@ class AutoClasses {
          "      addNode(n);\n" +
          "   }\n\n" +
          "   public void addNode(Node n)  {\n" +
+         sharedEmptyCheck("NodeOptional") +
          "      if ( node != null)                // Oh oh!\n" +
          "         throw new Error(\"Attempt to set optional node twice\");\n\n" +
          "      node = n;\n" +
          (Globals.parentPointers ? "      n.setParent(this);\n" : "") +
+         addSubtreeSize("n") +
          "   }\n" +
          "   public void accept(" + Globals.visitorPackage + ".Visitor v) {\n" +
          "      v.visit(this);\n" +
@@ -378,20 +1242,16 @@ class AutoClasses {
 		 "   }\n" +
 		 "   public <R> R accept(final " + Globals.visitorPackage + "." + IITGlobals.GJNoArguThreadedVisitorName +
 	 		"<R> v, boolean parallel) {\n" +
-		 "     if (parallel)\n" +
-		 "       v.addTask(new Runnable() { public void run() {v.visit(NodeOptional.this); v.taskEnd();}});\n" +
-		 "     else return v.visit(this);\n" +
-		 "     return null;\n" +
+		 getThreadedReturnAcceptBody("NodeOptional", false) +
 		 "   }\n" +
 		 "   public <R,A> R accept(final " + Globals.visitorPackage + "." + IITGlobals.GJThreadedVisitorName +
 		 		"<R,A> v,final  A argu, boolean parallel) {\n" +
-		 "     if (parallel)\n" +
-		 "       v.addTask(new Runnable() { public void run() {v.visit(NodeOptional.this, argu); v.taskEnd();}});\n" +
-		 "     else return v.visit(this, argu);\n" +
-		 "     return null;\n" +
+		 getThreadedReturnAcceptBody("NodeOptional", true) +
 		 "   }\n" +
         "   public boolean present()   { return node != null; }\n\n" +
          parentPointerCode() +
+         nodeKindCode("NODE_OPTIONAL") +
+         subtreeSizeCode() +
          "   public Node node;\n" +
          "}\n");
 
@@ -411,18 +1271,21 @@ class AutoClasses {
             " extends " + Globals.nodeSuperclass : "") +
             " implements NodeListInterface {\n" +
          "   public NodeSequence(int n) {\n" +
-         "      nodes = new Vector<Node>(n);\n" +
+         "      nodes = new " + listClass() + "<Node>(n);\n" +
          "   }\n\n" +
          "   public NodeSequence(Node firstNode) {\n" +
-         "      nodes = new Vector<Node>();\n" +
+         "      nodes = new " + listClass() + "<Node>();\n" +
          "      addNode(firstNode);\n" +
          "   }\n\n" +
          "   public void addNode(Node n) {\n" +
-         "      nodes.addElement(n);\n" +
+         "      nodes." + listAdd() + "(n);\n" +
          (Globals.parentPointers ? "      n.setParent(this);\n" : "") +
+         addSubtreeSize("n") +
          "   }\n\n" +
-         "   public Node elementAt(int i)  { return nodes.elementAt(i); }\n"+
-         "   public Enumeration<Node> elements() { return nodes.elements(); }\n" +
+         "   public Node elementAt(int i)  { return nodes." + listGet() + "(i); }\n"+
+         "   public Enumeration<Node> elements() { return " + listElements("nodes") + "; }\n" +
+         listViewCode() +
+         spliteratorCode() +
          "   public int size()             { return nodes.size(); }\n" +
 		 "   public void accept(" + Globals.visitorPackage + ".Visitor v) {\n" +
 		 "      v.visit(this);\n" +
@@ -451,32 +1314,32 @@ class AutoClasses {
 		 "   }\n" +
 		 "   public <R> R accept(final " + Globals.visitorPackage + "." + IITGlobals.GJNoArguThreadedVisitorName +
 	 		"<R> v, boolean parallel) {\n" +
-		 "     if (parallel)\n" +
-		 "       v.addTask(new Runnable() { public void run() {v.visit(NodeSequence.this); v.taskEnd();}});\n" +
-		 "     else return v.visit(this);\n" +
-		 "     return null;\n" +
+		 getThreadedReturnAcceptBody("NodeSequence", false) +
 		 "   }\n" +
 		 "   public <R,A> R accept(final " + Globals.visitorPackage + "." + IITGlobals.GJThreadedVisitorName +
 		 		"<R,A> v,final  A argu, boolean parallel) {\n" +
-		 "     if (parallel)\n" +
-		 "       v.addTask(new Runnable() { public void run() {v.visit(NodeSequence.this, argu); v.taskEnd();}});\n" +
-		 "     else return v.visit(this, argu);\n" +
-		 "     return null;\n" +
+		 getThreadedReturnAcceptBody("NodeSequence", true) +
 		 "   }\n" +
         parentPointerCode() +
-         "   public Vector<Node> nodes;\n" +
+        nodeKindCode("NODE_SEQUENCE") +
+        subtreeSizeCode() +
+         "   public " + listClass() + "<Node> nodes;\n" +
          "}\n");
 
       return buf.toString();
    }
 
    static String getNodeTokenClassStr() {
+      if ( Globals.compactTokens )
+         return getCompactNodeTokenClassStr();
+
       StringBuffer buf = new StringBuffer(
          "package " + packageName + ";\n\n" +
          "import java.util.*;\n" +
          "/**\n" +
          " * Represents a single token in the grammar.  If the \"-tk\" option\n" +
-         " * is used, also contains a Vector of preceding special tokens.\n" +
+         " * is used, also contains " + (Globals.arrayLists ? "an ArrayList" : "a Vector") +
+            " of preceding special tokens.\n" +
          " */\n" +
          "public class NodeToken" +
             (Globals.nodeSuperclass != null ?
@@ -497,31 +1360,206 @@ class AutoClasses {
          "   public NodeToken getSpecialAt(int i) {\n" +
          "      if ( specialTokens == null )\n" +
          "         throw new java.util.NoSuchElementException(\"No specials in token\");\n" +
-         "      return specialTokens.elementAt(i);\n" +
+         "      return specialTokens." + listGet() + "(i);\n" +
          "   }\n\n" +
          "   public int numSpecials() {\n" +
          "      if ( specialTokens == null ) return 0;\n" +
          "      return specialTokens.size();\n" +
          "   }\n\n" +
          "   public void addSpecial(NodeToken s) {\n" +
-         "      if ( specialTokens == null ) specialTokens = new Vector<NodeToken>();\n" +
-         "      specialTokens.addElement(s);\n" +
+         "      if ( specialTokens == null ) specialTokens = new " + listClass() + "<NodeToken>();\n" +
+         "      specialTokens." + listAdd() + "(s);\n" +
          (Globals.parentPointers ? "      s.setParent(this);\n" : "") +
          "   }\n\n" +
          "   public void trimSpecials() {\n" +
          "      if ( specialTokens == null ) return;\n" +
          "      specialTokens.trimToSize();\n" +
          "   }\n\n" +
+         (Globals.arrayLists ?
+         "   // unmodifiable view of the special tokens\n" +
+         "   public java.util.List<NodeToken> getSpecials() {\n" +
+         "      if ( specialTokens == null ) return Collections.<NodeToken>emptyList();\n" +
+         "      return Collections.unmodifiableList(specialTokens);\n" +
+         "   }\n\n" : "") +
          "   public String toString()     { return tokenImage; }\n\n" +
          "   public String withSpecials() {\n" +
          "      if ( specialTokens == null )\n" +
          "          return tokenImage;\n\n" +
          "       StringBuffer buf = new StringBuffer();\n\n" +
+         (Globals.arrayLists ?
+         "       for ( int i = 0; i < specialTokens.size(); ++i )\n" +
+         "          buf.append(specialTokens.get(i).toString());\n\n" :
          "       for ( Enumeration<NodeToken> e = specialTokens.elements(); e.hasMoreElements(); )\n" +
-         "          buf.append(e.nextElement().toString());\n\n" +
+         "          buf.append(e.nextElement().toString());\n\n") +
+         "       buf.append(tokenImage);\n" +
+         "       return buf.toString();\n" +
+         "   }\n\n");
+
+      buf.append(getNodeTokenAcceptStr());
+      buf.append(
+        parentPointerCode() +
+        nodeKindCode("NODE_TOKEN") +
+        (IITGlobals.forkJoin ? "   public int subtreeSize()      { return 1; }\n" : "") +
+         "   public String tokenImage;\n\n" +
+         "   // Stores a list of NodeTokens\n" +
+         "   public " + listClass() + "<NodeToken> specialTokens;\n\n" +
+         "   // -1 for these ints means no position info is available.\n" +
+         "   public int beginLine, beginColumn, endLine, endColumn;\n\n" +
+         "   // Equal to the JavaCC token \"kind\" integer.\n" +
+         "   // -1 if not available.\n" +
+         "   public int kind;\n" +
+         "}\n");
+
+      return buf.toString();
+   }
+
+   //
+   // With Globals.compactTokens, the four positions of a token are packed in a
+   // long, and its specials are kept in an array of their exact size, created
+   // with the first one.  Without a parent pointer, a token then takes 32 bytes
+   // instead of 40, plus the Vector of its specials.  The image of the tokens
+   // is shared already, as the parser interns it.
+   //
+   // The long holds, from the high bits, beginLine (23 bits), beginColumn (16),
+   // endLine - beginLine (8) and endColumn (16), each plus one so that 0 stands
+   // for -1.  A position which does not fit goes in a NodeToken.Wide instead,
+   // and the sign bit of the long tells which is used.
+   //
+   static String getCompactNodeTokenClassStr() {
+      StringBuffer buf = new StringBuffer(
+         "package " + packageName + ";\n\n" +
+         "import java.util.*;\n" +
+         "/**\n" +
+         " * Represents a single token in the grammar.  If the \"-tk\" option\n" +
+         " * is used, also contains an array of preceding special tokens.\n" +
+         " *\n" +
+         " * The position of the token is packed, and read and written through\n" +
+         " * getBeginLine(), setBeginLine() and so on.\n" +
+         " */\n" +
+         "public class NodeToken" +
+            (Globals.nodeSuperclass != null ?
+            " extends " + Globals.nodeSuperclass : "") +
+            " implements Node {\n" +
+         "   public NodeToken(String s) {\n" +
+         "      this(s, -1, -1, -1, -1, -1);\n" +
+         "   }\n\n" +
+         "   public NodeToken(String s, int kind, int beginLine, int beginColumn, int endLine, int endColumn) {\n" +
+         "      tokenImage = s;\n" +
+         "      this.kind = kind;\n" +
+         "      setPosition(beginLine, beginColumn, endLine, endColumn);\n" +
+         "   }\n\n" +
+         "   public NodeToken getSpecialAt(int i) {\n" +
+         "      NodeToken[] specials = specials();\n" +
+         "      if ( specials == null )\n" +
+         "         throw new java.util.NoSuchElementException(\"No specials in token\");\n" +
+         "      return specials[i];\n" +
+         "   }\n\n" +
+         "   public int numSpecials() {\n" +
+         "      NodeToken[] specials = specials();\n" +
+         "      return specials == null ? 0 : specials.length;\n" +
+         "   }\n\n" +
+         "   // a token has few specials, the array grows by one\n" +
+         "   public void addSpecial(NodeToken s) {\n" +
+         "      NodeToken[] specials = specials();\n" +
+         "      if ( specials == null ) specials = new NodeToken[1];\n" +
+         "      else specials = Arrays.copyOf(specials, specials.length + 1);\n" +
+         "      specials[specials.length - 1] = s;\n" +
+         "      setSpecials(specials);\n" +
+         (Globals.parentPointers ? "      s.setParent(this);\n" : "") +
+         "   }\n\n" +
+         "   // the array has the exact size already\n" +
+         "   public void trimSpecials() { }\n\n" +
+         "   // unmodifiable view of the special tokens\n" +
+         "   public java.util.List<NodeToken> getSpecials() {\n" +
+         "      NodeToken[] specials = specials();\n" +
+         "      if ( specials == null ) return Collections.<NodeToken>emptyList();\n" +
+         "      return Collections.unmodifiableList(Arrays.asList(specials));\n" +
+         "   }\n\n" +
+         "   public String toString()     { return tokenImage; }\n\n" +
+         "   public String withSpecials() {\n" +
+         "      NodeToken[] specials = specials();\n" +
+         "      if ( specials == null )\n" +
+         "          return tokenImage;\n\n" +
+         "       StringBuffer buf = new StringBuffer();\n\n" +
+         "       for ( int i = 0; i < specials.length; ++i )\n" +
+         "          buf.append(specials[i].toString());\n\n" +
          "       buf.append(tokenImage);\n" +
          "       return buf.toString();\n" +
          "   }\n\n" +
+         "   // -1 for the positions means no position info is available.\n" +
+         "   public int getBeginLine() {\n" +
+         "      return position < 0 ? wide().beginLine : (int)(position >>> 40) - 1;\n" +
+         "   }\n" +
+         "   public int getBeginColumn() {\n" +
+         "      return position < 0 ? wide().beginColumn : (int)(position >>> 24 & 0xffff) - 1;\n" +
+         "   }\n" +
+         "   public int getEndLine() {\n" +
+         "      if ( position < 0 ) return wide().endLine;\n" +
+         "      int lines = (int)(position >>> 16 & 0xff);\n" +
+         "      return lines == 0 ? -1 : getBeginLine() + lines - 1;\n" +
+         "   }\n" +
+         "   public int getEndColumn() {\n" +
+         "      return position < 0 ? wide().endColumn : (int)(position & 0xffff) - 1;\n" +
+         "   }\n\n" +
+         "   public void setBeginLine(int i)    { setPosition(i, getBeginColumn(), getEndLine(), getEndColumn()); }\n" +
+         "   public void setBeginColumn(int i)  { setPosition(getBeginLine(), i, getEndLine(), getEndColumn()); }\n" +
+         "   public void setEndLine(int i)      { setPosition(getBeginLine(), getBeginColumn(), i, getEndColumn()); }\n" +
+         "   public void setEndColumn(int i)    { setPosition(getBeginLine(), getBeginColumn(), getEndLine(), i); }\n\n" +
+         "   public void setPosition(int beginLine, int beginColumn, int endLine, int endColumn) {\n" +
+         "      if ( beginLine >= -1 && beginLine < 0x7fffff &&\n" +
+         "           beginColumn >= -1 && beginColumn < 0xffff &&\n" +
+         "           endColumn >= -1 && endColumn < 0xffff &&\n" +
+         "           (endLine == -1 || (endLine >= beginLine && endLine - beginLine < 0xff)) ) {\n" +
+         "         long lines = (endLine == -1 ? 0 : endLine - beginLine + 1);\n\n" +
+         "         position = (long)(beginLine + 1) << 40 | (long)(beginColumn + 1) << 24 |\n" +
+         "                    lines << 16 | (endColumn + 1);\n" +
+         "         if ( extra instanceof Wide ) extra = ((Wide)extra).specials;\n" +
+         "      }\n" +
+         "      else {\n" +
+         "         if ( !(extra instanceof Wide) ) extra = new Wide((NodeToken[])extra);\n" +
+         "         Wide w = wide();\n" +
+         "         w.beginLine = beginLine;\n" +
+         "         w.beginColumn = beginColumn;\n" +
+         "         w.endLine = endLine;\n" +
+         "         w.endColumn = endColumn;\n" +
+         "         position = -1;\n" +
+         "      }\n" +
+         "   }\n\n" +
+         "   private Wide wide()                { return (Wide)extra; }\n\n" +
+         "   private NodeToken[] specials() {\n" +
+         "      return extra instanceof Wide ? ((Wide)extra).specials : (NodeToken[])extra;\n" +
+         "   }\n\n" +
+         "   private void setSpecials(NodeToken[] specials) {\n" +
+         "      if ( extra instanceof Wide ) ((Wide)extra).specials = specials;\n" +
+         "      else extra = specials;\n" +
+         "   }\n\n");
+
+      buf.append(getNodeTokenAcceptStr());
+      buf.append(
+        parentPointerCode() +
+        nodeKindCode("NODE_TOKEN") +
+        (IITGlobals.forkJoin ? "   public int subtreeSize()      { return 1; }\n" : "") +
+         "   public String tokenImage;\n\n" +
+         "   // Equal to the JavaCC token \"kind\" integer.\n" +
+         "   // -1 if not available.\n" +
+         "   public int kind;\n\n" +
+         "   // The packed position, or -1 if it is in a Wide.\n" +
+         "   private long position;\n\n" +
+         "   // The specials (NodeToken[]), or a Wide if the position does not fit\n" +
+         "   // in a long.\n" +
+         "   private Object extra;\n\n" +
+         "   private static class Wide implements java.io.Serializable {\n" +
+         "      Wide(NodeToken[] specials)   { this.specials = specials; }\n\n" +
+         "      int beginLine, beginColumn, endLine, endColumn;\n" +
+         "      NodeToken[] specials;\n" +
+         "   }\n" +
+         "}\n");
+
+      return buf.toString();
+   }
+
+   static String getNodeTokenAcceptStr() {
+      return
 		 "   public void accept(" + Globals.visitorPackage + ".Visitor v) {\n" +
 		 "      v.visit(this);\n" +
 		 "   }\n" +
@@ -549,30 +1587,29 @@ class AutoClasses {
 		 "   }\n" +
 		 "   public <R> R accept(final " + Globals.visitorPackage + "." + IITGlobals.GJNoArguThreadedVisitorName +
 	 		"<R> v, boolean parallel) {\n" +
-		 "     if (parallel)\n" +
-		 "       v.addTask(new Runnable() { public void run() {v.visit(NodeToken.this); v.taskEnd();}});\n" +
-		 "     else return v.visit(this);\n" +
-		 "     return null;\n" +
+		 getThreadedReturnAcceptBody("NodeToken", false) +
 		 "   }\n" +
 		 "   public <R,A> R accept(final " + Globals.visitorPackage + "." + IITGlobals.GJThreadedVisitorName +
 		 		"<R,A> v,final  A argu, boolean parallel) {\n" +
-		 "     if (parallel)\n" +
-		 "       v.addTask(new Runnable() { public void run() {v.visit(NodeToken.this, argu); v.taskEnd();}});\n" +
-		 "     else return v.visit(this, argu);\n" +
-		 "     return null;\n" +
-		 "   }\n" +
-        parentPointerCode() +
-         "   public String tokenImage;\n\n" +
-         "   // Stores a list of NodeTokens\n" +
-         "   public Vector<NodeToken> specialTokens;\n\n" +
-         "   // -1 for these ints means no position info is available.\n" +
-         "   public int beginLine, beginColumn, endLine, endColumn;\n\n" +
-         "   // Equal to the JavaCC token \"kind\" integer.\n" +
-         "   // -1 if not available.\n" +
-         "   public int kind;\n" +
-         "}\n");
+		 getThreadedReturnAcceptBody("NodeToken", true) +
+		 "   }\n";
+   }
 
-      return buf.toString();
+   // Body of the accept() methods of the threaded visitors returning a value.
+   // With fork/join, the parallel traversal returns the combined value.
+   static String getThreadedReturnAcceptBody(String className, boolean withArgu) {
+      String args = (withArgu ? ", argu" : "");
+
+      if ( IITGlobals.forkJoin )
+         return
+            "     if (parallel) return v.invoke(this" + args + ");\n" +
+            "     else return v.visit(this" + args + ");\n";
+      return
+         "     if (parallel)\n" +
+         "       v.addTask(new Runnable() { public void run() {v.visit(" + className +
+            ".this" + args + "); v.taskEnd();}});\n" +
+         "     else return v.visit(this" + args + ");\n" +
+         "     return null;\n";
    }
 
    //
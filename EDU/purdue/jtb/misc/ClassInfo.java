@@ -73,6 +73,10 @@ public class ClassInfo {
    private Vector nameList = new Vector();
    private Vector initList = new Vector();
    private boolean makeDefaultConstructor = false;
+   private String kindName;
+
+   // the EBNF productions already printed, keyed by indentation
+   private Hashtable ebnfProductions = new Hashtable();
 
    public ClassInfo(Node node, String n) {
       astNode = node;
@@ -84,6 +88,10 @@ public class ClassInfo {
    public Vector getTypeList() { return typeList; }
    public Vector getNameList() { return nameList; }
 
+   // the name of the NodeKind constant of the class, set by ClassGenerator
+   public String getKindName()            { return kindName; }
+   public void   setKindName(String name) { kindName = name; }
+
    public void addField(String type, String name) {
       addField(type, name, null);
    }
@@ -116,18 +124,30 @@ public class ClassInfo {
    /**
     * Returns the EBNF production of the current class as a bunch of comments
     * showing which field names belong to which parts of the production.
+    *
+    * Every generator prints it, so it is printed only once for each
+    * indentation and then shared.  Generators running in parallel may both
+    * print it the first time, which does no harm since they print the same.
     */
    public String getEbnfProduction(Spacing space) {
+      String ebnf = (String)ebnfProductions.get(space.spc);
+
+      if ( ebnf == null ) {
+         ebnf = printEbnfProduction(space);
+         ebnfProductions.put(space.spc, ebnf);
+      }
+
+      return ebnf;
+   }
+
+   private String printEbnfProduction(Spacing space) {
       StringWriter buf = new StringWriter();
       PrintWriter out = new PrintWriter(buf);
-      String temp;
-      BufferedReader str;
 
       // print result into buffer
       astNode.accept(new CommentPrinter(out, space));
       out.flush();
-      temp = buf.toString();
-      return temp;
+      return buf.toString();
    }
 
    /**
@@ -153,6 +173,8 @@ public class ClassInfo {
       //
       if ( Globals.parentPointers )
          out.println(space.spc + "private Node parent;");
+      if ( IITGlobals.forkJoin )
+         out.println(space.spc + "private int subtreeSize = 1;");
 
       for ( ; types.hasMoreElements(); )
          out.println(space.spc + "public " + (String)types.nextElement() + " " +
@@ -186,6 +208,9 @@ public class ClassInfo {
          if ( Globals.parentPointers )
             out.println(space.spc + "if ( " + name + " != null ) " + name +
                ".setParent(this);");
+         if ( IITGlobals.forkJoin )
+            out.println(space.spc + "if ( " + name + " != null ) subtreeSize += " +
+               name + ".subtreeSize();");
       }
 
       space.updateSpc(-1);
@@ -244,6 +269,9 @@ public class ClassInfo {
             if ( Globals.parentPointers )
                out.println(space.spc + "if ( " + name + " != null ) " + name +
                   ".setParent(this);");
+            if ( IITGlobals.forkJoin )
+               out.println(space.spc + "if ( " + name + " != null ) subtreeSize += " +
+                  name + ".subtreeSize();");
          }
 
          space.updateSpc(-1);
@@ -301,12 +329,20 @@ public class ClassInfo {
     		  Globals.visitorPackage + "." + IITGlobals.GJNoArguThreadedVisitorName +
               "<R> v, boolean parallel) {");
       space.updateSpc(+1);
-      out.println(space.spc + "if (parallel)");
-      out.println(space.spc + "  v.addTask(new Runnable() {public void run() { " +
-    		  "v.visit("+name+".this); v.taskEnd();}});");
-      out.println(space.spc + "else");
-      out.println(space.spc + "  return v.visit(this);");
-      out.println(space.spc + "return null;");
+      if ( IITGlobals.forkJoin ) {
+         // the visitor runs the traversal in its pool and returns the combined value
+         out.println(space.spc + "if (parallel)");
+         out.println(space.spc + "  return v.invoke(this);");
+         out.println(space.spc + "return v.visit(this);");
+      }
+      else {
+         out.println(space.spc + "if (parallel)");
+         out.println(space.spc + "  v.addTask(new Runnable() {public void run() { " +
+       		  "v.visit("+name+".this); v.taskEnd();}});");
+         out.println(space.spc + "else");
+         out.println(space.spc + "  return v.visit(this);");
+         out.println(space.spc + "return null;");
+      }
       space.updateSpc(-1);
       out.println(space.spc + "}");
       
@@ -327,15 +363,28 @@ public class ClassInfo {
     		  Globals.visitorPackage + "." + IITGlobals.GJThreadedVisitorName + "<R,A> v, " +
     		  "final A argu, boolean parallel) {");
       space.updateSpc(+1);
-      out.println(space.spc + "if (parallel)");
-      out.println(space.spc + "  v.addTask(new Runnable() {public void run() { " +
-    		  "v.visit("+name+".this, argu); v.taskEnd();}});");
-      out.println(space.spc + "else");
-      out.println(space.spc + "  return v.visit(this, argu);");
-      out.println(space.spc + "return null;");
+      if ( IITGlobals.forkJoin ) {
+         out.println(space.spc + "if (parallel)");
+         out.println(space.spc + "  return v.invoke(this, argu);");
+         out.println(space.spc + "return v.visit(this, argu);");
+      }
+      else {
+         out.println(space.spc + "if (parallel)");
+         out.println(space.spc + "  v.addTask(new Runnable() {public void run() { " +
+       		  "v.visit("+name+".this, argu); v.taskEnd();}});");
+         out.println(space.spc + "else");
+         out.println(space.spc + "  return v.visit(this, argu);");
+         out.println(space.spc + "return null;");
+      }
       space.updateSpc(-1);
       out.println(space.spc + "}");
 
+      if ( IITGlobals.forkJoin )
+         out.println(space.spc + "public int subtreeSize() { return subtreeSize; }");
+      if ( Globals.kindDispatch )
+         out.println(space.spc + "public int nodeKind() { return NodeKind." +
+                     kindName + "; }");
+
       //
       // Output get/set parent methods
       //
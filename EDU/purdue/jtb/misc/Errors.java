@@ -59,16 +59,17 @@ package EDU.purdue.jtb.misc;
  * a message to the user and handling it appropriately.
  */
 public class Errors {
+   // the counts are updated by generators running in parallel (see JTBParallel)
    private static int numErrors = 0;
    private static int numWarnings = 0;
 
-   public static int errorCount()      { return numErrors; }
-   public static int warningCount()    { return numWarnings; }
-   public static void setErrorCount(int i)   { numErrors = i; }
-   public static void setWarningCount(int i) { numWarnings = i; }
-   public static void resetCounts()    { numErrors = numWarnings = 0; }
+   public static synchronized int errorCount()      { return numErrors; }
+   public static synchronized int warningCount()    { return numWarnings; }
+   public static synchronized void setErrorCount(int i)   { numErrors = i; }
+   public static synchronized void setWarningCount(int i) { numWarnings = i; }
+   public static synchronized void resetCounts()    { numErrors = numWarnings = 0; }
 
-   public static void printSummary() {
+   public static synchronized void printSummary() {
       System.err.println(numWarnings + " warnings, " + numErrors + " errors.");
    }
 
@@ -76,7 +77,7 @@ public class Errors {
       warning(s, -1);
    }
 
-   public static void warning(String s, int lineNum) {
+   public static synchronized void warning(String s, int lineNum) {
       if ( lineNum == -1 )
          System.err.println(Globals.inFilename + ":  warning:  " + s);
       else
@@ -90,7 +91,7 @@ public class Errors {
       softErr(s, -1);
    }
 
-   public static void softErr(String s, int lineNum) {
+   public static synchronized void softErr(String s, int lineNum) {
       if ( lineNum == -1 )
          System.err.println(Globals.inFilename + ":  soft error:  " + s);
       else
@@ -134,8 +134,7 @@ public class FileGenerator {
                break;
             }
 
-            PrintWriter out = new PrintWriter(new FileOutputStream(file),
-                                              false);
+            PrintWriter out = new OutputFile(file);
 
             out.println(spc.spc + Globals.fileHeader(spc));
             out.println();
@@ -183,6 +182,27 @@ public class FileGenerator {
             AutoClasses.getNodeSequenceClassStr());
          b = b && printStringToFile("NodeToken.java",
             AutoClasses.getNodeTokenClassStr());
+         if ( Globals.kindDispatch )
+            b = b && printStringToFile("NodeKind.java",
+               AutoClasses.getNodeKindClassStr(classList));
+         if ( Globals.streams )
+            b = b && printStringToFile("NodeSpliterator.java",
+               AutoClasses.getNodeSpliteratorClassStr(classList));
+         if ( Globals.nodeIndex )
+            b = b && printStringToFile("NodeIndex.java",
+               AutoClasses.getNodeIndexClassStr(classList));
+         if ( Globals.binaryTrees ) {
+            b = b && printStringToFile("NodeWriter.java",
+               AutoClasses.getNodeWriterClassStr(classList));
+            b = b && printStringToFile("NodeReader.java",
+               AutoClasses.getNodeReaderClassStr(classList));
+         }
+         if ( Globals.parseCache )
+            b = b && printStringToFile("NodeCache.java",
+               AutoClasses.getNodeCacheClassStr());
+         if ( !Globals.emitProductions.isEmpty() )
+            b = b && printStringToFile("NodeListener.java",
+               AutoClasses.getNodeListenerClassStr());
 
          if ( Globals.noOverwrite && !b )
             throw new FileExistsException("one of the automatic node classes");
@@ -200,7 +220,7 @@ public class FileGenerator {
       if ( Globals.noOverwrite && file.exists() )
          return false;
 
-      PrintWriter out = new PrintWriter(new FileOutputStream(file), true);
+      PrintWriter out = new OutputFile(file);
       out.println(Globals.fileHeader());
       out.println();
       out.println(s);
@@ -218,7 +238,7 @@ public class FileGenerator {
          if ( Globals.noOverwrite && file.exists() )
             throw new FileExistsException(Globals.GJVisitorName + ".java");
 
-         PrintWriter out = new PrintWriter(new FileOutputStream(file), false);
+         PrintWriter out = new OutputFile(file);
          Spacing spc = new Spacing(INDENT_AMT);
 
          out.println(Globals.fileHeader(spc));
@@ -77,6 +77,38 @@ public class Globals {
          spc.spc + "//";
    }
 
+   //
+   // The loop over the nodes of the list "n" in the generated visitors, and
+   // the current node in its body.  With arrayLists, the loop goes by index
+   // and does not allocate an Enumeration for each list.
+   //
+   public static String listLoop() {
+      if ( arrayLists )
+         return "for ( int i = 0; i < n.size(); ++i )";
+      return "for ( Enumeration<Node> e = n.elements(); e.hasMoreElements(); )";
+   }
+   public static String listElement() {
+      return arrayLists ? "n.elementAt(i)" : "e.nextElement()";
+   }
+
+   //
+   // A position field of a NodeToken in the generated code, e.g. "n.beginLine",
+   // and the statement setting it.  With compactTokens, the positions are
+   // packed and go through accessors.
+   //
+   public static String tokenGet(String token, String field) {
+      if ( compactTokens )
+         return token + ".get" + Character.toUpperCase(field.charAt(0)) +
+                field.substring(1) + "()";
+      return token + "." + field;
+   }
+   public static String tokenSet(String token, String field, String value) {
+      if ( compactTokens )
+         return token + ".set" + Character.toUpperCase(field.charAt(0)) +
+                field.substring(1) + "(" + value + ")";
+      return token + "." + field + " = " + value;
+   }
+
    //
    // Internal name constants
    //
@@ -109,9 +141,25 @@ public class Globals {
    public static boolean descriptiveFieldNames = false;
    public static boolean parentPointers = false;
    public static boolean keepSpecialTokens = false;
+   public static boolean arrayLists = false;
+   public static boolean compactTokens = false;
+   public static boolean streams = false;
+   public static boolean nodeIndex = false;
+   public static boolean binaryTrees = false;
+   public static boolean parseCache = false;
+   public static boolean shareEmpty = false;
+   public static boolean mappedCharStream = false;
+
+   // names of the productions whose nodes are handed to the NodeListener
+   // of the parsing thread as soon as they are built (option -emit)
+   public static java.util.Vector<String> emitProductions =
+      new java.util.Vector<String>();
 
    public static boolean schemeToolkit = false;
    public static boolean printerToolkit = false;
+   public static boolean flatToolkit = false;
+   public static boolean kindDispatch = false;
+   public static boolean iterativeToolkit = false;
 
    //
    // Changeable names
@@ -124,6 +172,7 @@ public class Globals {
 
    public static String inFilename;                   // must be set in main()
    public static String outFilename = "jtb.out.jj";
+   public static String recordsFilename = "records.scm";  // -scheme
 
    //
    // These two methods should be called rather than setting nodePackage
@@ -0,0 +1,63 @@
+package EDU.purdue.jtb.misc;
+
+import java.util.Vector;
+
+/**
+ * Class KindNames names the int constants standing for node classes in the
+ * generated code, e.g. the kinds of FlatTree and NodeKind and the class ids
+ * of NodeIndex: CompilationUnit gives COMPILATION_UNIT, JavaCCInput
+ * JAVA_CC_INPUT.  A name already taken is followed by a number, so the
+ * names depend on the order in which the classes are added.
+ *
+ * The generators all start from withAutoClasses() and add the classes in the
+ * order of the class list, so that a constant has the same name and the same
+ * value, its index here, in all the generated classes.
+ */
+public class KindNames {
+   // the automatic classes, which come first among the kinds of the nodes
+   public static final String[] autoClasses = {
+      Globals.listName, Globals.listOptName, Globals.optionalName,
+      Globals.sequenceName, Globals.tokenName, Globals.choiceName
+   };
+
+   private Vector<String> names = new Vector<String>();
+
+   //
+   // Returns the names with those of the automatic classes added
+   //
+   public static KindNames withAutoClasses() {
+      KindNames names = new KindNames();
+
+      for ( int i = 0; i < autoClasses.length; ++i )
+         names.add(autoClasses[i]);
+      return names;
+   }
+
+   //
+   // Adds the constant of the next class and returns its name
+   //
+   public String add(String className) {
+      StringBuffer buf = new StringBuffer();
+
+      for ( int i = 0; i < className.length(); ++i ) {
+         char c = className.charAt(i);
+
+         if ( i > 0 && Character.isUpperCase(c) &&
+              (!Character.isUpperCase(className.charAt(i - 1)) ||
+               (i + 1 < className.length() &&
+                Character.isLowerCase(className.charAt(i + 1)))) &&
+              className.charAt(i - 1) != '_' )
+            buf.append('_');
+         buf.append(Character.toUpperCase(c));
+      }
+
+      String name = buf.toString();
+      for ( int n = 2; names.contains(name); ++n )
+         name = buf.toString() + "_" + n;
+      names.addElement(name);
+      return name;
+   }
+
+   public String get(int i) { return names.elementAt(i); }
+   public int size()        { return names.size(); }
+}
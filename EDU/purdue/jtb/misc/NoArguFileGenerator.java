@@ -92,7 +92,7 @@ public class NoArguFileGenerator {
          if ( Globals.noOverwrite && file.exists() )
             throw new FileExistsException(Globals.GJNoArguVisitorName + ".java");
 
-         PrintWriter out = new PrintWriter(new FileOutputStream(file), false);
+         PrintWriter out = new OutputFile(file);
          Spacing spc = new Spacing(INDENT_AMT);
 
          out.println(Globals.fileHeader(spc));
@@ -100,7 +100,7 @@ public class OldFileGenerator {
          if ( Globals.noOverwrite && file.exists() )
             throw new FileExistsException(Globals.visitorName + ".java");
 
-         PrintWriter out = new PrintWriter(new FileOutputStream(file), false);
+         PrintWriter out = new OutputFile(file);
          Spacing spc = new Spacing(INDENT_AMT);
 
          out.println(Globals.fileHeader(spc));
@@ -0,0 +1,148 @@
+package EDU.purdue.jtb.misc;
+
+import java.io.*;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Class OutputFile is a PrintWriter for a generated file which keeps the text
+ * in memory until it is closed.  The file is then only written if its
+ * contents changed, so that regenerating a grammar leaves the modification
+ * time of the unchanged files alone and the build tools do not recompile
+ * them.
+ *
+ * A changed file is written to a temporary file in the same directory, which
+ * is then renamed to it.  The generators may run in parallel (see
+ * JTBParallel): a file is never seen half written, and the counts are safe to
+ * update from several threads.
+ *
+ * A generator which fails before the end of its file calls abort() rather
+ * than close(), so that the file is left as it was instead of being replaced
+ * by the part printed so far.
+ */
+public class OutputFile extends PrintWriter {
+   private static final AtomicInteger numWritten = new AtomicInteger();
+   private static final AtomicInteger numUnchanged = new AtomicInteger();
+   private static final Set<File> written =
+      Collections.synchronizedSet(new HashSet<File>());
+
+   private final File file;
+   private boolean closed = false;
+
+   /**
+    * Throws FileNotFoundException if the file cannot be written, like
+    * FileOutputStream, but without touching it.
+    */
+   public OutputFile(File file) throws FileNotFoundException {
+      super(new CharArrayWriter(4096), false);
+      this.file = file;
+
+      File dir = file.getAbsoluteFile().getParentFile();
+      if ( file.isDirectory() || !dir.isDirectory() || !dir.canWrite() )
+         throw new FileNotFoundException(file.getPath() + " cannot be written");
+   }
+
+   public OutputFile(String filename) throws FileNotFoundException {
+      this(new File(filename));
+   }
+
+   public static int writtenCount()     { return numWritten.get(); }
+   public static int unchangedCount()   { return numUnchanged.get(); }
+
+   /**
+    * Returns true if the file was written since the last call to
+    * resetCounts(), false if it was left unchanged or not generated.
+    */
+   public static boolean wasWritten(File file) {
+      return written.contains(file.getAbsoluteFile());
+   }
+
+   public static void resetCounts() {
+      numWritten.set(0);
+      numUnchanged.set(0);
+      written.clear();
+   }
+
+   /**
+    * Writes the file if its contents changed.  Later calls do nothing.
+    * Throws UncheckedIOException if the file cannot be written, so that the
+    * task generating it fails (see TaskGraph) instead of the program exiting.
+    */
+   public void close() {
+      synchronized (lock) {
+         if ( closed ) return;
+         closed = true;
+
+         byte[] bytes = out.toString().getBytes();
+         super.close();
+
+         try {
+            if ( hasContents(bytes) )
+               numUnchanged.incrementAndGet();
+            else {
+               write(bytes);
+               written.add(file.getAbsoluteFile());
+               numWritten.incrementAndGet();
+            }
+         }
+         catch (IOException e) {
+            throw new UncheckedIOException("could not write " + file.getPath() + ":  " +
+                                           e.getMessage(), e);
+         }
+      }
+   }
+
+   /**
+    * Drops the text printed so far and leaves the file alone.  Later calls to
+    * close() or abort() do nothing.
+    */
+   public void abort() {
+      synchronized (lock) {
+         if ( closed ) return;
+         closed = true;
+         super.close();
+      }
+   }
+
+   // true if the file exists and contains exactly these bytes
+   private boolean hasContents(byte[] bytes) throws IOException {
+      if ( !file.isFile() || file.length() != bytes.length )
+         return false;
+
+      return Arrays.equals(Files.readAllBytes(file.toPath()), bytes);
+   }
+
+   private void write(byte[] bytes) throws IOException {
+      // not File.createTempFile, which would make the file readable only by
+      // its owner
+      File dir = file.getAbsoluteFile().getParentFile();
+      File tmp = new File(dir, "." + file.getName() + "." +
+                          Thread.currentThread().getId() + "." +
+                          Long.toHexString(System.nanoTime()) + ".tmp");
+
+      try {
+         OutputStream o = new FileOutputStream(tmp);
+         try { o.write(bytes); }
+         finally { o.close(); }
+
+         try {
+            Files.move(tmp.toPath(), file.toPath(),
+                       StandardCopyOption.REPLACE_EXISTING,
+                       StandardCopyOption.ATOMIC_MOVE);
+         }
+         catch (AtomicMoveNotSupportedException e) {
+            Files.move(tmp.toPath(), file.toPath(),
+                       StandardCopyOption.REPLACE_EXISTING);
+         }
+      }
+      finally {
+         tmp.delete();
+      }
+   }
+}
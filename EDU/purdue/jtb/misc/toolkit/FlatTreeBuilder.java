@@ -0,0 +1,509 @@
+package EDU.purdue.jtb.misc.toolkit;
+
+import java.util.*;
+import java.io.*;
+import EDU.purdue.jtb.misc.*;
+
+/**
+ * Class FlatTreeBuilder generates the FlatTree class, which keeps a syntax
+ * tree in a few int arrays indexed by node number, and the FlatDepthFirst
+ * cursor visitor, which walks a FlatTree by node number instead of going
+ * through the node objects.  A FlatTree is either copied from the nodes or,
+ * with -flat, filled directly by the parser (see Annotator).
+ *
+ * Similar to EDU.purdue.jtb.misc.FileGenerator class.
+ */
+public class FlatTreeBuilder {
+   public static final String treeName = "FlatTree";
+   public static final String visitorName = "FlatDepthFirst";
+   public static final String treeFilename = treeName + ".java";
+   public static final String visitorFilename = visitorName + ".java";
+
+   // the kinds of the auto classes, numbered from 0 in this order; the kinds
+   // of the node classes follow, as in NodeKind
+   private static final String[] autoClasses = KindNames.autoClasses;
+
+   private Vector classList;
+   private File nodeDir;
+   private File visitorDir;
+   private KindNames kindNames = KindNames.withAutoClasses();
+
+   //
+   // Vector must contain objects of type ClassInfo
+   //
+   public FlatTreeBuilder(Vector classes) {
+      classList = classes;
+      nodeDir = new File(Globals.nodeDir);
+      visitorDir = new File(Globals.visitorDir);
+
+      if ( !nodeDir.exists() )
+         nodeDir.mkdir();
+      if ( !visitorDir.exists() )
+         visitorDir.mkdir();
+
+      for ( Enumeration e = classList.elements(); e.hasMoreElements(); )
+         kindNames.add(((ClassInfo)e.nextElement()).getName());
+   }
+
+   private String kindName(int kind) {
+      return kindNames.get(kind);
+   }
+
+   private String className(int kind) {
+      if ( kind < autoClasses.length )
+         return autoClasses[kind];
+      return ((ClassInfo)classList.elementAt(kind - autoClasses.length)).getName();
+   }
+
+   //
+   // Tree generation methods
+   //
+   public void generateFlatTree() throws FileExistsException {
+      try {
+         File file = new File(nodeDir, treeFilename);
+
+         if ( Globals.noOverwrite && file.exists() )
+            throw new FileExistsException(treeFilename);
+
+         PrintWriter out = new OutputFile(file);
+
+         out.println(Globals.fileHeader());
+         out.print(
+"package " + Globals.nodePackage + ";\n\n" +
+"import java.util.*;\n\n" +
+"/**\n" +
+" * A read-only syntax tree kept in arrays rather than in one object per\n" +
+" * node.  The nodes are numbered in depth-first order from 0, the root, so\n" +
+" * that the subtree of a node is the range of numbers from the node to its\n" +
+" * next sibling, or to the end of the subtree of its parent.\n" +
+" *\n" +
+" * kind[i] is the kind of node i, one of the constants below, firstChild[i]\n" +
+" * and nextSibling[i] the numbers of its first child and next sibling, or -1.\n" +
+" * value[i] is for a NODE_TOKEN the number of its token in the token arrays,\n" +
+" * for a NODE_CHOICE the choice made, and -1 otherwise.  The NodeChoices are\n" +
+" * kept as nodes with one child, the choice.  The special tokens are not\n" +
+" * kept.\n" +
+" *\n" +
+" * A node takes 16 bytes and a token 24 more, plus its image, so the tree\n" +
+" * is much smaller than the nodes.  It is either copied from the nodes, or\n" +
+" * filled directly by a parser generated with -flat, which makes no nodes at\n" +
+" * all (see start()).  A pass over the nodes of some kinds can be split\n" +
+" * among threads by ranges of node numbers, see next().\n" +
+" */\n" +
+"public class " + treeName + " {\n");
+
+         for ( int i = 0; i < kindNames.size(); ++i )
+            out.println("   public static final int " + kindName(i) + " = " + i + ";");
+         out.println();
+
+         out.println("   public static final String[] kindNames = {");
+         for ( int i = 0; i < kindNames.size(); ++i )
+            out.println("      \"" + className(i) + "\"" +
+                        (i + 1 < kindNames.size() ? "," : ""));
+         out.println("   };\n");
+
+         out.print(
+"   public int size;\n" +
+"   public int[] kind;\n" +
+"   public int[] firstChild;\n" +
+"   public int[] nextSibling;\n" +
+"   public int[] value;\n\n" +
+
+"   public int numTokens;\n" +
+"   public String[] tokenImage;\n" +
+"   public int[] tokenKind;\n" +
+"   public int[] beginLine;\n" +
+"   public int[] beginColumn;\n" +
+"   public int[] endLine;\n" +
+"   public int[] endColumn;\n\n" +
+
+"   // the tree the parser fills on each thread, see start()\n" +
+"   private static final ThreadLocal<" + treeName + "> building =\n" +
+"      new ThreadLocal<" + treeName + ">();\n\n" +
+
+"   // the last child of each node, until the tree is finished\n" +
+"   private int[] lastChild;\n\n" +
+
+"   public " + treeName + "(Node root) {\n" +
+"      this(root, 1024);\n" +
+"   }\n\n" +
+
+"   /**\n" +
+"    * Copies the tree of root.  capacity is the number of nodes expected,\n" +
+"    * the arrays growing if there are more.\n" +
+"    */\n" +
+"   public " + treeName + "(Node root, int capacity) {\n" +
+"      this(capacity);\n" +
+"      finish(new Builder().copy(root));\n" +
+"   }\n\n" +
+
+"   private " + treeName + "(int capacity) {\n" +
+"      capacity = Math.max(capacity, 16);\n" +
+"      kind = new int[capacity];\n" +
+"      firstChild = new int[capacity];\n" +
+"      nextSibling = new int[capacity];\n" +
+"      value = new int[capacity];\n" +
+"      lastChild = new int[capacity];\n" +
+"      allocTokens(capacity / 2);\n" +
+"   }\n\n" +
+
+"   /**\n" +
+"    * Starts a tree for the parser to fill on this thread.  With -flat, the\n" +
+"    * productions of the parser add their nodes to it and return their\n" +
+"    * numbers instead of nodes.  The tree is finished with the number of\n" +
+"    * the root:\n" +
+"    *\n" +
+"    *    " + treeName + " tree = " + treeName + ".start(1024);\n" +
+"    *    tree.finish(parser.CompilationUnit());\n" +
+"    */\n" +
+"   public static " + treeName + " start(int capacity) {\n" +
+"      " + treeName + " tree = new " + treeName + "(capacity);\n" +
+"      building.set(tree);\n" +
+"      return tree;\n" +
+"   }\n\n" +
+
+"   // the tree started on this thread, for the parser\n" +
+"   public static " + treeName + " current() {\n" +
+"      " + treeName + " tree = building.get();\n\n" +
+
+"      if ( tree == null )\n" +
+"         throw new IllegalStateException(\"no " + treeName + " started on this thread\");\n" +
+"      return tree;\n" +
+"   }\n\n" +
+
+"   /**\n" +
+"    * Ends the building of the tree: numbers the nodes of the subtree of\n" +
+"    * root in depth-first order from 0 and drops the others, which the\n" +
+"    * parser made for an alternative it did not take.\n" +
+"    */\n" +
+"   public void finish(int root) {\n" +
+"      int[] order = new int[size];     // the old numbers, in the new order\n" +
+"      int[] number = new int[size];    // the new numbers\n" +
+"      int[] parents = new int[64];\n" +
+"      int depth = 0;\n" +
+"      int n = 0;\n\n" +
+
+"      for ( int i = root; ; ) {\n" +
+"         number[i] = n;\n" +
+"         order[n++] = i;\n\n" +
+
+"         if ( firstChild[i] != -1 ) {\n" +
+"            if ( depth == parents.length )\n" +
+"               parents = Arrays.copyOf(parents, depth * 2);\n" +
+"            parents[depth++] = i;\n" +
+"            i = firstChild[i];\n" +
+"         }\n" +
+"         else {\n" +
+"            while ( i != root && nextSibling[i] == -1 )\n" +
+"               i = parents[--depth];\n" +
+"            if ( i == root )\n" +
+"               break;\n" +
+"            i = nextSibling[i];\n" +
+"         }\n" +
+"      }\n\n" +
+
+"      int[] k = new int[n], first = new int[n], next = new int[n], v = new int[n];\n" +
+"      for ( int j = 0; j < n; ++j ) {\n" +
+"         int i = order[j];\n" +
+"         k[j] = kind[i];\n" +
+"         v[j] = value[i];\n" +
+"         first[j] = firstChild[i] == -1 ? -1 : number[firstChild[i]];\n" +
+"         next[j] = i == root || nextSibling[i] == -1 ? -1 : number[nextSibling[i]];\n" +
+"      }\n\n" +
+
+"      size = n;\n" +
+"      kind = k;\n" +
+"      firstChild = first;\n" +
+"      nextSibling = next;\n" +
+"      value = v;\n" +
+"      lastChild = null;\n\n" +
+
+"      tokenImage = Arrays.copyOf(tokenImage, numTokens);\n" +
+"      tokenKind = Arrays.copyOf(tokenKind, numTokens);\n" +
+"      beginLine = Arrays.copyOf(beginLine, numTokens);\n" +
+"      beginColumn = Arrays.copyOf(beginColumn, numTokens);\n" +
+"      endLine = Arrays.copyOf(endLine, numTokens);\n" +
+"      endColumn = Arrays.copyOf(endColumn, numTokens);\n\n" +
+
+"      if ( building.get() == this )\n" +
+"         building.remove();\n" +
+"   }\n\n" +
+
+"   /**\n" +
+"    * Returns the first node of the given kind numbered from \"from\" to\n" +
+"    * \"to\" - 1, or -1 if there is none.\n" +
+"    */\n" +
+"   public int next(int k, int from, int to) {\n" +
+"      for ( int i = from; i < to; ++i )\n" +
+"         if ( kind[i] == k )\n" +
+"            return i;\n" +
+"      return -1;\n" +
+"   }\n\n" +
+
+"   public int numChildren(int node) {\n" +
+"      int count = 0;\n" +
+"      for ( int c = firstChild[node]; c != -1; c = nextSibling[c] )\n" +
+"         ++count;\n" +
+"      return count;\n" +
+"   }\n\n" +
+
+"   /**\n" +
+"    * Returns the i-th child of the node, from 0, or -1.\n" +
+"    */\n" +
+"   public int childAt(int node, int i) {\n" +
+"      int c = firstChild[node];\n" +
+"      for ( ; c != -1 && i > 0; --i )\n" +
+"         c = nextSibling[c];\n" +
+"      return c;\n" +
+"   }\n\n" +
+
+"   // the token image of a NODE_TOKEN\n" +
+"   public String image(int node) {\n" +
+"      return tokenImage[value[node]];\n" +
+"   }\n\n" +
+
+"   //\n" +
+"   // Building methods, called by the parser until the tree is finished.\n" +
+"   // The nodes are numbered in the order they are made.\n" +
+"   //\n" +
+"   public int node(int k) {\n" +
+"      return add(k, -1);\n" +
+"   }\n\n" +
+
+"   // makes child the last child of parent, and returns parent\n" +
+"   public int addChild(int parent, int child) {\n" +
+"      if ( lastChild[parent] == -1 )\n" +
+"         firstChild[parent] = child;\n" +
+"      else\n" +
+"         nextSibling[lastChild[parent]] = child;\n" +
+"      lastChild[parent] = child;\n" +
+"      return parent;\n" +
+"   }\n\n" +
+
+"   public int choice(int choice, int which) {\n" +
+"      return addChild(add(NODE_CHOICE, which), choice);\n" +
+"   }\n\n" +
+
+"   public int token(String image, int k, int bLine, int bColumn, int eLine,\n" +
+"                    int eColumn) {\n" +
+"      if ( numTokens == tokenImage.length ) {\n" +
+"         int capacity = numTokens * 2;\n" +
+"         tokenImage = Arrays.copyOf(tokenImage, capacity);\n" +
+"         tokenKind = Arrays.copyOf(tokenKind, capacity);\n" +
+"         beginLine = Arrays.copyOf(beginLine, capacity);\n" +
+"         beginColumn = Arrays.copyOf(beginColumn, capacity);\n" +
+"         endLine = Arrays.copyOf(endLine, capacity);\n" +
+"         endColumn = Arrays.copyOf(endColumn, capacity);\n" +
+"      }\n\n" +
+
+"      int t = numTokens++;\n" +
+"      tokenImage[t] = image;\n" +
+"      tokenKind[t] = k;\n" +
+"      beginLine[t] = bLine;\n" +
+"      beginColumn[t] = bColumn;\n" +
+"      endLine[t] = eLine;\n" +
+"      endColumn[t] = eColumn;\n" +
+"      return add(NODE_TOKEN, t);\n" +
+"   }\n\n" +
+
+"   private int add(int k, int v) {\n" +
+"      if ( size == kind.length ) {\n" +
+"         int capacity = size * 2;\n" +
+"         kind = Arrays.copyOf(kind, capacity);\n" +
+"         firstChild = Arrays.copyOf(firstChild, capacity);\n" +
+"         nextSibling = Arrays.copyOf(nextSibling, capacity);\n" +
+"         value = Arrays.copyOf(value, capacity);\n" +
+"         lastChild = Arrays.copyOf(lastChild, capacity);\n" +
+"      }\n\n" +
+
+"      int i = size++;\n" +
+"      kind[i] = k;\n" +
+"      value[i] = v;\n" +
+"      firstChild[i] = nextSibling[i] = lastChild[i] = -1;\n" +
+"      return i;\n" +
+"   }\n\n" +
+
+"   private void allocTokens(int capacity) {\n" +
+"      tokenImage = new String[capacity];\n" +
+"      tokenKind = new int[capacity];\n" +
+"      beginLine = new int[capacity];\n" +
+"      beginColumn = new int[capacity];\n" +
+"      endLine = new int[capacity];\n" +
+"      endColumn = new int[capacity];\n" +
+"   }\n\n" +
+
+"   //\n" +
+"   // Copies the tree in depth-first order\n" +
+"   //\n" +
+"   private class Builder implements " + Globals.visitorPackage + "." +
+        Globals.visitorName + " {\n" +
+"      private int last;     // the node made by the last visit\n\n" +
+
+"      int copy(Node n) {\n" +
+"         if ( n instanceof NodeChoice ) {\n" +
+"            NodeChoice c = (NodeChoice)n;\n" +
+"            int i = add(NODE_CHOICE, c.which);\n" +
+"            return addChild(i, copy(c.choice));\n" +
+"         }\n\n" +
+
+"         n.accept(this);\n" +
+"         return last;\n" +
+"      }\n\n" +
+
+"      public void visit(NodeList n) {\n" +
+"         int i = node(NODE_LIST);\n" +
+"         " + Globals.listLoop() + "\n" +
+"            addChild(i, copy(" + Globals.listElement() + "));\n" +
+"         last = i;\n" +
+"      }\n\n" +
+
+"      public void visit(NodeListOptional n) {\n" +
+"         int i = node(NODE_LIST_OPTIONAL);\n" +
+"         " + Globals.listLoop() + "\n" +
+"            addChild(i, copy(" + Globals.listElement() + "));\n" +
+"         last = i;\n" +
+"      }\n\n" +
+
+"      public void visit(NodeOptional n) {\n" +
+"         int i = node(NODE_OPTIONAL);\n" +
+"         if ( n.present() )\n" +
+"            addChild(i, copy(n.node));\n" +
+"         last = i;\n" +
+"      }\n\n" +
+
+"      public void visit(NodeSequence n) {\n" +
+"         int i = node(NODE_SEQUENCE);\n" +
+"         " + Globals.listLoop() + "\n" +
+"            addChild(i, copy(" + Globals.listElement() + "));\n" +
+"         last = i;\n" +
+"      }\n\n" +
+
+"      public void visit(NodeToken n) {\n" +
+"         last = token(n.tokenImage, n.kind, " + Globals.tokenGet("n", "beginLine") +
+        ", " + Globals.tokenGet("n", "beginColumn") + ",\n" +
+"                      " + Globals.tokenGet("n", "endLine") + ", " +
+        Globals.tokenGet("n", "endColumn") + ");\n" +
+"      }\n");
+
+         for ( int i = autoClasses.length; i < kindNames.size(); ++i ) {
+            ClassInfo cur = (ClassInfo)classList.elementAt(i - autoClasses.length);
+
+            out.println();
+            out.println("      public void visit(" + cur.getName() + " n) {");
+            out.println("         int i = node(" + kindName(i) + ");");
+            for ( Enumeration f = cur.getNameList().elements();
+                  f.hasMoreElements(); )
+               out.println("         addChild(i, copy(n." + (String)f.nextElement() + "));");
+            out.println("         last = i;");
+            out.println("      }");
+         }
+
+         out.println("   }");
+         out.println("}");
+         out.flush();
+         out.close();
+      }
+      catch (IOException e) {
+         Errors.hardErr("Could not generate " + treeFilename);
+      }
+   }
+
+   //
+   // Visitor generation methods
+   //
+   public void generateFlatVisitor() throws FileExistsException {
+      try {
+         File file = new File(visitorDir, visitorFilename);
+
+         if ( Globals.noOverwrite && file.exists() )
+            throw new FileExistsException(visitorFilename);
+
+         PrintWriter out = new OutputFile(file);
+         Spacing spc = new Spacing(3);
+
+         out.println(Globals.fileHeader());
+         out.print(
+"package " + Globals.visitorPackage + ";\n\n" +
+(Globals.visitorPackage.equals(Globals.nodePackage) ? "" :
+"import " + Globals.nodePackage + "." + treeName + ";\n\n") +
+"/**\n" +
+" * Visits the nodes of a " + treeName + " in depth-first order, by number,\n" +
+" * without going through the node objects.  Your cursor visitors may extend\n" +
+" * this class and override the methods of the kinds of nodes they handle,\n" +
+" * calling visitChildren() to go on below them.\n" +
+" */\n" +
+"public class " + visitorName + " {\n" +
+"   protected final " + treeName + " tree;\n\n" +
+
+"   public " + visitorName + "(" + treeName + " tree) {\n" +
+"      this.tree = tree;\n" +
+"   }\n\n" +
+
+"   /**\n" +
+"    * Visits the whole tree.\n" +
+"    */\n" +
+"   public void visit() {\n" +
+"      if ( tree.size > 0 )\n" +
+"         visit(0);\n" +
+"   }\n\n" +
+
+"   public void visit(int node) {\n" +
+"      switch ( tree.kind[node] ) {\n");
+
+         for ( int i = 0; i < kindNames.size(); ++i )
+            out.println("         case " + treeName + "." + kindName(i) + ":  visit" +
+                        className(i) + "(node); break;");
+
+         out.print(
+"         default:\n" +
+"            throw new IllegalStateException(\"node \" + node + \" has no kind\");\n" +
+"      }\n" +
+"   }\n\n" +
+
+"   public void visitChildren(int node) {\n" +
+"      for ( int c = tree.firstChild[node]; c != -1; c = tree.nextSibling[c] )\n" +
+"         visit(c);\n" +
+"   }\n\n" +
+
+"   //\n" +
+"   // Auto class visitors--probably don't need to be overridden.\n" +
+"   //\n");
+
+         for ( int i = 0; i < autoClasses.length; ++i )
+            if ( autoClasses[i].equals(Globals.tokenName) )
+               out.println("   public void visit" + autoClasses[i] + "(int node) {}");
+            else
+               out.println("   public void visit" + autoClasses[i] +
+                           "(int node) { visitChildren(node); }");
+         out.println();
+
+         out.println("   //");
+         out.println("   // User-generated visitor methods below");
+         out.println("   //");
+         out.println();
+
+         spc.updateSpc(+1);
+         for ( Enumeration e = classList.elements(); e.hasMoreElements(); ) {
+            ClassInfo cur = (ClassInfo)e.nextElement();
+
+            out.println(spc.spc + "/**");
+            if ( Globals.javaDocComments ) out.println(spc.spc + " * <PRE>");
+            out.println(cur.getEbnfProduction(spc));
+            if ( Globals.javaDocComments ) out.println(spc.spc + " * </PRE>");
+            out.println(spc.spc + " */");
+            out.println(spc.spc + "public void visit" + cur.getName() +
+                        "(int node) {");
+            out.println(spc.spc + "   visitChildren(node);");
+            out.println(spc.spc + "}\n");
+         }
+         spc.updateSpc(-1);
+
+         out.println("}");
+         out.flush();
+         out.close();
+      }
+      catch (IOException e) {
+         Errors.hardErr("Could not generate " + visitorFilename);
+      }
+   }
+}
@@ -95,7 +95,7 @@ public class GJNoArguDepthFirstBuilder {
          if ( Globals.noOverwrite && file.exists() )
             throw new FileExistsException(outFilename);
 
-         PrintWriter out = new PrintWriter(new FileOutputStream(file), false);
+         PrintWriter out = new OutputFile(file);
          Spacing spc = new Spacing(INDENT_AMT);
 
          out.println(Globals.fileHeader(spc));
@@ -177,8 +177,8 @@ public class GJNoArguDepthFirstBuilder {
       buf.append(
 	     "      R _ret=null;\n" +
 		 "      int _count=0;\n" +
-         "      for ( Enumeration<Node> e = n.elements(); e.hasMoreElements(); ) {\n" +
-         "         e.nextElement().accept(this);\n" +
+         "      " + Globals.listLoop() + " {\n" +
+         "         " + Globals.listElement() + ".accept(this);\n" +
 		 "         _count++;\n" +
 		 "      }\n" +
 		 "      return _ret;\n" +
@@ -196,8 +196,8 @@ public class GJNoArguDepthFirstBuilder {
          "      if ( n.present() ) {\n" +
 		 "         R _ret=null;\n" +
 		 "         int _count=0;\n" +
-         "         for ( Enumeration<Node> e = n.elements(); e.hasMoreElements(); ) {\n" +
-         "            e.nextElement().accept(this);\n" +
+         "         " + Globals.listLoop() + " {\n" +
+         "            " + Globals.listElement() + ".accept(this);\n" +
 		 "            _count++;\n" +
 		 "         }\n" +
 		 "         return _ret;\n" +
@@ -232,8 +232,8 @@ public class GJNoArguDepthFirstBuilder {
       buf.append(
 	     "      R _ret=null;\n" +
 		 "      int _count=0;\n" +
-         "      for ( Enumeration<Node> e = n.elements(); e.hasMoreElements(); ) {\n" +
-         "         e.nextElement().accept(this);\n" +
+         "      " + Globals.listLoop() + " {\n" +
+         "         " + Globals.listElement() + ".accept(this);\n" +
 		 "         _count++;\n" +
 		 "      }\n" +
 		 "      return _ret;\n" +
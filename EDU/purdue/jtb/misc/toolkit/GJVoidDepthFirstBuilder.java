@@ -95,7 +95,7 @@ public class GJVoidDepthFirstBuilder {
          if ( Globals.noOverwrite && file.exists() )
             throw new FileExistsException(outFilename);
 
-         PrintWriter out = new PrintWriter(new FileOutputStream(file), false);
+         PrintWriter out = new OutputFile(file);
          Spacing spc = new Spacing(INDENT_AMT);
 
          out.println(Globals.fileHeader(spc));
@@ -174,8 +174,8 @@ public class GJVoidDepthFirstBuilder {
 
       buf.append(
 		 "      int _count=0;\n" +
-         "      for ( Enumeration<Node> e = n.elements(); e.hasMoreElements(); ) {\n" +
-         "         e.nextElement().accept(this,argu);\n" +
+         "      " + Globals.listLoop() + " {\n" +
+         "         " + Globals.listElement() + ".accept(this,argu);\n" +
 		 "         _count++;\n" +
 		 "      }\n" +
          "   }\n");
@@ -191,8 +191,8 @@ public class GJVoidDepthFirstBuilder {
       buf.append(
          "      if ( n.present() ) {\n" +
 		 "         int _count=0;\n" +
-         "         for ( Enumeration<Node> e = n.elements(); e.hasMoreElements(); ) {\n" +
-         "            e.nextElement().accept(this,argu);\n" +
+         "         " + Globals.listLoop() + " {\n" +
+         "            " + Globals.listElement() + ".accept(this,argu);\n" +
 		 "            _count++;\n" +
 		 "         }\n" +
 		 "      }\n" +
@@ -221,8 +221,8 @@ public class GJVoidDepthFirstBuilder {
 
       buf.append(
 		 "      int _count=0;\n" +
-         "      for ( Enumeration<Node> e = n.elements(); e.hasMoreElements(); ) {\n" +
-         "         e.nextElement().accept(this,argu);\n" +
+         "      " + Globals.listLoop() + " {\n" +
+         "         " + Globals.listElement() + ".accept(this,argu);\n" +
 		 "         _count++;\n" +
 		 "      }\n" +
          "   }\n");
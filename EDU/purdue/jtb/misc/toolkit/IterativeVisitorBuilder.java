@@ -0,0 +1,177 @@
+package EDU.purdue.jtb.misc.toolkit;
+
+import java.util.*;
+import java.io.*;
+import EDU.purdue.jtb.misc.*;
+
+/**
+ * Class IterativeVisitorBuilder generates the IterativeDepthFirst visitor,
+ * which goes through a syntax tree in depth-first order with a stack of its
+ * own instead of the Java stack, so that it does not overflow on deep trees.
+ *
+ * Similar to EDU.purdue.jtb.misc.FileGenerator class.
+ */
+public class IterativeVisitorBuilder {
+   public static final String visitorName = "IterativeDepthFirst";
+   public static final String visitorFilename = visitorName + ".java";
+
+   private Vector classList;
+   private File visitorDir;
+
+   //
+   // Vector must contain objects of type ClassInfo
+   //
+   public IterativeVisitorBuilder(Vector classes) {
+      classList = classes;
+      visitorDir = new File(Globals.visitorDir);
+
+      if ( !visitorDir.exists() )
+         visitorDir.mkdir();
+   }
+
+   public void generateIterativeVisitor() throws FileExistsException {
+      try {
+         File file = new File(visitorDir, visitorFilename);
+
+         if ( Globals.noOverwrite && file.exists() )
+            throw new FileExistsException(visitorFilename);
+
+         PrintWriter out = new OutputFile(file);
+
+         out.println(Globals.fileHeader());
+         out.print(
+"package " + Globals.visitorPackage + ";\n\n" +
+(Globals.visitorPackage.equals(Globals.nodePackage) ? "" :
+"import " + Globals.nodePackage + ".*;\n") +
+"import java.util.*;\n\n" +
+"/**\n" +
+" * Visits a syntax tree in depth-first order, as DepthFirstVisitor does, but\n" +
+" * keeps the nodes still to visit in an array of its own rather than on the\n" +
+" * Java stack, so that it visits trees of any depth on any thread.  The\n" +
+" * array grows with the depth of the tree; nothing is allocated per node.\n" +
+" *\n" +
+" * Your visitors may extend this class and override pre(), called before the\n" +
+" * children of a node are visited, and post(), called after.  A NodeChoice\n" +
+" * is visited, and then its choice.  The special tokens are not visited.\n" +
+" *\n" +
+" * visit() goes through the whole tree.  The visit may also be done a step\n" +
+" * at a time with start() and step(), e.g. to suspend it and go on later.\n" +
+" */\n" +
+"public class " + visitorName + " {\n" +
+"   private static final Children children = new Children();\n\n" +
+
+"   private Node[] nodes = new Node[64];\n" +
+"   private boolean[] visited = new boolean[64];   // post() is next\n" +
+"   private int size;\n\n" +
+
+"   /**\n" +
+"    * Called when the visit gets to a node.  Returns whether its children\n" +
+"    * are visited; post() is called in any case.\n" +
+"    */\n" +
+"   protected boolean pre(Node n) { return true; }\n\n" +
+
+"   /**\n" +
+"    * Called when the visit leaves a node, after its children.\n" +
+"    */\n" +
+"   protected void post(Node n) { }\n\n" +
+
+"   public void visit(Node root) {\n" +
+"      start(root);\n" +
+"      while ( step() )\n" +
+"         ;\n" +
+"   }\n\n" +
+
+"   /**\n" +
+"    * Starts a visit of the tree, dropping the rest of the previous one.\n" +
+"    */\n" +
+"   public void start(Node root) {\n" +
+"      Arrays.fill(nodes, 0, size, null);\n" +
+"      size = 0;\n" +
+"      push(root);\n" +
+"   }\n\n" +
+
+"   /**\n" +
+"    * Goes to the next node, calling pre() or post().  Returns false when\n" +
+"    * the visit is over.\n" +
+"    */\n" +
+"   public boolean step() {\n" +
+"      if ( size == 0 )\n" +
+"         return false;\n\n" +
+
+"      Node n = nodes[--size];\n\n" +
+
+"      if ( visited[size] ) {\n" +
+"         nodes[size] = null;\n" +
+"         post(n);\n" +
+"      }\n" +
+"      else {\n" +
+"         visited[size++] = true;\n" +
+"         if ( pre(n) ) {\n" +
+"            if ( n instanceof NodeChoice )\n" +
+"               push(((NodeChoice)n).choice);\n" +
+"            else\n" +
+"               n.accept(children, this);\n" +
+"         }\n" +
+"      }\n" +
+"      return true;\n" +
+"   }\n\n" +
+
+"   /**\n" +
+"    * The number of nodes on the stack: those still to visit, and those\n" +
+"    * whose children are being visited.\n" +
+"    */\n" +
+"   public int pending() { return size; }\n\n" +
+
+"   private void push(Node n) {\n" +
+"      if ( n == null )\n" +
+"         return;\n" +
+"      if ( size == nodes.length ) {\n" +
+"         nodes = Arrays.copyOf(nodes, 2 * size);\n" +
+"         visited = Arrays.copyOf(visited, 2 * size);\n" +
+"      }\n" +
+"      nodes[size] = n;\n" +
+"      visited[size++] = false;\n" +
+"   }\n\n" +
+
+"   //\n" +
+"   // Pushes the children of a node, the last one first, so that they are\n" +
+"   // visited in order.\n" +
+"   //\n" +
+"   private static class Children implements " + Globals.GJVoidVisitorName +
+   "<" + visitorName + "> {\n" +
+"      private void pushAll(NodeListInterface n, " + visitorName + " v) {\n" +
+"         for ( int i = n.size() - 1; i >= 0; --i )\n" +
+"            v.push(n.elementAt(i));\n" +
+"      }\n\n" +
+
+"      public void visit(NodeList n, " + visitorName + " v)         { pushAll(n, v); }\n" +
+"      public void visit(NodeListOptional n, " + visitorName + " v) { pushAll(n, v); }\n" +
+"      public void visit(NodeSequence n, " + visitorName + " v)     { pushAll(n, v); }\n" +
+"      public void visit(NodeOptional n, " + visitorName + " v) {\n" +
+"         if ( n.present() )\n" +
+"            v.push(n.node);\n" +
+"      }\n" +
+"      public void visit(NodeToken n, " + visitorName + " v)        { }\n");
+
+         for ( Enumeration e = classList.elements(); e.hasMoreElements(); ) {
+            ClassInfo cur = (ClassInfo)e.nextElement();
+            Vector names = cur.getNameList();
+
+            out.println();
+            out.println("      public void visit(" + cur.getName() + " n, " +
+                        visitorName + " v) {");
+            for ( int i = names.size() - 1; i >= 0; --i )
+               out.println("         v.push(n." + (String)names.elementAt(i) + ");");
+            out.println("      }");
+         }
+
+         out.println("   }");
+         out.println("}");
+         out.flush();
+         out.close();
+      }
+      catch (IOException e) {
+         Errors.hardErr("Could not generate " + visitorFilename);
+      }
+   }
+}
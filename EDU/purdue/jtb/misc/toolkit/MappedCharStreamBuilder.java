@@ -0,0 +1,580 @@
+package EDU.purdue.jtb.misc.toolkit;
+
+import java.util.*;
+import java.io.*;
+import EDU.purdue.jtb.misc.*;
+import EDU.purdue.jtb.syntaxtree.*;
+import EDU.purdue.jtb.visitor.DepthFirstVisitor;
+
+/**
+ * Class MappedCharStreamBuilder generates MappedCharStream, the char stream
+ * JTB's own parser reads its grammar through (see
+ * EDU.purdue.jtb.parser.MappedCharStream), for the parser JavaCC generates
+ * from the output grammar.  It goes to the directory of that grammar, in the
+ * package of the parser, and extends JavaCharStream, or SimpleCharStream if
+ * the grammar does not set JAVA_UNICODE_ESCAPE, which it then reads without
+ * translating the unicode escapes.
+ *
+ * The char streams of a parser generated with STATIC = true, the default of
+ * JavaCC, have static methods, and USER_CHAR_STREAM replaces them by an
+ * interface, so MappedCharStream is not generated for those grammars.
+ */
+public class MappedCharStreamBuilder {
+   public static final String className = "MappedCharStream";
+   public static final String outFilename = className + ".java";
+
+   private File dir;
+   private String parserName;
+   private String packageName = null;   // null for the default package
+   private boolean isStatic = true;
+   private boolean unicodeEscape = false;
+   private boolean userCharStream = false;
+
+   public MappedCharStreamBuilder(JavaCCInput n) {
+      String parent = new File(Globals.outFilename).getParent();
+      dir = new File(parent == null ? "." : parent);
+      parserName = n.f3.tokenImage;
+
+      if ( n.f5.f0.present() )
+         packageName = tokens(((PackageDeclaration)n.f5.f0.node).f1);
+
+      if ( n.f0.f0.present() ) {
+         NodeListOptional bindings =
+            (NodeListOptional)((NodeSequence)n.f0.f0.node).elementAt(2);
+
+         for ( Enumeration<Node> e = bindings.elements(); e.hasMoreElements(); ) {
+            OptionBinding b = (OptionBinding)e.nextElement();
+            String name = tokens(b.f0);
+            boolean value = tokens(b.f2).equals("true");
+
+            if ( name.equalsIgnoreCase("STATIC") )
+               isStatic = value;
+            else if ( name.equalsIgnoreCase("JAVA_UNICODE_ESCAPE") )
+               unicodeEscape = value;
+            else if ( name.equalsIgnoreCase("USER_CHAR_STREAM") )
+               userCharStream = value;
+         }
+      }
+   }
+
+   // the images of the tokens of a node, one after the other
+   private static String tokens(Node n) {
+      final StringBuffer buf = new StringBuffer();
+
+      n.accept(new DepthFirstVisitor() {
+         public void visit(NodeToken t) { buf.append(t.tokenImage); }
+      });
+      return buf.toString();
+   }
+
+   /**
+    * The directory MappedCharStream is generated to.
+    */
+   public File getDir() {
+      return dir;
+   }
+
+   /**
+    * Returns false, after a warning, if the options of the grammar do not
+    * allow MappedCharStream.
+    */
+   public boolean generateMappedCharStream() throws FileExistsException {
+      if ( isStatic || userCharStream ) {
+         Errors.warning("-mcs: " + className + " needs STATIC = false and " +
+                        "no USER_CHAR_STREAM, not generated");
+         return false;
+      }
+
+      try {
+         File file = new File(dir, outFilename);
+
+         if ( Globals.noOverwrite && file.exists() )
+            throw new FileExistsException(outFilename);
+
+         PrintWriter out = new OutputFile(file);
+         String superClass = unicodeEscape ? "JavaCharStream" : "SimpleCharStream";
+
+         out.println(Globals.fileHeader());
+         out.print(
+(packageName == null ? "" : "package " + packageName + ";\n\n") +
+"import java.io.*;\n" +
+"import java.nio.ByteBuffer;\n" +
+"import java.nio.CharBuffer;\n" +
+"import java.nio.channels.FileChannel;\n" +
+"import java.nio.charset.Charset;\n" +
+"import java.nio.charset.CharsetDecoder;\n" +
+"import java.nio.charset.CoderResult;\n" +
+"import java.nio.charset.CodingErrorAction;\n" +
+"import java.util.Arrays;\n\n" +
+"/**\n" +
+" * A " + superClass + " reading the whole input at once instead of through a\n" +
+" * Reader and a 4096 character window.  A file is memory-mapped, or read in\n" +
+" * one call if it is small, and decoded in one pass" +
+   (unicodeEscape ? ", which also translates\n * the unicode escapes.  " : ".\n * ") +
+   "Instead of a line and a column for each buffered\n" +
+" * character, only the start of each line is kept, and the line and column\n" +
+" * of a position are computed when the token manager asks for them.\n" +
+" *\n" +
+" * To use it:\n" +
+" *\n" +
+" *    new " + parserName + "(new " + parserName + "TokenManager(new " + className +
+   "(file)))\n" +
+" */\n" +
+"public class " + className + " extends " + superClass + "\n" +
+"{\n" +
+"   // files this size or more are mapped rather than read\n" +
+"   private static final long MAP_THRESHOLD = 64 * 1024;\n" +
+"\n" +
+"   private char[] text;          // the characters, escapes translated\n" +
+"   private int length;\n" +
+"   private char[] raw;           // the input, text itself if no escapes\n" +
+"   private String invalidEscape; // the error at the end of text, if any\n" +
+"\n" +
+"   private int pos = -1;         // the last character read\n" +
+"   private int begin = 0;        // the first character of the token\n" +
+"\n" +
+"   // the indexes in text of the escaped characters, and the characters in\n" +
+"   // raw beyond one that each one and those before it take\n" +
+"   private int[] escapeAt;\n" +
+"   private int[] escapeShift;\n" +
+"   private int numEscapes;\n" +
+"   private int lastEscapes = 0;\n" +
+"\n" +
+"   // the offsets in raw of the start of each line from the second\n" +
+"   private int[] lineStart;\n" +
+"   private int numLines;\n" +
+"   private int lastFound = 1;\n" +
+"\n" +
+"   // the last position computed, from which the next one on the same line goes on\n" +
+"   private int lastRaw = -1;\n" +
+"   private int lastLine;\n" +
+"   private int lastColumn;\n" +
+"\n" +
+"   // the changes made by the start line and column, and adjustBeginLineColumn():\n" +
+"   // the lines from adjustFrom are shifted, and the columns from it on its line\n" +
+"   // go on from adjustColumn\n" +
+"   private int adjustFrom = 0;\n" +
+"   private int adjustLine = 1;\n" +
+"   private int adjustColumn = 0;\n" +
+"   private int lineShift = 0;\n" +
+"\n" +
+"   public MappedCharStream(File file) throws IOException {\n" +
+"      this(file, Charset.defaultCharset());\n" +
+"   }\n" +
+"\n" +
+"   public MappedCharStream(File file, Charset charset) throws IOException {\n" +
+"      super((Reader)null, 1, 1, 1);\n" +
+"      super.Done();\n" +
+"\n" +
+"      FileInputStream in = new FileInputStream(file);\n" +
+"      try {\n" +
+"         FileChannel channel = in.getChannel();\n" +
+"         long size = channel.size();\n" +
+"         ByteBuffer bytes;\n" +
+"\n" +
+"         if ( size >= MAP_THRESHOLD )\n" +
+"            bytes = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);\n" +
+"         else {\n" +
+"            bytes = ByteBuffer.allocate((int)size);\n" +
+"            while ( bytes.hasRemaining() && channel.read(bytes) != -1 ) ;\n" +
+"            bytes.flip();\n" +
+"         }\n" +
+"\n" +
+"         CharBuffer chars = decode(bytes, charset);\n" +
+"         init(chars.array(), chars.position(), 1, 1);\n" +
+"      }\n" +
+"      finally {\n" +
+"         in.close();\n" +
+"      }\n" +
+"   }\n" +
+"\n" +
+"   //\n" +
+"   // Decodes the bytes into an array-backed buffer, and returns it at the\n" +
+"   // end of the characters.  Malformed input is replaced, as by\n" +
+"   // InputStreamReader.  The decoders are much faster on arrays, so a mapped\n" +
+"   // file goes through a small array.\n" +
+"   //\n" +
+"   private static CharBuffer decode(ByteBuffer bytes, Charset charset)\n" +
+"      throws IOException\n" +
+"   {\n" +
+"      CharsetDecoder decoder = charset.newDecoder()\n" +
+"         .onMalformedInput(CodingErrorAction.REPLACE)\n" +
+"         .onUnmappableCharacter(CodingErrorAction.REPLACE);\n" +
+"      CharBuffer out = CharBuffer.allocate(\n" +
+"         (int)(bytes.remaining() * (double)decoder.maxCharsPerByte()) + 1);\n" +
+"      ByteBuffer in = bytes;\n" +
+"\n" +
+"      if ( !bytes.hasArray() )\n" +
+"         in = ByteBuffer.allocate((int)Math.min(bytes.remaining(), MAP_THRESHOLD));\n" +
+"\n" +
+"      for ( ;; ) {\n" +
+"         if ( in != bytes ) {\n" +
+"            int n = Math.min(in.remaining(), bytes.remaining());\n" +
+"            ByteBuffer slice = bytes.slice();\n" +
+"\n" +
+"            slice.limit(n);\n" +
+"            in.put(slice);\n" +
+"            bytes.position(bytes.position() + n);\n" +
+"            in.flip();\n" +
+"         }\n" +
+"\n" +
+"         CoderResult result = decoder.decode(in, out, in == bytes || !bytes.hasRemaining());\n" +
+"         if ( result.isError() )\n" +
+"            result.throwException();\n" +
+"\n" +
+"         if ( in == bytes )\n" +
+"            break;\n" +
+"         in.compact();\n" +
+"         if ( !bytes.hasRemaining() && in.position() == 0 )\n" +
+"            break;\n" +
+"      }\n" +
+"\n" +
+"      decoder.flush(out);\n" +
+"      return out;\n" +
+"   }\n" +
+"\n" +
+"   public MappedCharStream(Reader dstream, int startline, int startcolumn)\n" +
+"      throws IOException\n" +
+"   {\n" +
+"      super((Reader)null, 1, 1, 1);\n" +
+"      super.Done();\n" +
+"      ReInit(dstream, startline, startcolumn, 0);\n" +
+"   }\n" +
+"\n" +
+"   public MappedCharStream(Reader dstream) throws IOException {\n" +
+"      this(dstream, 1, 1);\n" +
+"   }\n" +
+"\n" +
+"   /**\n" +
+"    * Reads the whole Reader.  The other ReInit() methods come here.\n" +
+"    */\n" +
+"   public void ReInit(Reader dstream, int startline, int startcolumn,\n" +
+"                      int buffersize)\n" +
+"   {\n" +
+"      char[] a = new char[8192];\n" +
+"      int n = 0;\n" +
+"\n" +
+"      try {\n" +
+"         for ( int i; (i = dstream.read(a, n, a.length - n)) != -1; ) {\n" +
+"            n += i;\n" +
+"            if ( n == a.length )\n" +
+"               a = Arrays.copyOf(a, a.length * 2);\n" +
+"         }\n" +
+"      }\n" +
+"      catch (IOException e) {\n" +
+"         throw new Error(e.getMessage());\n" +
+"      }\n" +
+"\n" +
+"      init(a, n, startline, startcolumn);\n" +
+"   }\n" +
+"\n" +
+"   //\n" +
+"   // " + (unicodeEscape ? "Translates the escapes and finds" : "Finds") +
+   " the line starts, as " + superClass + " does\n" +
+"   // while reading\n" +
+"   //\n" +
+"   private void init(char[] input, int inputLength, int startline, int startcolumn) {\n" +
+"      raw = input;\n" +
+"      invalidEscape = null;\n" +
+"      pos = -1;\n" +
+"      begin = 0;\n" +
+"      escapeAt = escapeShift = null;\n" +
+"      numEscapes = lastEscapes = 0;\n" +
+"      lineStart = new int[Math.max(16, inputLength / 32)];\n" +
+"      numLines = 1;\n" +
+"      lastFound = 1;\n" +
+"      lastRaw = -1;\n" +
+"\n" +
+"      adjustFrom = 0;\n" +
+"      adjustLine = 1;\n" +
+"      adjustColumn = startcolumn - 1;\n" +
+"      lineShift = startline - 1;\n" +
+"\n" +
+initLoopCode(unicodeEscape) +
+"   }\n" +
+"\n" +
+"   private void addLineStart(int r) {\n" +
+"      if ( numLines - 1 == lineStart.length )\n" +
+"         lineStart = Arrays.copyOf(lineStart, lineStart.length * 2);\n" +
+"      lineStart[numLines++ - 1] = r;\n" +
+"   }\n" +
+"\n" +
+"   private void addEscape(int at, int extra) {\n" +
+"      if ( escapeAt == null ) {\n" +
+"         escapeAt = new int[16];\n" +
+"         escapeShift = new int[16];\n" +
+"      }\n" +
+"      else if ( numEscapes == escapeAt.length ) {\n" +
+"         escapeAt = Arrays.copyOf(escapeAt, numEscapes * 2);\n" +
+"         escapeShift = Arrays.copyOf(escapeShift, numEscapes * 2);\n" +
+"      }\n" +
+"\n" +
+"      escapeAt[numEscapes] = at;\n" +
+"      escapeShift[numEscapes] = extra + (numEscapes > 0 ? escapeShift[numEscapes - 1] : 0);\n" +
+"      ++numEscapes;\n" +
+"   }\n" +
+"\n" +
+"   //\n" +
+"   // Positions\n" +
+"   //\n" +
+"\n" +
+"   // the offset in raw of the character i of text\n" +
+"   private int rawOffset(int i) {\n" +
+"      if ( numEscapes == 0 || i <= escapeAt[0] )\n" +
+"         return i;\n" +
+"\n" +
+"      int k = escapesBefore(i);\n" +
+"      return k == 0 ? i : i + escapeShift[k - 1];\n" +
+"   }\n" +
+"\n" +
+"   // the number of escapes before the character i of text, found like the\n" +
+"   // lines, from the last one\n" +
+"   private int escapesBefore(int i) {\n" +
+"      int k = lastEscapes;\n" +
+"\n" +
+"      if ( k == 0 || escapeAt[k - 1] < i ) {\n" +
+"         for ( int n = 0; n < 4; ++n ) {\n" +
+"            if ( k == numEscapes || escapeAt[k] >= i )\n" +
+"               return lastEscapes = k;\n" +
+"            ++k;\n" +
+"         }\n" +
+"      }\n" +
+"\n" +
+"      k = Arrays.binarySearch(escapeAt, 0, numEscapes, i);\n" +
+"      return lastEscapes = k >= 0 ? k : -k - 1;\n" +
+"   }\n" +
+"\n" +
+"   // the line of raw offset r, from 1, without the adjustments; the\n" +
+"   // positions asked for mostly follow each other, so the last line found is\n" +
+"   // tried first, then the next ones\n" +
+"   private int line(int r) {\n" +
+"      if ( r >= lineStart(lastFound) ) {\n" +
+"         for ( int i = 0; i < 4; ++i ) {\n" +
+"            if ( lastFound == numLines || r < lineStart(lastFound + 1) )\n" +
+"               return lastFound;\n" +
+"            ++lastFound;\n" +
+"         }\n" +
+"      }\n" +
+"\n" +
+"      int k = Arrays.binarySearch(lineStart, 0, numLines - 1, r);\n" +
+"      return lastFound = k >= 0 ? k + 2 : -k;\n" +
+"   }\n" +
+"\n" +
+"   // the offset in raw of the start of a line\n" +
+"   private int lineStart(int line) {\n" +
+"      return line == 1 ? 0 : lineStart[line - 2];\n" +
+"   }\n" +
+"\n" +
+"   // the column of raw offset r, from 1, tabs expanded; on the line of\n" +
+"   // adjustFrom, the columns go on from adjustColumn there\n" +
+"   private int column(int r) {\n" +
+"      int line = r < 0 ? 1 : line(r);\n" +
+"      boolean adjusted = line == adjustLine && Math.max(r, 0) >= adjustFrom;\n" +
+"      int from, col;\n" +
+"\n" +
+"      if ( lastRaw >= 0 && lastLine == line && lastRaw <= r &&\n" +
+"           (!adjusted || lastRaw >= adjustFrom) ) {\n" +
+"         from = lastRaw + 1;\n" +
+"         col = lastColumn;\n" +
+"      }\n" +
+"      else if ( adjusted ) {\n" +
+"         from = adjustFrom;\n" +
+"         col = adjustColumn;\n" +
+"      }\n" +
+"      else {\n" +
+"         from = lineStart(line);\n" +
+"         col = 0;\n" +
+"      }\n" +
+"\n" +
+"      for ( int j = from; j <= r; ++j ) {\n" +
+"         ++col;\n" +
+"         if ( raw[j] == '\\t' ) {\n" +
+"            --col;\n" +
+"            col += 8 - (col & 07);\n" +
+"         }\n" +
+"      }\n" +
+"\n" +
+"      if ( r >= 0 ) {\n" +
+"         lastRaw = r;\n" +
+"         lastLine = line;\n" +
+"         lastColumn = col;\n" +
+"      }\n" +
+"      return col;\n" +
+"   }\n" +
+"\n" +
+"   private int lineAt(int i) {\n" +
+"      int r = rawOffset(Math.max(i, 0));\n" +
+"      int line = i < 0 ? 1 : line(r);\n" +
+"      return r >= adjustFrom ? line + lineShift : line;\n" +
+"   }\n" +
+"\n" +
+"   private int columnAt(int i) {\n" +
+"      return column(i < 0 ? -1 : rawOffset(i));\n" +
+"   }\n" +
+"\n" +
+"   //\n" +
+"   // " + superClass + "\n" +
+"   //\n" +
+"   public char BeginToken() throws IOException {\n" +
+"      begin = pos + 1;\n" +
+"      try {\n" +
+"         return readChar();\n" +
+"      }\n" +
+"      catch (IOException e) {\n" +
+"         begin = pos;     // at the end, the position of the last character\n" +
+"         throw e;\n" +
+"      }\n" +
+"   }\n" +
+"\n" +
+"   public char readChar() throws IOException {\n" +
+"      if ( pos + 1 < length )\n" +
+"         return text[++pos];\n" +
+"      if ( invalidEscape != null )\n" +
+"         throw new Error(invalidEscape);\n" +
+"      throw new IOException();\n" +
+"   }\n" +
+"\n" +
+"   public void backup(int amount) {\n" +
+"      pos -= amount;\n" +
+"   }\n" +
+"\n" +
+"   /**\n" +
+"    * @deprecated\n" +
+"    * @see #getEndColumn\n" +
+"    */\n" +
+"   public int getColumn()        { return columnAt(pos); }\n" +
+"\n" +
+"   /**\n" +
+"    * @deprecated\n" +
+"    * @see #getEndLine\n" +
+"    */\n" +
+"   public int getLine()          { return lineAt(pos); }\n" +
+"\n" +
+"   public int getEndColumn()     { return columnAt(pos); }\n" +
+"   public int getEndLine()       { return lineAt(pos); }\n" +
+"   public int getBeginColumn()   { return columnAt(begin); }\n" +
+"   public int getBeginLine()     { return lineAt(begin); }\n" +
+"\n" +
+"   public String GetImage() {\n" +
+"      return new String(text, begin, pos - begin + 1);\n" +
+"   }\n" +
+"\n" +
+"   public char[] GetSuffix(int len) {\n" +
+"      char[] ret = new char[len];\n" +
+"      System.arraycopy(text, pos - len + 1, ret, 0, len);\n" +
+"      return ret;\n" +
+"   }\n" +
+"\n" +
+"   public void Done() {\n" +
+"      text = raw = null;\n" +
+"      lineStart = escapeAt = escapeShift = null;\n" +
+"   }\n" +
+"\n" +
+"   /**\n" +
+"    * Method to adjust line and column numbers for the start of a token.  The\n" +
+"    * next characters of its line go on from the new column, and the next\n" +
+"    * lines are numbered from the new line.\n" +
+"    */\n" +
+"   public void adjustBeginLineColumn(int newLine, int newCol) {\n" +
+"      int r = rawOffset(Math.max(begin, 0));\n" +
+"\n" +
+"      lineShift += newLine - getBeginLine();\n" +
+"      adjustFrom = r;\n" +
+"      adjustLine = line(r);\n" +
+"      adjustColumn = newCol - 1;\n" +
+"      lastRaw = -1;\n" +
+"   }\n" +
+"}\n");
+         out.close();
+      }
+      catch (IOException e) {
+         Errors.hardErr("Could not generate " + outFilename);
+      }
+      return true;
+   }
+
+   // the characters go to text, through out with the escapes translated
+   private static String initLoopCode(boolean unicodeEscape) {
+      if ( !unicodeEscape )
+         return
+"      for ( int r = 0; r < inputLength; ++r ) {\n" +
+"         char c = input[r];\n\n" +
+"         if ( c == '\\n' || (c == '\\r' && (r + 1 == inputLength || input[r + 1] != '\\n')) )\n" +
+"            addLineStart(r + 1);\n" +
+"      }\n\n" +
+"      text = input;\n" +
+"      length = inputLength;\n";
+
+      return
+"      // the characters go to out, input itself until the first escape\n" +
+"      char[] out = input;\n" +
+"      int n = 0;\n" +
+"\n" +
+"      for ( int r = 0; r < inputLength; ) {\n" +
+"         char c = input[r];\n" +
+"\n" +
+"         if ( c > '\\\\' ) {\n" +
+"            if ( out != input ) out[n] = c;\n" +
+"            ++n;\n" +
+"            ++r;\n" +
+"            continue;\n" +
+"         }\n" +
+"\n" +
+"         if ( c == '\\n' || (c == '\\r' && (r + 1 == inputLength || input[r + 1] != '\\n')) )\n" +
+"            addLineStart(r + 1);\n" +
+"\n" +
+"         if ( c != '\\\\' ) {\n" +
+"            if ( out != input ) out[n] = c;\n" +
+"            ++n;\n" +
+"            ++r;\n" +
+"            continue;\n" +
+"         }\n" +
+"\n" +
+"         // a run of backslashes; with an odd number of them followed by a\n" +
+"         // u, the last one starts an escape\n" +
+"         int count = 1;\n" +
+"         while ( r + count < inputLength && input[r + count] == '\\\\' )\n" +
+"            ++count;\n" +
+"\n" +
+"         if ( (count & 1) == 0 || r + count == inputLength || input[r + count] != 'u' ) {\n" +
+"            for ( int i = 0; i < count; ++i )\n" +
+"               out[n++] = '\\\\';\n" +
+"            r += count;\n" +
+"            continue;\n" +
+"         }\n" +
+"\n" +
+"         for ( int i = 0; i < count - 1; ++i )\n" +
+"            out[n++] = '\\\\';\n" +
+"         r += count - 1;\n" +
+"\n" +
+"         int end = r + 1;\n" +
+"         while ( end < inputLength && input[end] == 'u' )\n" +
+"            ++end;\n" +
+"\n" +
+"         int value = 0;\n" +
+"         for ( int i = 0; i < 4; ++i ) {\n" +
+"            int digit = end + i < inputLength && input[end + i] < 128 ?\n" +
+"                        Character.digit(input[end + i], 16) : -1;\n" +
+"\n" +
+"            if ( digit < 0 ) {\n" +
+"               invalidEscape = \"Invalid escape character at line \" +\n" +
+"                  (line(r) + lineShift) + \" column \" + column(end - 1) + \".\";\n" +
+"               break;\n" +
+"            }\n" +
+"            value = value << 4 | digit;\n" +
+"         }\n" +
+"         if ( invalidEscape != null )\n" +
+"            break;\n" +
+"         end += 4;\n" +
+"\n" +
+"         if ( out == input )\n" +
+"            out = Arrays.copyOf(input, inputLength);\n" +
+"         addEscape(n, end - r - 1);\n" +
+"         out[n++] = (char)value;\n" +
+"         r = end;\n" +
+"      }\n" +
+"\n" +
+"      text = out;\n" +
+"      length = n;\n";
+   }
+}
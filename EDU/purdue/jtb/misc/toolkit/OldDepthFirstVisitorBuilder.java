@@ -95,7 +95,7 @@ public class OldDepthFirstVisitorBuilder {
          if ( Globals.noOverwrite && file.exists() )
             throw new FileExistsException(outFilename);
 
-         PrintWriter out = new PrintWriter(new FileOutputStream(file), false);
+         PrintWriter out = new OutputFile(file);
          Spacing spc = new Spacing(INDENT_AMT);
 
          out.println(Globals.fileHeader(spc));
@@ -174,8 +174,8 @@ public class OldDepthFirstVisitorBuilder {
       buf.append("   public void visit(NodeList n) {\n");
 
       buf.append(
-         "      for ( Enumeration<Node> e = n.elements(); e.hasMoreElements(); )\n" +
-         "         e.nextElement().accept(this);\n" +
+         "      " + Globals.listLoop() + "\n" +
+         "         " + Globals.listElement() + ".accept(this);\n" +
          "   }\n");
 
       return buf.toString();
@@ -188,8 +188,8 @@ public class OldDepthFirstVisitorBuilder {
 
       buf.append(
          "      if ( n.present() )\n" +
-         "         for ( Enumeration<Node> e = n.elements(); e.hasMoreElements(); )\n" +
-         "            e.nextElement().accept(this);\n" +
+         "         " + Globals.listLoop() + "\n" +
+         "            " + Globals.listElement() + ".accept(this);\n" +
          "   }\n");
 
       return buf.toString();
@@ -214,8 +214,8 @@ public class OldDepthFirstVisitorBuilder {
       buf.append("   public void visit(NodeSequence n) {\n");
 
       buf.append(
-         "      for ( Enumeration<Node> e = n.elements(); e.hasMoreElements(); )\n" +
-         "         e.nextElement().accept(this);\n" +
+         "      " + Globals.listLoop() + "\n" +
+         "         " + Globals.listElement() + ".accept(this);\n" +
          "   }\n");
 
       return buf.toString();
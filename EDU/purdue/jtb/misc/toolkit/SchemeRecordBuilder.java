@@ -84,12 +84,12 @@ public class SchemeRecordBuilder {
 
    public void generateSchemeRecords() throws FileExistsException {
       try {
-         File file = new File(outFilename);
+         File file = new File(Globals.recordsFilename);
 
          if ( Globals.noOverwrite && file.exists() )
-            throw new FileExistsException(outFilename);
+            throw new FileExistsException(Globals.recordsFilename);
 
-         out = new PrintWriter(new FileOutputStream(file), false);
+         out = new OutputFile(file);
 
          for ( Enumeration e = classList.elements(); e.hasMoreElements(); ) {
             ClassInfo cur = (ClassInfo)e.nextElement();
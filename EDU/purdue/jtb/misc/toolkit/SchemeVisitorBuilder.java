@@ -94,7 +94,7 @@ public class SchemeVisitorBuilder {
          if ( Globals.noOverwrite && file.exists() )
             throw new FileExistsException(outFilename);
 
-         out = new PrintWriter(new FileOutputStream(file), false);
+         out = new OutputFile(file);
          Spacing spc = new Spacing(INDENT_AMT);
          boolean firstProd = true;
 
@@ -207,15 +207,15 @@ public class SchemeVisitorBuilder {
 out.println(
 "   public void visit(NodeList n) {\n" +
 "      out.print(\"(\");\n" +
-"      for ( Enumeration<Node> e = n.elements(); e.hasMoreElements(); )\n" +
-"         e.nextElement().accept(this);\n" +
+"      " + Globals.listLoop() + "\n" +
+"         " + Globals.listElement() + ".accept(this);\n" +
 "      out.print(\") \");\n" +
 "   }\n\n" +
 
 "   public void visit(NodeListOptional n) {\n" +
 "      out.print(\"( \");\n" +
-"      for ( Enumeration<Node> e = n.elements(); e.hasMoreElements(); )\n" +
-"         e.nextElement().accept(this);\n" +
+"      " + Globals.listLoop() + "\n" +
+"         " + Globals.listElement() + ".accept(this);\n" +
 "      out.print(\") \");\n" +
 "   }\n\n" +
 
@@ -0,0 +1,137 @@
+package EDU.purdue.jtb.misc.toolkit;
+
+import java.util.*;
+import java.io.*;
+import EDU.purdue.jtb.misc.*;
+
+/**
+ * Class SwitchVisitorBuilder generates the SwitchDepthFirst visitor, which
+ * goes through a syntax tree as DepthFirstVisitor does, but gets from a node
+ * to the visit method of its class with a switch on Node.nodeKind() rather
+ * than through accept().
+ *
+ * Similar to EDU.purdue.jtb.misc.FileGenerator class.
+ */
+public class SwitchVisitorBuilder {
+   public static final String visitorName = "SwitchDepthFirst";
+   public static final String visitorFilename = visitorName + ".java";
+
+   private Vector classList;
+   private File visitorDir;
+
+   //
+   // Vector must contain objects of type ClassInfo
+   //
+   public SwitchVisitorBuilder(Vector classes) {
+      classList = classes;
+      visitorDir = new File(Globals.visitorDir);
+
+      if ( !visitorDir.exists() )
+         visitorDir.mkdir();
+   }
+
+   public void generateSwitchVisitor() throws FileExistsException {
+      try {
+         File file = new File(visitorDir, visitorFilename);
+
+         if ( Globals.noOverwrite && file.exists() )
+            throw new FileExistsException(visitorFilename);
+
+         PrintWriter out = new OutputFile(file);
+         Spacing spc = new Spacing(3);
+
+         out.println(Globals.fileHeader());
+         out.print(
+"package " + Globals.visitorPackage + ";\n\n" +
+(Globals.visitorPackage.equals(Globals.nodePackage) ? "" :
+"import " + Globals.nodePackage + ".*;\n") +
+"import java.util.*;\n\n" +
+"/**\n" +
+" * Visits a syntax tree in depth-first order, as DepthFirstVisitor does, but\n" +
+" * without accept(): visit(Node) switches on the kind of the node.  A child\n" +
+" * whose field has the type of its class is visited directly, so that most\n" +
+" * calls go to a known method.  Your visitors may extend this class and\n" +
+" * override the methods of the classes they handle, calling super to go on\n" +
+" * below them.\n" +
+" */\n" +
+"public class " + visitorName + " {\n" +
+"   public void visit(Node n) {\n" +
+"      switch ( n.nodeKind() ) {\n");
+
+         String[] auto = KindNames.autoClasses;
+         KindNames kinds = KindNames.withAutoClasses();
+
+         for ( int i = 0; i < auto.length; ++i )
+            out.println("         case NodeKind." + kinds.get(i) + ":  visit((" +
+                        auto[i] + ")n); break;");
+         for ( Enumeration e = classList.elements(); e.hasMoreElements(); ) {
+            ClassInfo cur = (ClassInfo)e.nextElement();
+            out.println("         case NodeKind." + cur.getKindName() + ":  visit((" +
+                        cur.getName() + ")n); break;");
+         }
+
+         out.print(
+"         default:\n" +
+"            throw new IllegalStateException(\"node of unknown kind \" + n.nodeKind());\n" +
+"      }\n" +
+"   }\n\n" +
+
+"   //\n" +
+"   // Auto class visitors--probably don't need to be overridden.\n" +
+"   //\n" +
+"   public void visit(NodeList n) {\n" +
+"      " + Globals.listLoop() + "\n" +
+"         visit(" + Globals.listElement() + ");\n" +
+"   }\n\n" +
+
+"   public void visit(NodeListOptional n) {\n" +
+"      " + Globals.listLoop() + "\n" +
+"         visit(" + Globals.listElement() + ");\n" +
+"   }\n\n" +
+
+"   public void visit(NodeOptional n) {\n" +
+"      if ( n.present() )\n" +
+"         visit(n.node);\n" +
+"   }\n\n" +
+
+"   public void visit(NodeSequence n) {\n" +
+"      " + Globals.listLoop() + "\n" +
+"         visit(" + Globals.listElement() + ");\n" +
+"   }\n\n" +
+
+"   public void visit(NodeToken n) { }\n\n" +
+
+"   public void visit(NodeChoice n) {\n" +
+"      visit(n.choice);\n" +
+"   }\n\n" +
+
+"   //\n" +
+"   // User-generated visitor methods below\n" +
+"   //\n\n");
+
+         spc.updateSpc(+1);
+         for ( Enumeration e = classList.elements(); e.hasMoreElements(); ) {
+            ClassInfo cur = (ClassInfo)e.nextElement();
+
+            out.println(spc.spc + "/**");
+            if ( Globals.javaDocComments ) out.println(spc.spc + " * <PRE>");
+            out.println(cur.getEbnfProduction(spc));
+            if ( Globals.javaDocComments ) out.println(spc.spc + " * </PRE>");
+            out.println(spc.spc + " */");
+            out.println(spc.spc + "public void visit(" + cur.getName() + " n) {");
+            for ( Enumeration f = cur.getNameList().elements();
+                  f.hasMoreElements(); )
+               out.println(spc.spc + "   visit(n." + (String)f.nextElement() + ");");
+            out.println(spc.spc + "}\n");
+         }
+         spc.updateSpc(-1);
+
+         out.println("}");
+         out.flush();
+         out.close();
+      }
+      catch (IOException e) {
+         Errors.hardErr("Could not generate " + visitorFilename);
+      }
+   }
+}
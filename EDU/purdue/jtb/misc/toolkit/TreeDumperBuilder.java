@@ -87,7 +87,7 @@ public class TreeDumperBuilder {
          if ( Globals.noOverwrite && file.exists() )
             throw new FileExistsException(outFilename);
 
-         PrintWriter out = new PrintWriter(new FileOutputStream(file), false);
+         PrintWriter out = new OutputFile(file);
 
          out.println(Globals.fileHeader());
          out.print(
@@ -154,7 +154,7 @@ public class TreeDumperBuilder {
    out.print("   public void visit(NodeToken n) {\n");
 
    out.print(
-"      if ( n.beginLine == -1 || n.beginColumn == -1 ) {\n" +
+"      if ( " + Globals.tokenGet("n", "beginLine") + " == -1 || " + Globals.tokenGet("n", "beginColumn") + " == -1 ) {\n" +
 "         printToken(n.tokenImage);\n" +
 "         return;\n" +
 "      }\n\n" +
@@ -163,43 +163,46 @@ public class TreeDumperBuilder {
 "      // Handle special tokens\n" +
 "      //\n" +
 "      if ( printSpecials && n.numSpecials() > 0 )\n" +
+(Globals.arrayLists || Globals.compactTokens ?
+"         for ( int i = 0; i < n.numSpecials(); ++i )\n" +
+"            visit(n.getSpecialAt(i));\n\n" :
 "         for ( Enumeration<NodeToken> e = n.specialTokens.elements(); e.hasMoreElements(); )\n" +
-"            visit(e.nextElement());\n\n" +
+"            visit(e.nextElement());\n\n") +
 
 "      //\n" +
 "      // Handle startAtNextToken option\n" +
 "      //\n" +
 "      if ( startAtNextToken ) {\n" +
-"         curLine = n.beginLine;\n" +
+"         curLine = " + Globals.tokenGet("n", "beginLine") + ";\n" +
 "         curColumn = 1;\n" +
 "         startAtNextToken = false;\n\n" +
-"         if ( n.beginColumn < curColumn )\n" +
+"         if ( " + Globals.tokenGet("n", "beginColumn") + " < curColumn )\n" +
 "            out.println();\n" +
 "      }\n\n" +
 
 "      //\n" +
 "      // Check for invalid token position relative to current position.\n" +
 "      //\n" +
-"      if ( n.beginLine < curLine )\n" +
+"      if ( " + Globals.tokenGet("n", "beginLine") + " < curLine )\n" +
 "         throw new IllegalStateException(\"at token \\\"\" + n.tokenImage +\n"+
-"            \"\\\", n.beginLine = \" + Integer.toString(n.beginLine) +\n"+
+"            \"\\\", n.beginLine = \" + Integer.toString(" + Globals.tokenGet("n", "beginLine") + ") +\n"+
 "            \", curLine = \" + Integer.toString(curLine));\n" +
-"      else if ( n.beginLine == curLine && n.beginColumn < curColumn )\n" +
+"      else if ( " + Globals.tokenGet("n", "beginLine") + " == curLine && " + Globals.tokenGet("n", "beginColumn") + " < curColumn )\n" +
 "         throw new IllegalStateException(\"at token \\\"\" + n.tokenImage +\n"+
 "            \"\\\", n.beginColumn = \" +\n" +
-"            Integer.toString(n.beginColumn) + \", curColumn = \" +\n" +
+"            Integer.toString(" + Globals.tokenGet("n", "beginColumn") + ") + \", curColumn = \" +\n" +
 "            Integer.toString(curColumn));\n\n" +
 
 "      //\n" +
 "      // Move output \"cursor\" to proper location, then print the token\n" +
 "      //\n" +
-"      if ( curLine < n.beginLine ) {\n" +
+"      if ( curLine < " + Globals.tokenGet("n", "beginLine") + " ) {\n" +
 "         curColumn = 1;\n" +
-"         for ( ; curLine < n.beginLine; ++curLine )\n" +
+"         for ( ; curLine < " + Globals.tokenGet("n", "beginLine") + "; ++curLine )\n" +
 "            out.println();\n" +
 "      }\n\n" +
 
-"      for ( ; curColumn < n.beginColumn; ++curColumn )\n" +
+"      for ( ; curColumn < " + Globals.tokenGet("n", "beginColumn") + "; ++curColumn )\n" +
 "         out.print(\" \");\n\n" +
 
 "      printToken(n.tokenImage);\n" +
@@ -221,6 +224,7 @@ public class TreeDumperBuilder {
 "   }\n" +
 "}\n");
          out.flush();
+         out.close();
       }
       catch (IOException e) {
          Errors.hardErr("Could not generate " + outFilename);
@@ -102,7 +102,7 @@ public class TreeFormatterBuilder {
          if ( file.exists() )
             throw new FileExistsException(outFilename);
 
-         out = new PrintWriter(new FileOutputStream(file), false);
+         out = new OutputFile(file);
 
          out.println(Globals.fileHeader());
          out.print(
@@ -159,9 +159,10 @@ public class TreeFormatterBuilder {
 "      processList(n, null);\n" +
 "   }\n\n" +
 "   protected void processList(NodeListInterface n, FormatCommand cmd) {\n" +
-"      for ( Enumeration<Node> e = n.elements(); e.hasMoreElements(); ) {\n" +
-"         e.nextElement().accept(this);\n" +
-"         if ( cmd != null && e.hasMoreElements() )\n" +
+"      " + Globals.listLoop() + " {\n" +
+"         " + Globals.listElement() + ".accept(this);\n" +
+"         if ( cmd != null && " +
+            (Globals.arrayLists ? "i < n.size() - 1" : "e.hasMoreElements()") + " )\n" +
 "            cmdQueue.addElement(cmd);\n" +
 "      }\n" +
 "   }\n\n" +
@@ -242,20 +243,23 @@ public class TreeFormatterBuilder {
 "      // Handle all special tokens preceding this NodeToken\n" +
 "      //\n" +
 "      if ( n.numSpecials() > 0 )\n" +
+(Globals.arrayLists || Globals.compactTokens ?
+"         for ( int i = 0; i < n.numSpecials(); ++i ) {\n" +
+"            NodeToken special = n.getSpecialAt(i);\n\n" :
 "         for ( Enumeration<NodeToken> e = n.specialTokens.elements();\n" +
 "               e.hasMoreElements(); ) {\n" +
-"            NodeToken special = e.nextElement();\n\n" +
+"            NodeToken special = e.nextElement();\n\n") +
 "            //\n" +
 "            // -Place the token.\n" +
 "            // -Move cursor to next line after the special token.\n" +
 "            // -Don't update curColumn--want to keep current indent level.\n" +
 "            //\n" +
 "            placeToken(special, curLine, curColumn);\n" +
-"            curLine = special.endLine + 1;\n" +
+"            curLine = " + Globals.tokenGet("special", "endLine") + " + 1;\n" +
 "         }\n\n" +
 "      placeToken(n, curLine, curColumn);\n" +
-"      curLine = n.endLine;\n" +
-"      curColumn = n.endColumn;\n" +
+"      curLine = " + Globals.tokenGet("n", "endLine") + ";\n" +
+"      curColumn = " + Globals.tokenGet("n", "endColumn") + ";\n" +
 "   }\n\n" +
 "   /**\n" +
 "    * Inserts token location (beginLine, beginColumn, endLine, endColumn)\n" +
@@ -269,13 +273,13 @@ public class TreeFormatterBuilder {
 "      //\n" +
 "      if ( !lineWrap || n.tokenImage.indexOf('\\n') != -1 ||\n" +
 "           column + length <= wrapWidth )\n" +
-"         n.beginColumn = column;\n" +
+"         " + Globals.tokenSet("n", "beginColumn", "column") + ";\n" +
 "      else {\n" +
 "         ++line;\n" +
 "         column = curIndent + indentAmt + 1;\n" +
-"         n.beginColumn = column;\n" +
+"         " + Globals.tokenSet("n", "beginColumn", "column") + ";\n" +
 "      }\n\n" +
-"      n.beginLine = line;\n\n" +
+"      " + Globals.tokenSet("n", "beginLine", "line") + ";\n\n" +
 "      //\n" +
 "      // Find end of token; don't count \\n if it's the last character\n" +
 "      //\n" +
@@ -287,8 +291,8 @@ public class TreeFormatterBuilder {
 "         else\n" +
 "            ++column;\n" +
 "      }\n\n" +
-"      n.endLine = line;\n" +
-"      n.endColumn = column;\n" +
+"      " + Globals.tokenSet("n", "endLine", "line") + ";\n" +
+"      " + Globals.tokenSet("n", "endColumn", "column") + ";\n" +
 "   }\n\n" +
 "   //\n" +
 "   // User-generated visitor methods below\n" +
@@ -372,6 +376,7 @@ public class TreeFormatterBuilder {
 "}\n");
 
          out.flush();
+         out.close();
       }
       catch (IOException e) {
          Errors.hardErr("Could not generate " + outFilename);
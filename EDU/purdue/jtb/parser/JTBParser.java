@@ -8,7 +8,7 @@ import java.util.Vector;
 
 public class JTBParser implements JTBParserConstants {
 
-  static final public CompilationUnit CompilationUnit() throws ParseException {
+  final public CompilationUnit CompilationUnit() throws ParseException {
    NodeOptional n0 = new NodeOptional();
    PackageDeclaration n1;
    NodeListOptional n2 = new NodeListOptional();
@@ -64,7 +64,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public PackageDeclaration PackageDeclaration() throws ParseException {
+  final public PackageDeclaration PackageDeclaration() throws ParseException {
    NodeToken n0;
    Token n1;
    Name n2;
@@ -82,7 +82,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public ImportDeclaration ImportDeclaration() throws ParseException {
+  final public ImportDeclaration ImportDeclaration() throws ParseException {
    NodeToken n0;
    Token n1;
    Name n2;
@@ -121,7 +121,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public TypeDeclaration TypeDeclaration() throws ParseException {
+  final public TypeDeclaration TypeDeclaration() throws ParseException {
    NodeChoice n0;
    ClassDeclaration n1;
    InterfaceDeclaration n2;
@@ -156,7 +156,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public ClassDeclaration ClassDeclaration() throws ParseException {
+  final public ClassDeclaration ClassDeclaration() throws ParseException {
    NodeListOptional n0 = new NodeListOptional();
    NodeChoice n1;
    NodeToken n2;
@@ -210,7 +210,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public UnmodifiedClassDeclaration UnmodifiedClassDeclaration() throws ParseException {
+  final public UnmodifiedClassDeclaration UnmodifiedClassDeclaration() throws ParseException {
    NodeToken n0;
    Token n1;
    NodeToken n2;
@@ -266,7 +266,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public ClassBody ClassBody() throws ParseException {
+  final public ClassBody ClassBody() throws ParseException {
    NodeToken n0;
    Token n1;
    NodeListOptional n2 = new NodeListOptional();
@@ -320,7 +320,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public NestedClassDeclaration NestedClassDeclaration() throws ParseException {
+  final public NestedClassDeclaration NestedClassDeclaration() throws ParseException {
    NodeListOptional n0 = new NodeListOptional();
    NodeChoice n1;
    NodeToken n2;
@@ -398,7 +398,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public ClassBodyDeclaration ClassBodyDeclaration() throws ParseException {
+  final public ClassBodyDeclaration ClassBodyDeclaration() throws ParseException {
    NodeChoice n0;
    Initializer n1;
    NestedClassDeclaration n2;
@@ -455,7 +455,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public MethodDeclarationLookahead MethodDeclarationLookahead() throws ParseException {
+  final public MethodDeclarationLookahead MethodDeclarationLookahead() throws ParseException {
    NodeListOptional n0 = new NodeListOptional();
    NodeChoice n1;
    NodeToken n2;
@@ -557,7 +557,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public InterfaceDeclaration InterfaceDeclaration() throws ParseException {
+  final public InterfaceDeclaration InterfaceDeclaration() throws ParseException {
    NodeListOptional n0 = new NodeListOptional();
    NodeChoice n1;
    NodeToken n2;
@@ -603,7 +603,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public NestedInterfaceDeclaration NestedInterfaceDeclaration() throws ParseException {
+  final public NestedInterfaceDeclaration NestedInterfaceDeclaration() throws ParseException {
    NodeListOptional n0 = new NodeListOptional();
    NodeChoice n1;
    NodeToken n2;
@@ -681,7 +681,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public UnmodifiedInterfaceDeclaration UnmodifiedInterfaceDeclaration() throws ParseException {
+  final public UnmodifiedInterfaceDeclaration UnmodifiedInterfaceDeclaration() throws ParseException {
    NodeToken n0;
    Token n1;
    NodeToken n2;
@@ -761,7 +761,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public InterfaceMemberDeclaration InterfaceMemberDeclaration() throws ParseException {
+  final public InterfaceMemberDeclaration InterfaceMemberDeclaration() throws ParseException {
    NodeChoice n0;
    NestedClassDeclaration n1;
    NestedInterfaceDeclaration n2;
@@ -810,7 +810,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public FieldDeclaration FieldDeclaration() throws ParseException {
+  final public FieldDeclaration FieldDeclaration() throws ParseException {
    NodeListOptional n0 = new NodeListOptional();
    NodeChoice n1;
    NodeToken n2;
@@ -926,7 +926,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public VariableDeclarator VariableDeclarator() throws ParseException {
+  final public VariableDeclarator VariableDeclarator() throws ParseException {
    VariableDeclaratorId n0;
    NodeOptional n1 = new NodeOptional();
    NodeSequence n2;
@@ -955,7 +955,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public VariableDeclaratorId VariableDeclaratorId() throws ParseException {
+  final public VariableDeclaratorId VariableDeclaratorId() throws ParseException {
    NodeToken n0;
    Token n1;
    NodeListOptional n2 = new NodeListOptional();
@@ -993,7 +993,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public VariableInitializer VariableInitializer() throws ParseException {
+  final public VariableInitializer VariableInitializer() throws ParseException {
    NodeChoice n0;
    ArrayInitializer n1;
    Expression n2;
@@ -1035,7 +1035,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public ArrayInitializer ArrayInitializer() throws ParseException {
+  final public ArrayInitializer ArrayInitializer() throws ParseException {
    NodeToken n0;
    Token n1;
    NodeOptional n2 = new NodeOptional();
@@ -1119,7 +1119,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public MethodDeclaration MethodDeclaration() throws ParseException {
+  final public MethodDeclaration MethodDeclaration() throws ParseException {
    NodeListOptional n0 = new NodeListOptional();
    NodeChoice n1;
    NodeToken n2;
@@ -1253,7 +1253,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public MethodDeclarator MethodDeclarator() throws ParseException {
+  final public MethodDeclarator MethodDeclarator() throws ParseException {
    NodeToken n0;
    Token n1;
    FormalParameters n2;
@@ -1293,7 +1293,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public FormalParameters FormalParameters() throws ParseException {
+  final public FormalParameters FormalParameters() throws ParseException {
    NodeToken n0;
    Token n1;
    NodeOptional n2 = new NodeOptional();
@@ -1358,7 +1358,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public FormalParameter FormalParameter() throws ParseException {
+  final public FormalParameter FormalParameter() throws ParseException {
    NodeOptional n0 = new NodeOptional();
    NodeToken n1;
    Token n2;
@@ -1383,7 +1383,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public ConstructorDeclaration ConstructorDeclaration() throws ParseException {
+  final public ConstructorDeclaration ConstructorDeclaration() throws ParseException {
    NodeOptional n0 = new NodeOptional();
    NodeChoice n1;
    NodeToken n2;
@@ -1523,7 +1523,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public ExplicitConstructorInvocation ExplicitConstructorInvocation() throws ParseException {
+  final public ExplicitConstructorInvocation ExplicitConstructorInvocation() throws ParseException {
    NodeChoice n0;
    NodeSequence n1;
    NodeToken n2;
@@ -1603,7 +1603,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public Initializer Initializer() throws ParseException {
+  final public Initializer Initializer() throws ParseException {
    NodeOptional n0 = new NodeOptional();
    NodeToken n1;
    Token n2;
@@ -1626,7 +1626,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public Type Type() throws ParseException {
+  final public Type Type() throws ParseException {
    NodeChoice n0;
    PrimitiveType n1;
    Name n2;
@@ -1684,7 +1684,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public PrimitiveType PrimitiveType() throws ParseException {
+  final public PrimitiveType PrimitiveType() throws ParseException {
    NodeChoice n0;
    NodeToken n1;
    Token n2;
@@ -1755,7 +1755,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public ResultType ResultType() throws ParseException {
+  final public ResultType ResultType() throws ParseException {
    NodeChoice n0;
    NodeToken n1;
    Token n2;
@@ -1790,7 +1790,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public Name Name() throws ParseException {
+  final public Name Name() throws ParseException {
    NodeToken n0;
    Token n1;
    NodeListOptional n2 = new NodeListOptional();
@@ -1825,7 +1825,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public NameList NameList() throws ParseException {
+  final public NameList NameList() throws ParseException {
    Name n0;
    NodeListOptional n1 = new NodeListOptional();
    NodeSequence n2;
@@ -1859,7 +1859,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public Expression Expression() throws ParseException {
+  final public Expression Expression() throws ParseException {
    NodeChoice n0;
    Assignment n1;
    ConditionalExpression n2;
@@ -1902,7 +1902,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public Assignment Assignment() throws ParseException {
+  final public Assignment Assignment() throws ParseException {
    PrimaryExpression n0;
    AssignmentOperator n1;
    Expression n2;
@@ -1916,7 +1916,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public AssignmentOperator AssignmentOperator() throws ParseException {
+  final public AssignmentOperator AssignmentOperator() throws ParseException {
    NodeChoice n0;
    NodeToken n1;
    Token n2;
@@ -2015,7 +2015,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public ConditionalExpression ConditionalExpression() throws ParseException {
+  final public ConditionalExpression ConditionalExpression() throws ParseException {
    ConditionalOrExpression n0;
    NodeOptional n1 = new NodeOptional();
    NodeSequence n2;
@@ -2052,7 +2052,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public ConditionalOrExpression ConditionalOrExpression() throws ParseException {
+  final public ConditionalOrExpression ConditionalOrExpression() throws ParseException {
    ConditionalAndExpression n0;
    NodeListOptional n1 = new NodeListOptional();
    NodeSequence n2;
@@ -2086,7 +2086,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public ConditionalAndExpression ConditionalAndExpression() throws ParseException {
+  final public ConditionalAndExpression ConditionalAndExpression() throws ParseException {
    InclusiveOrExpression n0;
    NodeListOptional n1 = new NodeListOptional();
    NodeSequence n2;
@@ -2120,7 +2120,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public InclusiveOrExpression InclusiveOrExpression() throws ParseException {
+  final public InclusiveOrExpression InclusiveOrExpression() throws ParseException {
    ExclusiveOrExpression n0;
    NodeListOptional n1 = new NodeListOptional();
    NodeSequence n2;
@@ -2154,7 +2154,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public ExclusiveOrExpression ExclusiveOrExpression() throws ParseException {
+  final public ExclusiveOrExpression ExclusiveOrExpression() throws ParseException {
    AndExpression n0;
    NodeListOptional n1 = new NodeListOptional();
    NodeSequence n2;
@@ -2188,7 +2188,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public AndExpression AndExpression() throws ParseException {
+  final public AndExpression AndExpression() throws ParseException {
    EqualityExpression n0;
    NodeListOptional n1 = new NodeListOptional();
    NodeSequence n2;
@@ -2222,7 +2222,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public EqualityExpression EqualityExpression() throws ParseException {
+  final public EqualityExpression EqualityExpression() throws ParseException {
    InstanceOfExpression n0;
    NodeListOptional n1 = new NodeListOptional();
    NodeSequence n2;
@@ -2274,7 +2274,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public InstanceOfExpression InstanceOfExpression() throws ParseException {
+  final public InstanceOfExpression InstanceOfExpression() throws ParseException {
    RelationalExpression n0;
    NodeOptional n1 = new NodeOptional();
    NodeSequence n2;
@@ -2303,7 +2303,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public RelationalExpression RelationalExpression() throws ParseException {
+  final public RelationalExpression RelationalExpression() throws ParseException {
    ShiftExpression n0;
    NodeListOptional n1 = new NodeListOptional();
    NodeSequence n2;
@@ -2371,7 +2371,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public ShiftExpression ShiftExpression() throws ParseException {
+  final public ShiftExpression ShiftExpression() throws ParseException {
    AdditiveExpression n0;
    NodeListOptional n1 = new NodeListOptional();
    NodeSequence n2;
@@ -2431,7 +2431,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public AdditiveExpression AdditiveExpression() throws ParseException {
+  final public AdditiveExpression AdditiveExpression() throws ParseException {
    MultiplicativeExpression n0;
    NodeListOptional n1 = new NodeListOptional();
    NodeSequence n2;
@@ -2483,7 +2483,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public MultiplicativeExpression MultiplicativeExpression() throws ParseException {
+  final public MultiplicativeExpression MultiplicativeExpression() throws ParseException {
    UnaryExpression n0;
    NodeListOptional n1 = new NodeListOptional();
    NodeSequence n2;
@@ -2543,7 +2543,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public UnaryExpression UnaryExpression() throws ParseException {
+  final public UnaryExpression UnaryExpression() throws ParseException {
    NodeChoice n0;
    NodeSequence n1;
    NodeChoice n2;
@@ -2617,7 +2617,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public PreIncrementExpression PreIncrementExpression() throws ParseException {
+  final public PreIncrementExpression PreIncrementExpression() throws ParseException {
    NodeToken n0;
    Token n1;
    PrimaryExpression n2;
@@ -2631,7 +2631,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public PreDecrementExpression PreDecrementExpression() throws ParseException {
+  final public PreDecrementExpression PreDecrementExpression() throws ParseException {
    NodeToken n0;
    Token n1;
    PrimaryExpression n2;
@@ -2645,7 +2645,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public UnaryExpressionNotPlusMinus UnaryExpressionNotPlusMinus() throws ParseException {
+  final public UnaryExpressionNotPlusMinus UnaryExpressionNotPlusMinus() throws ParseException {
    NodeChoice n0;
    NodeSequence n1;
    NodeChoice n2;
@@ -2717,7 +2717,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public CastLookahead CastLookahead() throws ParseException {
+  final public CastLookahead CastLookahead() throws ParseException {
    NodeChoice n0;
    NodeSequence n1;
    NodeToken n2;
@@ -2854,7 +2854,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public PostfixExpression PostfixExpression() throws ParseException {
+  final public PostfixExpression PostfixExpression() throws ParseException {
    PrimaryExpression n0;
    NodeOptional n1 = new NodeOptional();
    NodeChoice n2;
@@ -2895,7 +2895,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public CastExpression CastExpression() throws ParseException {
+  final public CastExpression CastExpression() throws ParseException {
    NodeChoice n0;
    NodeSequence n1;
    NodeToken n2;
@@ -2948,7 +2948,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public PrimaryExpression PrimaryExpression() throws ParseException {
+  final public PrimaryExpression PrimaryExpression() throws ParseException {
    PrimaryPrefix n0;
    NodeListOptional n1 = new NodeListOptional();
    PrimarySuffix n2;
@@ -2971,7 +2971,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public PrimaryPrefix PrimaryPrefix() throws ParseException {
+  final public PrimaryPrefix PrimaryPrefix() throws ParseException {
    NodeChoice n0;
    Literal n1;
    Name n2;
@@ -3052,7 +3052,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public PrimarySuffix PrimarySuffix() throws ParseException {
+  final public PrimarySuffix PrimarySuffix() throws ParseException {
    NodeChoice n0;
    NodeSequence n1;
    NodeToken n2;
@@ -3147,7 +3147,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public Literal Literal() throws ParseException {
+  final public Literal Literal() throws ParseException {
    NodeChoice n0;
    NodeToken n1;
    Token n2;
@@ -3201,7 +3201,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public BooleanLiteral BooleanLiteral() throws ParseException {
+  final public BooleanLiteral BooleanLiteral() throws ParseException {
    NodeChoice n0;
    NodeToken n1;
    Token n2;
@@ -3230,7 +3230,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public NullLiteral NullLiteral() throws ParseException {
+  final public NullLiteral NullLiteral() throws ParseException {
    NodeToken n0;
    Token n1;
 
@@ -3242,7 +3242,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public Arguments Arguments() throws ParseException {
+  final public Arguments Arguments() throws ParseException {
    NodeToken n0;
    Token n1;
    NodeOptional n2 = new NodeOptional();
@@ -3286,7 +3286,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public ArgumentList ArgumentList() throws ParseException {
+  final public ArgumentList ArgumentList() throws ParseException {
    Expression n0;
    NodeListOptional n1 = new NodeListOptional();
    NodeSequence n2;
@@ -3320,7 +3320,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public AllocationExpression AllocationExpression() throws ParseException {
+  final public AllocationExpression AllocationExpression() throws ParseException {
    NodeChoice n0;
    NodeSequence n1;
    NodeToken n2;
@@ -3425,7 +3425,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public ArrayDimensions ArrayDimensions() throws ParseException {
+  final public ArrayDimensions ArrayDimensions() throws ParseException {
    NodeList n0 = new NodeList();
    NodeSequence n1;
    NodeToken n2;
@@ -3482,7 +3482,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public Statement Statement() throws ParseException {
+  final public Statement Statement() throws ParseException {
    NodeChoice n0;
    LabeledStatement n1;
    Block n2;
@@ -3594,7 +3594,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public LabeledStatement LabeledStatement() throws ParseException {
+  final public LabeledStatement LabeledStatement() throws ParseException {
    NodeToken n0;
    Token n1;
    NodeToken n2;
@@ -3612,7 +3612,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public Block Block() throws ParseException {
+  final public Block Block() throws ParseException {
    NodeToken n0;
    Token n1;
    NodeListOptional n2 = new NodeListOptional();
@@ -3680,7 +3680,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public BlockStatement BlockStatement() throws ParseException {
+  final public BlockStatement BlockStatement() throws ParseException {
    NodeChoice n0;
    NodeSequence n1;
    LocalVariableDeclaration n2;
@@ -3745,7 +3745,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public LocalVariableDeclaration LocalVariableDeclaration() throws ParseException {
+  final public LocalVariableDeclaration LocalVariableDeclaration() throws ParseException {
    NodeOptional n0 = new NodeOptional();
    NodeToken n1;
    Token n2;
@@ -3794,7 +3794,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public EmptyStatement EmptyStatement() throws ParseException {
+  final public EmptyStatement EmptyStatement() throws ParseException {
    NodeToken n0;
    Token n1;
 
@@ -3806,7 +3806,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public StatementExpression StatementExpression() throws ParseException {
+  final public StatementExpression StatementExpression() throws ParseException {
    NodeChoice n0;
    PreIncrementExpression n1;
    PreDecrementExpression n2;
@@ -3857,7 +3857,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public SwitchStatement SwitchStatement() throws ParseException {
+  final public SwitchStatement SwitchStatement() throws ParseException {
    NodeToken n0;
    Token n1;
    NodeToken n2;
@@ -3961,7 +3961,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public SwitchLabel SwitchLabel() throws ParseException {
+  final public SwitchLabel SwitchLabel() throws ParseException {
    NodeChoice n0;
    NodeSequence n1;
    NodeToken n2;
@@ -4009,7 +4009,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public IfStatement IfStatement() throws ParseException {
+  final public IfStatement IfStatement() throws ParseException {
    NodeToken n0;
    Token n1;
    NodeToken n2;
@@ -4052,7 +4052,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public WhileStatement WhileStatement() throws ParseException {
+  final public WhileStatement WhileStatement() throws ParseException {
    NodeToken n0;
    Token n1;
    NodeToken n2;
@@ -4076,7 +4076,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public DoStatement DoStatement() throws ParseException {
+  final public DoStatement DoStatement() throws ParseException {
    NodeToken n0;
    Token n1;
    Statement n2;
@@ -4108,7 +4108,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public ForStatement ForStatement() throws ParseException {
+  final public ForStatement ForStatement() throws ParseException {
    NodeToken n0;
    Token n1;
    NodeToken n2;
@@ -4223,7 +4223,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public ForInit ForInit() throws ParseException {
+  final public ForInit ForInit() throws ParseException {
    NodeChoice n0;
    LocalVariableDeclaration n1;
    StatementExpressionList n2;
@@ -4262,7 +4262,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public StatementExpressionList StatementExpressionList() throws ParseException {
+  final public StatementExpressionList StatementExpressionList() throws ParseException {
    StatementExpression n0;
    NodeListOptional n1 = new NodeListOptional();
    NodeSequence n2;
@@ -4296,7 +4296,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public ForUpdate ForUpdate() throws ParseException {
+  final public ForUpdate ForUpdate() throws ParseException {
    StatementExpressionList n0;
 
    {
@@ -4306,7 +4306,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public BreakStatement BreakStatement() throws ParseException {
+  final public BreakStatement BreakStatement() throws ParseException {
    NodeToken n0;
    Token n1;
    NodeOptional n2 = new NodeOptional();
@@ -4335,7 +4335,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public ContinueStatement ContinueStatement() throws ParseException {
+  final public ContinueStatement ContinueStatement() throws ParseException {
    NodeToken n0;
    Token n1;
    NodeOptional n2 = new NodeOptional();
@@ -4364,7 +4364,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public ReturnStatement ReturnStatement() throws ParseException {
+  final public ReturnStatement ReturnStatement() throws ParseException {
    NodeToken n0;
    Token n1;
    NodeOptional n2 = new NodeOptional();
@@ -4408,7 +4408,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public ThrowStatement ThrowStatement() throws ParseException {
+  final public ThrowStatement ThrowStatement() throws ParseException {
    NodeToken n0;
    Token n1;
    Expression n2;
@@ -4426,7 +4426,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public SynchronizedStatement SynchronizedStatement() throws ParseException {
+  final public SynchronizedStatement SynchronizedStatement() throws ParseException {
    NodeToken n0;
    Token n1;
    NodeToken n2;
@@ -4450,7 +4450,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public TryStatement TryStatement() throws ParseException {
+  final public TryStatement TryStatement() throws ParseException {
    NodeToken n0;
    Token n1;
    Block n2;
@@ -4520,7 +4520,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public JavaCCInput JavaCCInput() throws ParseException {
+  final public JavaCCInput JavaCCInput() throws ParseException {
    JavaCCOptions n0;
    NodeToken n1;
    Token n2;
@@ -4601,7 +4601,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public JavaCCOptions JavaCCOptions() throws ParseException {
+  final public JavaCCOptions JavaCCOptions() throws ParseException {
    NodeOptional n0 = new NodeOptional();
    NodeSequence n1;
    NodeToken n2;
@@ -4656,7 +4656,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public OptionBinding OptionBinding() throws ParseException {
+  final public OptionBinding OptionBinding() throws ParseException {
    NodeChoice n0;
    NodeToken n1;
    Token n2;
@@ -4734,7 +4734,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public Production Production() throws ParseException {
+  final public Production Production() throws ParseException {
    NodeChoice n0;
    JavaCodeProduction n1;
    RegularExprProduction n2;
@@ -4782,7 +4782,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public JavaCodeProduction JavaCodeProduction() throws ParseException {
+  final public JavaCodeProduction JavaCodeProduction() throws ParseException {
    NodeToken n0;
    Token n1;
    ResultType n2;
@@ -4804,7 +4804,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public BNFProduction BNFProduction() throws ParseException {
+  final public BNFProduction BNFProduction() throws ParseException {
    ResultType n0;
    NodeToken n1;
    Token n2;
@@ -4894,7 +4894,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public RegularExprProduction RegularExprProduction() throws ParseException {
+  final public RegularExprProduction RegularExprProduction() throws ParseException {
    NodeOptional n0 = new NodeOptional();
    LexicalStateList n1;
    RegExprKind n2;
@@ -4979,7 +4979,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public TokenManagerDecls TokenManagerDecls() throws ParseException {
+  final public TokenManagerDecls TokenManagerDecls() throws ParseException {
    NodeToken n0;
    Token n1;
    NodeToken n2;
@@ -4997,7 +4997,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public LexicalStateList LexicalStateList() throws ParseException {
+  final public LexicalStateList LexicalStateList() throws ParseException {
    NodeChoice n0;
    NodeSequence n1;
    NodeToken n2;
@@ -5080,7 +5080,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public RegExprKind RegExprKind() throws ParseException {
+  final public RegExprKind RegExprKind() throws ParseException {
    NodeChoice n0;
    NodeToken n1;
    Token n2;
@@ -5123,7 +5123,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public RegExprSpec RegExprSpec() throws ParseException {
+  final public RegExprSpec RegExprSpec() throws ParseException {
    RegularExpression n0;
    NodeOptional n1 = new NodeOptional();
    Block n2;
@@ -5165,7 +5165,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public ExpansionChoices ExpansionChoices() throws ParseException {
+  final public ExpansionChoices ExpansionChoices() throws ParseException {
    Expansion n0;
    NodeListOptional n1 = new NodeListOptional();
    NodeSequence n2;
@@ -5199,7 +5199,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public Expansion Expansion() throws ParseException {
+  final public Expansion Expansion() throws ParseException {
    NodeListOptional n0 = new NodeListOptional();
    ExpansionUnit n1;
 
@@ -5220,7 +5220,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public ExpansionUnit ExpansionUnit() throws ParseException {
+  final public ExpansionUnit ExpansionUnit() throws ParseException {
    NodeChoice n0;
    LocalLookahead n1;
    Block n2;
@@ -5363,7 +5363,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public ExpansionUnitTerm ExpansionUnitTerm() throws ParseException {
+  final public ExpansionUnitTerm ExpansionUnitTerm() throws ParseException {
    NodeChoice n0;
    RegularExpression n1;
    NodeSequence n2;
@@ -5397,7 +5397,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public LocalLookahead LocalLookahead() throws ParseException {
+  final public LocalLookahead LocalLookahead() throws ParseException {
    NodeToken n0;
    Token n1;
    NodeToken n2;
@@ -5476,7 +5476,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public RegularExpression RegularExpression() throws ParseException {
+  final public RegularExpression RegularExpression() throws ParseException {
    NodeChoice n0;
    NodeToken n1;
    Token n2;
@@ -5598,7 +5598,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public ComplexRegularExpressionChoices ComplexRegularExpressionChoices() throws ParseException {
+  final public ComplexRegularExpressionChoices ComplexRegularExpressionChoices() throws ParseException {
    ComplexRegularExpression n0;
    NodeListOptional n1 = new NodeListOptional();
    NodeSequence n2;
@@ -5632,7 +5632,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public ComplexRegularExpression ComplexRegularExpression() throws ParseException {
+  final public ComplexRegularExpression ComplexRegularExpression() throws ParseException {
    NodeListOptional n0 = new NodeListOptional();
    ComplexRegularExpressionUnit n1;
 
@@ -5660,7 +5660,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public ComplexRegularExpressionUnit ComplexRegularExpressionUnit() throws ParseException {
+  final public ComplexRegularExpressionUnit ComplexRegularExpressionUnit() throws ParseException {
    NodeChoice n0;
    NodeToken n1;
    Token n2;
@@ -5766,7 +5766,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public CharacterList CharacterList() throws ParseException {
+  final public CharacterList CharacterList() throws ParseException {
    NodeOptional n0 = new NodeOptional();
    NodeToken n1;
    Token n2;
@@ -5835,7 +5835,7 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final public CharacterDescriptor CharacterDescriptor() throws ParseException {
+  final public CharacterDescriptor CharacterDescriptor() throws ParseException {
    NodeToken n0;
    Token n1;
    NodeOptional n2 = new NodeOptional();
@@ -5868,316 +5868,305 @@ public class JTBParser implements JTBParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  static final private boolean jj_2_1(int xla) {
+  final private boolean jj_2_1(int xla) {
     jj_la = xla; jj_lastpos = jj_scanpos = token;
     try { return !jj_3_1(); }
     catch(LookaheadSuccess ls) { return true; }
     finally { jj_save(0, xla); }
   }
 
-  static final private boolean jj_2_2(int xla) {
+  final private boolean jj_2_2(int xla) {
     jj_la = xla; jj_lastpos = jj_scanpos = token;
     try { return !jj_3_2(); }
     catch(LookaheadSuccess ls) { return true; }
     finally { jj_save(1, xla); }
   }
 
-  static final private boolean jj_2_3(int xla) {
+  final private boolean jj_2_3(int xla) {
     jj_la = xla; jj_lastpos = jj_scanpos = token;
     try { return !jj_3_3(); }
     catch(LookaheadSuccess ls) { return true; }
     finally { jj_save(2, xla); }
   }
 
-  static final private boolean jj_2_4(int xla) {
+  final private boolean jj_2_4(int xla) {
     jj_la = xla; jj_lastpos = jj_scanpos = token;
     try { return !jj_3_4(); }
     catch(LookaheadSuccess ls) { return true; }
     finally { jj_save(3, xla); }
   }
 
-  static final private boolean jj_2_5(int xla) {
+  final private boolean jj_2_5(int xla) {
     jj_la = xla; jj_lastpos = jj_scanpos = token;
     try { return !jj_3_5(); }
     catch(LookaheadSuccess ls) { return true; }
     finally { jj_save(4, xla); }
   }
 
-  static final private boolean jj_2_6(int xla) {
+  final private boolean jj_2_6(int xla) {
     jj_la = xla; jj_lastpos = jj_scanpos = token;
     try { return !jj_3_6(); }
     catch(LookaheadSuccess ls) { return true; }
     finally { jj_save(5, xla); }
   }
 
-  static final private boolean jj_2_7(int xla) {
+  final private boolean jj_2_7(int xla) {
     jj_la = xla; jj_lastpos = jj_scanpos = token;
     try { return !jj_3_7(); }
     catch(LookaheadSuccess ls) { return true; }
     finally { jj_save(6, xla); }
   }
 
-  static final private boolean jj_2_8(int xla) {
+  final private boolean jj_2_8(int xla) {
     jj_la = xla; jj_lastpos = jj_scanpos = token;
     try { return !jj_3_8(); }
     catch(LookaheadSuccess ls) { return true; }
     finally { jj_save(7, xla); }
   }
 
-  static final private boolean jj_2_9(int xla) {
+  final private boolean jj_2_9(int xla) {
     jj_la = xla; jj_lastpos = jj_scanpos = token;
     try { return !jj_3_9(); }
     catch(LookaheadSuccess ls) { return true; }
     finally { jj_save(8, xla); }
   }
 
-  static final private boolean jj_2_10(int xla) {
+  final private boolean jj_2_10(int xla) {
     jj_la = xla; jj_lastpos = jj_scanpos = token;
     try { return !jj_3_10(); }
     catch(LookaheadSuccess ls) { return true; }
     finally { jj_save(9, xla); }
   }
 
-  static final private boolean jj_2_11(int xla) {
+  final private boolean jj_2_11(int xla) {
     jj_la = xla; jj_lastpos = jj_scanpos = token;
     try { return !jj_3_11(); }
     catch(LookaheadSuccess ls) { return true; }
     finally { jj_save(10, xla); }
   }
 
-  static final private boolean jj_2_12(int xla) {
+  final private boolean jj_2_12(int xla) {
     jj_la = xla; jj_lastpos = jj_scanpos = token;
     try { return !jj_3_12(); }
     catch(LookaheadSuccess ls) { return true; }
     finally { jj_save(11, xla); }
   }
 
-  static final private boolean jj_2_13(int xla) {
+  final private boolean jj_2_13(int xla) {
     jj_la = xla; jj_lastpos = jj_scanpos = token;
     try { return !jj_3_13(); }
     catch(LookaheadSuccess ls) { return true; }
     finally { jj_save(12, xla); }
   }
 
-  static final private boolean jj_2_14(int xla) {
+  final private boolean jj_2_14(int xla) {
     jj_la = xla; jj_lastpos = jj_scanpos = token;
     try { return !jj_3_14(); }
     catch(LookaheadSuccess ls) { return true; }
     finally { jj_save(13, xla); }
   }
 
-  static final private boolean jj_2_15(int xla) {
+  final private boolean jj_2_15(int xla) {
     jj_la = xla; jj_lastpos = jj_scanpos = token;
     try { return !jj_3_15(); }
     catch(LookaheadSuccess ls) { return true; }
     finally { jj_save(14, xla); }
   }
 
-  static final private boolean jj_2_16(int xla) {
+  final private boolean jj_2_16(int xla) {
     jj_la = xla; jj_lastpos = jj_scanpos = token;
     try { return !jj_3_16(); }
     catch(LookaheadSuccess ls) { return true; }
     finally { jj_save(15, xla); }
   }
 
-  static final private boolean jj_2_17(int xla) {
+  final private boolean jj_2_17(int xla) {
     jj_la = xla; jj_lastpos = jj_scanpos = token;
     try { return !jj_3_17(); }
     catch(LookaheadSuccess ls) { return true; }
     finally { jj_save(16, xla); }
   }
 
-  static final private boolean jj_2_18(int xla) {
+  final private boolean jj_2_18(int xla) {
     jj_la = xla; jj_lastpos = jj_scanpos = token;
     try { return !jj_3_18(); }
     catch(LookaheadSuccess ls) { return true; }
     finally { jj_save(17, xla); }
   }
 
-  static final private boolean jj_2_19(int xla) {
+  final private boolean jj_2_19(int xla) {
     jj_la = xla; jj_lastpos = jj_scanpos = token;
     try { return !jj_3_19(); }
     catch(LookaheadSuccess ls) { return true; }
     finally { jj_save(18, xla); }
   }
 
-  static final private boolean jj_2_20(int xla) {
+  final private boolean jj_2_20(int xla) {
     jj_la = xla; jj_lastpos = jj_scanpos = token;
     try { return !jj_3_20(); }
     catch(LookaheadSuccess ls) { return true; }
     finally { jj_save(19, xla); }
   }
 
-  static final private boolean jj_2_21(int xla) {
+  final private boolean jj_2_21(int xla) {
     jj_la = xla; jj_lastpos = jj_scanpos = token;
     try { return !jj_3_21(); }
     catch(LookaheadSuccess ls) { return true; }
     finally { jj_save(20, xla); }
   }
 
-  static final private boolean jj_2_22(int xla) {
+  final private boolean jj_2_22(int xla) {
     jj_la = xla; jj_lastpos = jj_scanpos = token;
     try { return !jj_3_22(); }
     catch(LookaheadSuccess ls) { return true; }
     finally { jj_save(21, xla); }
   }
 
-  static final private boolean jj_2_23(int xla) {
+  final private boolean jj_2_23(int xla) {
     jj_la = xla; jj_lastpos = jj_scanpos = token;
     try { return !jj_3_23(); }
     catch(LookaheadSuccess ls) { return true; }
     finally { jj_save(22, xla); }
   }
 
-  static final private boolean jj_2_24(int xla) {
+  final private boolean jj_2_24(int xla) {
     jj_la = xla; jj_lastpos = jj_scanpos = token;
     try { return !jj_3_24(); }
     catch(LookaheadSuccess ls) { return true; }
     finally { jj_save(23, xla); }
   }
 
-  static final private boolean jj_2_25(int xla) {
+  final private boolean jj_2_25(int xla) {
     jj_la = xla; jj_lastpos = jj_scanpos = token;
     try { return !jj_3_25(); }
     catch(LookaheadSuccess ls) { return true; }
     finally { jj_save(24, xla); }
   }
 
-  static final private boolean jj_2_26(int xla) {
+  final private boolean jj_2_26(int xla) {
     jj_la = xla; jj_lastpos = jj_scanpos = token;
     try { return !jj_3_26(); }
     catch(LookaheadSuccess ls) { return true; }
     finally { jj_save(25, xla); }
   }
 
-  static final private boolean jj_2_27(int xla) {
+  final private boolean jj_2_27(int xla) {
     jj_la = xla; jj_lastpos = jj_scanpos = token;
     try { return !jj_3_27(); }
     catch(LookaheadSuccess ls) { return true; }
     finally { jj_save(26, xla); }
   }
 
-  static final private boolean jj_2_28(int xla) {
+  final private boolean jj_2_28(int xla) {
     jj_la = xla; jj_lastpos = jj_scanpos = token;
     try { return !jj_3_28(); }
     catch(LookaheadSuccess ls) { return true; }
     finally { jj_save(27, xla); }
   }
 
-  static final private boolean jj_2_29(int xla) {
+  final private boolean jj_2_29(int xla) {
     jj_la = xla; jj_lastpos = jj_scanpos = token;
     try { return !jj_3_29(); }
     catch(LookaheadSuccess ls) { return true; }
     finally { jj_save(28, xla); }
   }
 
-  static final private boolean jj_2_30(int xla) {
+  final private boolean jj_2_30(int xla) {
     jj_la = xla; jj_lastpos = jj_scanpos = token;
     try { return !jj_3_30(); }
     catch(LookaheadSuccess ls) { return true; }
     finally { jj_save(29, xla); }
   }
 
-  static final private boolean jj_2_31(int xla) {
+  final private boolean jj_2_31(int xla) {
     jj_la = xla; jj_lastpos = jj_scanpos = token;
     try { return !jj_3_31(); }
     catch(LookaheadSuccess ls) { return true; }
     finally { jj_save(30, xla); }
   }
 
-  static final private boolean jj_2_32(int xla) {
+  final private boolean jj_2_32(int xla) {
     jj_la = xla; jj_lastpos = jj_scanpos = token;
     try { return !jj_3_32(); }
     catch(LookaheadSuccess ls) { return true; }
     finally { jj_save(31, xla); }
   }
 
-  static final private boolean jj_2_33(int xla) {
+  final private boolean jj_2_33(int xla) {
     jj_la = xla; jj_lastpos = jj_scanpos = token;
     try { return !jj_3_33(); }
     catch(LookaheadSuccess ls) { return true; }
     finally { jj_save(32, xla); }
   }
 
-  static final private boolean jj_2_34(int xla) {
+  final private boolean jj_2_34(int xla) {
     jj_la = xla; jj_lastpos = jj_scanpos = token;
     try { return !jj_3_34(); }
     catch(LookaheadSuccess ls) { return true; }
     finally { jj_save(33, xla); }
   }
 
-  static final private boolean jj_2_35(int xla) {
+  final private boolean jj_2_35(int xla) {
     jj_la = xla; jj_lastpos = jj_scanpos = token;
     try { return !jj_3_35(); }
     catch(LookaheadSuccess ls) { return true; }
     finally { jj_save(34, xla); }
   }
 
-  static final private boolean jj_2_36(int xla) {
+  final private boolean jj_2_36(int xla) {
     jj_la = xla; jj_lastpos = jj_scanpos = token;
     try { return !jj_3_36(); }
     catch(LookaheadSuccess ls) { return true; }
     finally { jj_save(35, xla); }
   }
 
-  static final private boolean jj_2_37(int xla) {
+  final private boolean jj_2_37(int xla) {
     jj_la = xla; jj_lastpos = jj_scanpos = token;
     try { return !jj_3_37(); }
     catch(LookaheadSuccess ls) { return true; }
     finally { jj_save(36, xla); }
   }
 
-  static final private boolean jj_2_38(int xla) {
+  final private boolean jj_2_38(int xla) {
     jj_la = xla; jj_lastpos = jj_scanpos = token;
     try { return !jj_3_38(); }
     catch(LookaheadSuccess ls) { return true; }
     finally { jj_save(37, xla); }
   }
 
-  static final private boolean jj_2_39(int xla) {
+  final private boolean jj_2_39(int xla) {
     jj_la = xla; jj_lastpos = jj_scanpos = token;
     try { return !jj_3_39(); }
     catch(LookaheadSuccess ls) { return true; }
     finally { jj_save(38, xla); }
   }
 
-  static final private boolean jj_3R_228() {
-    if (jj_scan_token(DO)) return true;
-    if (jj_3R_188()) return true;
-    if (jj_scan_token(WHILE)) return true;
-    if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_69()) return true;
-    if (jj_scan_token(RPAREN)) return true;
-    if (jj_scan_token(SEMICOLON)) return true;
-    return false;
-  }
-
-  static final private boolean jj_3R_359() {
+  final private boolean jj_3R_359() {
     if (jj_scan_token(TRANSIENT)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_143() {
+  final private boolean jj_3R_143() {
     if (jj_3R_56()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_358() {
+  final private boolean jj_3R_358() {
     if (jj_scan_token(FINAL)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_142() {
+  final private boolean jj_3R_142() {
     if (jj_3R_164()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_357() {
+  final private boolean jj_3R_357() {
     if (jj_scan_token(STATIC)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_85() {
+  final private boolean jj_3R_85() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3R_142()) {
@@ -6199,37 +6188,37 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_356() {
+  final private boolean jj_3R_356() {
     if (jj_scan_token(PRIVATE)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_98() {
+  final private boolean jj_3R_98() {
     if (jj_scan_token(ORASSIGN)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_355() {
+  final private boolean jj_3R_355() {
     if (jj_scan_token(PROTECTED)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_97() {
+  final private boolean jj_3R_97() {
     if (jj_scan_token(XORASSIGN)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_354() {
+  final private boolean jj_3R_354() {
     if (jj_scan_token(PUBLIC)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_96() {
+  final private boolean jj_3R_96() {
     if (jj_scan_token(ANDASSIGN)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_315() {
+  final private boolean jj_3R_315() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3R_354()) {
@@ -6254,17 +6243,17 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_95() {
+  final private boolean jj_3R_95() {
     if (jj_scan_token(RUNSIGNEDSHIFTASSIGN)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_94() {
+  final private boolean jj_3R_94() {
     if (jj_scan_token(RSIGNEDSHIFTASSIGN)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_291() {
+  final private boolean jj_3R_291() {
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
@@ -6280,12 +6269,12 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_93() {
+  final private boolean jj_3R_93() {
     if (jj_scan_token(LSHIFTASSIGN)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_227() {
+  final private boolean jj_3R_227() {
     if (jj_scan_token(WHILE)) return true;
     if (jj_scan_token(LPAREN)) return true;
     if (jj_3R_69()) return true;
@@ -6294,42 +6283,42 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_92() {
+  final private boolean jj_3R_92() {
     if (jj_scan_token(MINUSASSIGN)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_91() {
+  final private boolean jj_3R_91() {
     if (jj_scan_token(PLUSASSIGN)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_90() {
+  final private boolean jj_3R_90() {
     if (jj_scan_token(REMASSIGN)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_89() {
+  final private boolean jj_3R_89() {
     if (jj_scan_token(SLASHASSIGN)) return true;
     return false;
   }
 
-  static final private boolean jj_3_21() {
+  final private boolean jj_3_21() {
     if (jj_3R_67()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_88() {
+  final private boolean jj_3R_88() {
     if (jj_scan_token(STARASSIGN)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_87() {
+  final private boolean jj_3R_87() {
     if (jj_scan_token(ASSIGN)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_62() {
+  final private boolean jj_3R_62() {
     if (jj_3R_85()) return true;
     Token xsp;
     while (true) {
@@ -6339,7 +6328,7 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_64() {
+  final private boolean jj_3R_64() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3R_87()) {
@@ -6379,18 +6368,18 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_264() {
+  final private boolean jj_3R_264() {
     if (jj_scan_token(ELSE)) return true;
     if (jj_3R_188()) return true;
     return false;
   }
 
-  static final private boolean jj_3_9() {
+  final private boolean jj_3_9() {
     if (jj_3R_57()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_59() {
+  final private boolean jj_3R_59() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_scan_token(46)) {
@@ -6412,7 +6401,7 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3_8() {
+  final private boolean jj_3_8() {
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
@@ -6422,18 +6411,18 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3_20() {
+  final private boolean jj_3_20() {
     if (jj_scan_token(LPAREN)) return true;
     if (jj_3R_56()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_376() {
+  final private boolean jj_3R_376() {
     if (jj_3R_291()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_58() {
+  final private boolean jj_3R_58() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_scan_token(46)) {
@@ -6455,7 +6444,7 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_226() {
+  final private boolean jj_3R_226() {
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(LPAREN)) return true;
     if (jj_3R_69()) return true;
@@ -6467,7 +6456,7 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3_7() {
+  final private boolean jj_3_7() {
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
@@ -6477,12 +6466,12 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_375() {
+  final private boolean jj_3R_375() {
     if (jj_3R_290()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_401() {
+  final private boolean jj_3R_401() {
     if (jj_scan_token(LPAREN)) return true;
     if (jj_3R_71()) return true;
     if (jj_scan_token(RPAREN)) return true;
@@ -6490,23 +6479,23 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_374() {
+  final private boolean jj_3R_374() {
     if (jj_3R_288()) return true;
     return false;
   }
 
-  static final private boolean jj_3_19() {
+  final private boolean jj_3_19() {
     if (jj_scan_token(LPAREN)) return true;
     if (jj_3R_66()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_373() {
+  final private boolean jj_3R_373() {
     if (jj_3R_287()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_364() {
+  final private boolean jj_3R_364() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3R_373()) {
@@ -6522,7 +6511,7 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_400() {
+  final private boolean jj_3R_400() {
     if (jj_scan_token(LPAREN)) return true;
     if (jj_3R_71()) return true;
     if (jj_scan_token(RPAREN)) return true;
@@ -6530,7 +6519,7 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_399() {
+  final private boolean jj_3R_399() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3R_400()) {
@@ -6540,49 +6529,49 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_157() {
+  final private boolean jj_3R_157() {
     if (jj_3R_62()) return true;
     if (jj_3R_64()) return true;
     if (jj_3R_69()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_295() {
+  final private boolean jj_3R_295() {
     if (jj_scan_token(_DEFAULT)) return true;
     if (jj_scan_token(COLON)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_340() {
+  final private boolean jj_3R_340() {
     if (jj_3R_364()) return true;
     return false;
   }
 
-  static final private boolean jj_3_15() {
+  final private boolean jj_3_15() {
     if (jj_3R_62()) return true;
     if (jj_3R_64()) return true;
     return false;
   }
 
-  static final private boolean jj_3_32() {
+  final private boolean jj_3_32() {
     if (jj_scan_token(LT)) return true;
     if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_294() {
+  final private boolean jj_3R_294() {
     if (jj_scan_token(CASE)) return true;
     if (jj_3R_69()) return true;
     if (jj_scan_token(COLON)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_114() {
+  final private boolean jj_3R_114() {
     if (jj_3R_158()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_281() {
+  final private boolean jj_3R_281() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3R_294()) {
@@ -6592,23 +6581,23 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_339() {
+  final private boolean jj_3R_339() {
     if (jj_scan_token(EXTENDS)) return true;
     if (jj_3R_255()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_113() {
+  final private boolean jj_3R_113() {
     if (jj_3R_157()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_319() {
+  final private boolean jj_3R_319() {
     if (jj_scan_token(DECR)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_304() {
+  final private boolean jj_3R_304() {
     if (jj_scan_token(INTERFACE)) return true;
     if (jj_scan_token(IDENTIFIER)) return true;
     Token xsp;
@@ -6623,7 +6612,7 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_69() {
+  final private boolean jj_3R_69() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3R_113()) {
@@ -6633,12 +6622,12 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_318() {
+  final private boolean jj_3R_318() {
     if (jj_scan_token(INCR)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_293() {
+  final private boolean jj_3R_293() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3R_318()) {
@@ -6648,7 +6637,7 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_258() {
+  final private boolean jj_3R_258() {
     if (jj_3R_62()) return true;
     Token xsp;
     xsp = jj_scanpos;
@@ -6656,18 +6645,18 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_282() {
+  final private boolean jj_3R_282() {
     if (jj_3R_163()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_273() {
+  final private boolean jj_3R_273() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_3R_56()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_255() {
+  final private boolean jj_3R_255() {
     if (jj_3R_56()) return true;
     Token xsp;
     while (true) {
@@ -6677,7 +6666,7 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_263() {
+  final private boolean jj_3R_263() {
     if (jj_3R_281()) return true;
     Token xsp;
     while (true) {
@@ -6687,37 +6676,37 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_338() {
+  final private boolean jj_3R_338() {
     if (jj_scan_token(PRIVATE)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_156() {
+  final private boolean jj_3R_156() {
     if (jj_3R_164()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_337() {
+  final private boolean jj_3R_337() {
     if (jj_scan_token(PROTECTED)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_155() {
+  final private boolean jj_3R_155() {
     if (jj_scan_token(NEW)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_336() {
+  final private boolean jj_3R_336() {
     if (jj_scan_token(PUBLIC)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_154() {
+  final private boolean jj_3R_154() {
     if (jj_scan_token(SUPER)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_225() {
+  final private boolean jj_3R_225() {
     if (jj_scan_token(SWITCH)) return true;
     if (jj_scan_token(LPAREN)) return true;
     if (jj_3R_69()) return true;
@@ -6732,37 +6721,37 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_335() {
+  final private boolean jj_3R_335() {
     if (jj_scan_token(FINAL)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_153() {
+  final private boolean jj_3R_153() {
     if (jj_scan_token(THIS)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_334() {
+  final private boolean jj_3R_334() {
     if (jj_scan_token(ABSTRACT)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_152() {
+  final private boolean jj_3R_152() {
     if (jj_scan_token(IDENTIFIER)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_333() {
+  final private boolean jj_3R_333() {
     if (jj_scan_token(STATIC)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_151() {
+  final private boolean jj_3R_151() {
     if (jj_scan_token(LPAREN)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_303() {
+  final private boolean jj_3R_303() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3R_333()) {
@@ -6784,18 +6773,18 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3_14() {
+  final private boolean jj_3_14() {
     if (jj_scan_token(DOT)) return true;
     if (jj_scan_token(IDENTIFIER)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_150() {
+  final private boolean jj_3R_150() {
     if (jj_scan_token(BANG)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_288() {
+  final private boolean jj_3R_288() {
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
@@ -6805,12 +6794,12 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_149() {
+  final private boolean jj_3R_149() {
     if (jj_scan_token(TILDE)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_56() {
+  final private boolean jj_3R_56() {
     if (jj_scan_token(IDENTIFIER)) return true;
     Token xsp;
     while (true) {
@@ -6820,18 +6809,18 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3_30() {
+  final private boolean jj_3_30() {
     if (jj_3R_62()) return true;
     if (jj_3R_64()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_249() {
+  final private boolean jj_3R_249() {
     if (jj_3R_258()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_100() {
+  final private boolean jj_3R_100() {
     if (jj_scan_token(LPAREN)) return true;
     if (jj_3R_56()) return true;
     if (jj_scan_token(RPAREN)) return true;
@@ -6862,39 +6851,39 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_248() {
+  final private boolean jj_3R_248() {
     if (jj_3R_157()) return true;
     return false;
   }
 
-  static final private boolean jj_3_18() {
+  final private boolean jj_3_18() {
     if (jj_scan_token(LPAREN)) return true;
     if (jj_3R_56()) return true;
     if (jj_scan_token(LBRACKET)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_247() {
+  final private boolean jj_3R_247() {
     if (jj_3R_257()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_140() {
+  final private boolean jj_3R_140() {
     if (jj_3R_71()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_246() {
+  final private boolean jj_3R_246() {
     if (jj_3R_256()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_139() {
+  final private boolean jj_3R_139() {
     if (jj_scan_token(VOID)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_224() {
+  final private boolean jj_3R_224() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3R_246()) {
@@ -6910,7 +6899,7 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_99() {
+  final private boolean jj_3R_99() {
     if (jj_scan_token(LPAREN)) return true;
     if (jj_3R_56()) return true;
     if (jj_scan_token(LBRACKET)) return true;
@@ -6918,7 +6907,7 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_80() {
+  final private boolean jj_3R_80() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3R_139()) {
@@ -6928,13 +6917,13 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3_17() {
+  final private boolean jj_3_17() {
     if (jj_scan_token(LPAREN)) return true;
     if (jj_3R_66()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_65() {
+  final private boolean jj_3R_65() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_17()) {
@@ -6947,83 +6936,83 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_108() {
+  final private boolean jj_3R_108() {
     if (jj_scan_token(DOUBLE)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_223() {
+  final private boolean jj_3R_223() {
     if (jj_scan_token(SEMICOLON)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_107() {
+  final private boolean jj_3R_107() {
     if (jj_scan_token(FLOAT)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_106() {
+  final private boolean jj_3R_106() {
     if (jj_scan_token(LONG)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_105() {
+  final private boolean jj_3R_105() {
     if (jj_scan_token(INT)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_104() {
+  final private boolean jj_3R_104() {
     if (jj_scan_token(SHORT)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_103() {
+  final private boolean jj_3R_103() {
     if (jj_scan_token(BYTE)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_138() {
+  final private boolean jj_3R_138() {
     if (jj_scan_token(SYNCHRONIZED)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_102() {
+  final private boolean jj_3R_102() {
     if (jj_scan_token(CHAR)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_242() {
+  final private boolean jj_3R_242() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_3R_241()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_137() {
+  final private boolean jj_3R_137() {
     if (jj_scan_token(NATIVE)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_101() {
+  final private boolean jj_3R_101() {
     if (jj_scan_token(BOOLEAN)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_136() {
+  final private boolean jj_3R_136() {
     if (jj_scan_token(FINAL)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_200() {
+  final private boolean jj_3R_200() {
     if (jj_scan_token(FINAL)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_135() {
+  final private boolean jj_3R_135() {
     if (jj_scan_token(ABSTRACT)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_66() {
+  final private boolean jj_3R_66() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3R_101()) {
@@ -7051,12 +7040,12 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_134() {
+  final private boolean jj_3R_134() {
     if (jj_scan_token(STATIC)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_187() {
+  final private boolean jj_3R_187() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3R_200()) jj_scanpos = xsp;
@@ -7069,27 +7058,27 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_133() {
+  final private boolean jj_3R_133() {
     if (jj_scan_token(PRIVATE)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_132() {
+  final private boolean jj_3R_132() {
     if (jj_scan_token(PROTECTED)) return true;
     return false;
   }
 
-  static final private boolean jj_3_16() {
+  final private boolean jj_3_16() {
     if (jj_3R_65()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_131() {
+  final private boolean jj_3R_131() {
     if (jj_scan_token(PUBLIC)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_79() {
+  final private boolean jj_3R_79() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3R_131()) {
@@ -7117,12 +7106,12 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_393() {
+  final private boolean jj_3R_393() {
     if (jj_3R_258()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_57() {
+  final private boolean jj_3R_57() {
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
@@ -7134,22 +7123,22 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_392() {
+  final private boolean jj_3R_392() {
     if (jj_3R_399()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_174() {
+  final private boolean jj_3R_174() {
     if (jj_3R_189()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_398() {
+  final private boolean jj_3R_398() {
     if (jj_scan_token(BANG)) return true;
     return false;
   }
 
-  static final private boolean jj_3_29() {
+  final private boolean jj_3_29() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_scan_token(25)) jj_scanpos = xsp;
@@ -7158,23 +7147,23 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_367() {
+  final private boolean jj_3R_367() {
     if (jj_scan_token(MINUS)) return true;
     if (jj_scan_token(STRING_LITERAL)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_173() {
+  final private boolean jj_3R_173() {
     if (jj_3R_188()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_397() {
+  final private boolean jj_3R_397() {
     if (jj_scan_token(TILDE)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_245() {
+  final private boolean jj_3R_245() {
     if (jj_scan_token(STRING_LITERAL)) return true;
     Token xsp;
     xsp = jj_scanpos;
@@ -7182,24 +7171,24 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_117() {
+  final private boolean jj_3R_117() {
     if (jj_scan_token(LBRACKET)) return true;
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_172() {
+  final private boolean jj_3R_172() {
     if (jj_3R_187()) return true;
     if (jj_scan_token(SEMICOLON)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_116() {
+  final private boolean jj_3R_116() {
     if (jj_3R_56()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_391() {
+  final private boolean jj_3R_391() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3R_397()) {
@@ -7210,12 +7199,12 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_115() {
+  final private boolean jj_3R_115() {
     if (jj_3R_66()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_163() {
+  final private boolean jj_3R_163() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3R_172()) {
@@ -7228,7 +7217,7 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_387() {
+  final private boolean jj_3R_387() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3R_391()) {
@@ -7241,7 +7230,7 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_71() {
+  final private boolean jj_3R_71() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3R_115()) {
@@ -7255,12 +7244,12 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3_6() {
+  final private boolean jj_3_6() {
     if (jj_3R_57()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_55() {
+  final private boolean jj_3R_55() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_scan_token(43)) {
@@ -7273,7 +7262,7 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3_5() {
+  final private boolean jj_3_5() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3R_55()) jj_scanpos = xsp;
@@ -7282,7 +7271,7 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_54() {
+  final private boolean jj_3R_54() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_scan_token(46)) {
@@ -7304,12 +7293,12 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_279() {
+  final private boolean jj_3R_279() {
     if (jj_3R_291()) return true;
     return false;
   }
 
-  static final private boolean jj_3_4() {
+  final private boolean jj_3_4() {
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
@@ -7319,13 +7308,13 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_362() {
+  final private boolean jj_3R_362() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_3R_245()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_53() {
+  final private boolean jj_3R_53() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_scan_token(46)) {
@@ -7347,17 +7336,17 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_278() {
+  final private boolean jj_3R_278() {
     if (jj_3R_290()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_130() {
+  final private boolean jj_3R_130() {
     if (jj_3R_163()) return true;
     return false;
   }
 
-  static final private boolean jj_3_3() {
+  final private boolean jj_3_3() {
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
@@ -7367,18 +7356,18 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_277() {
+  final private boolean jj_3R_277() {
     if (jj_3R_289()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_257() {
+  final private boolean jj_3R_257() {
     if (jj_scan_token(DECR)) return true;
     if (jj_3R_62()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_78() {
+  final private boolean jj_3R_78() {
     if (jj_scan_token(LBRACE)) return true;
     Token xsp;
     while (true) {
@@ -7389,7 +7378,7 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_222() {
+  final private boolean jj_3R_222() {
     if (jj_3R_245()) return true;
     Token xsp;
     while (true) {
@@ -7399,27 +7388,27 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_276() {
+  final private boolean jj_3R_276() {
     if (jj_3R_288()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_77() {
+  final private boolean jj_3R_77() {
     if (jj_scan_token(STATIC)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_275() {
+  final private boolean jj_3R_275() {
     if (jj_3R_287()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_221() {
+  final private boolean jj_3R_221() {
     if (jj_scan_token(TILDE)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_52() {
+  final private boolean jj_3R_52() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3R_77()) jj_scanpos = xsp;
@@ -7427,12 +7416,12 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3_2() {
+  final private boolean jj_3_2() {
     if (jj_3R_52()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_199() {
+  final private boolean jj_3R_199() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3R_221()) jj_scanpos = xsp;
@@ -7443,7 +7432,7 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_260() {
+  final private boolean jj_3R_260() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_2()) {
@@ -7465,71 +7454,71 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_256() {
+  final private boolean jj_3R_256() {
     if (jj_scan_token(INCR)) return true;
     if (jj_3R_62()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_70() {
+  final private boolean jj_3R_70() {
     if (jj_scan_token(IDENTIFIER)) return true;
     if (jj_scan_token(COLON)) return true;
     if (jj_3R_188()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_380() {
+  final private boolean jj_3R_380() {
     if (jj_3R_387()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_379() {
+  final private boolean jj_3R_379() {
     if (jj_3R_257()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_332() {
+  final private boolean jj_3R_332() {
     if (jj_scan_token(PRIVATE)) return true;
     return false;
   }
 
-  static final private boolean jj_3_12() {
+  final private boolean jj_3_12() {
     if (jj_3R_62()) return true;
     if (jj_scan_token(DOT)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_323() {
+  final private boolean jj_3R_323() {
     if (jj_scan_token(HOOK)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_378() {
+  final private boolean jj_3R_378() {
     if (jj_3R_256()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_331() {
+  final private boolean jj_3R_331() {
     if (jj_scan_token(PROTECTED)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_214() {
+  final private boolean jj_3R_214() {
     if (jj_3R_235()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_322() {
+  final private boolean jj_3R_322() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_330() {
+  final private boolean jj_3R_330() {
     if (jj_scan_token(PUBLIC)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_84() {
+  final private boolean jj_3R_84() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_12()) jj_scanpos = xsp;
@@ -7539,49 +7528,49 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3_13() {
+  final private boolean jj_3_13() {
     if (jj_scan_token(THIS)) return true;
     if (jj_3R_63()) return true;
     if (jj_scan_token(SEMICOLON)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_213() {
+  final private boolean jj_3R_213() {
     if (jj_3R_234()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_386() {
+  final private boolean jj_3R_386() {
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_321() {
+  final private boolean jj_3R_321() {
     if (jj_scan_token(PLUS)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_329() {
+  final private boolean jj_3R_329() {
     if (jj_scan_token(FINAL)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_212() {
+  final private boolean jj_3R_212() {
     if (jj_3R_233()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_385() {
+  final private boolean jj_3R_385() {
     if (jj_scan_token(PLUS)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_328() {
+  final private boolean jj_3R_328() {
     if (jj_scan_token(ABSTRACT)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_300() {
+  final private boolean jj_3R_300() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3R_321()) {
@@ -7594,34 +7583,34 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_211() {
+  final private boolean jj_3R_211() {
     if (jj_3R_232()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_327() {
+  final private boolean jj_3R_327() {
     if (jj_scan_token(STATIC)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_210() {
+  final private boolean jj_3R_210() {
     if (jj_3R_231()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_83() {
+  final private boolean jj_3R_83() {
     if (jj_scan_token(THIS)) return true;
     if (jj_3R_63()) return true;
     if (jj_scan_token(SEMICOLON)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_209() {
+  final private boolean jj_3R_209() {
     if (jj_3R_230()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_377() {
+  final private boolean jj_3R_377() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3R_385()) {
@@ -7632,7 +7621,7 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_302() {
+  final private boolean jj_3R_302() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3R_327()) {
@@ -7654,7 +7643,7 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_61() {
+  final private boolean jj_3R_61() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3R_83()) {
@@ -7664,12 +7653,12 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_208() {
+  final private boolean jj_3R_208() {
     if (jj_3R_229()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_366() {
+  final private boolean jj_3R_366() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3R_377()) {
@@ -7685,7 +7674,7 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_287() {
+  final private boolean jj_3R_287() {
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
@@ -7695,7 +7684,7 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_186() {
+  final private boolean jj_3R_186() {
     if (jj_scan_token(LPAREN)) return true;
     if (jj_3R_76()) return true;
     if (jj_scan_token(RPAREN)) return true;
@@ -7705,50 +7694,50 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_207() {
+  final private boolean jj_3R_207() {
     if (jj_3R_228()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_185() {
+  final private boolean jj_3R_185() {
     if (jj_3R_199()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_206() {
+  final private boolean jj_3R_206() {
     if (jj_3R_227()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_205() {
+  final private boolean jj_3R_205() {
     if (jj_3R_226()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_204() {
+  final private boolean jj_3R_204() {
     if (jj_3R_225()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_184() {
+  final private boolean jj_3R_184() {
     if (jj_scan_token(LT)) return true;
     if (jj_scan_token(IDENTIFIER)) return true;
     if (jj_scan_token(GT)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_183() {
+  final private boolean jj_3R_183() {
     if (jj_scan_token(STRING_LITERAL)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_203() {
+  final private boolean jj_3R_203() {
     if (jj_3R_224()) return true;
     if (jj_scan_token(SEMICOLON)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_171() {
+  final private boolean jj_3R_171() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3R_183()) {
@@ -7764,52 +7753,52 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_202() {
+  final private boolean jj_3R_202() {
     if (jj_3R_223()) return true;
     return false;
   }
 
-  static final private boolean jj_3_11() {
+  final private boolean jj_3_11() {
     if (jj_3R_61()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_201() {
+  final private boolean jj_3R_201() {
     if (jj_3R_78()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_396() {
+  final private boolean jj_3R_396() {
     if (jj_scan_token(REM)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_395() {
+  final private boolean jj_3R_395() {
     if (jj_scan_token(SLASH)) return true;
     return false;
   }
 
-  static final private boolean jj_3_28() {
+  final private boolean jj_3_28() {
     if (jj_3R_70()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_309() {
+  final private boolean jj_3R_309() {
     if (jj_3R_163()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_251() {
+  final private boolean jj_3R_251() {
     if (jj_3R_260()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_394() {
+  final private boolean jj_3R_394() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_188() {
+  final private boolean jj_3R_188() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_28()) {
@@ -7858,12 +7847,12 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_308() {
+  final private boolean jj_3R_308() {
     if (jj_3R_61()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_239() {
+  final private boolean jj_3R_239() {
     if (jj_scan_token(LBRACE)) return true;
     Token xsp;
     while (true) {
@@ -7874,7 +7863,7 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_388() {
+  final private boolean jj_3R_388() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3R_394()) {
@@ -7888,13 +7877,13 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_307() {
+  final private boolean jj_3R_307() {
     if (jj_scan_token(THROWS)) return true;
     if (jj_3R_255()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_361() {
+  final private boolean jj_3R_361() {
     if (jj_3R_366()) return true;
     Token xsp;
     while (true) {
@@ -7904,33 +7893,33 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_343() {
+  final private boolean jj_3R_343() {
     if (jj_scan_token(PRIVATE)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_342() {
+  final private boolean jj_3R_342() {
     if (jj_scan_token(PROTECTED)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_341() {
+  final private boolean jj_3R_341() {
     if (jj_scan_token(PUBLIC)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_244() {
+  final private boolean jj_3R_244() {
     if (jj_scan_token(IMPLEMENTS)) return true;
     if (jj_3R_255()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_162() {
+  final private boolean jj_3R_162() {
     if (jj_3R_171()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_305() {
+  final private boolean jj_3R_305() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3R_341()) {
@@ -7943,7 +7932,7 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_128() {
+  final private boolean jj_3R_128() {
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
@@ -7952,7 +7941,7 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_289() {
+  final private boolean jj_3R_289() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3R_305()) jj_scanpos = xsp;
@@ -7971,24 +7960,24 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_243() {
+  final private boolean jj_3R_243() {
     if (jj_scan_token(EXTENDS)) return true;
     if (jj_3R_56()) return true;
     return false;
   }
 
-  static final private boolean jj_3_27() {
+  final private boolean jj_3_27() {
     if (jj_scan_token(LBRACKET)) return true;
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_390() {
+  final private boolean jj_3R_390() {
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_189() {
+  final private boolean jj_3R_189() {
     if (jj_scan_token(CLASS)) return true;
     if (jj_scan_token(IDENTIFIER)) return true;
     Token xsp;
@@ -8000,25 +7989,25 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_389() {
+  final private boolean jj_3R_389() {
     if (jj_scan_token(PLUS)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_129() {
+  final private boolean jj_3R_129() {
     if (jj_scan_token(BIT_OR)) return true;
     if (jj_3R_128()) return true;
     return false;
   }
 
-  static final private boolean jj_3_26() {
+  final private boolean jj_3_26() {
     if (jj_scan_token(LBRACKET)) return true;
     if (jj_3R_69()) return true;
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_381() {
+  final private boolean jj_3R_381() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3R_389()) {
@@ -8029,7 +8018,7 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_192() {
+  final private boolean jj_3R_192() {
     Token xsp;
     if (jj_3_26()) return true;
     while (true) {
@@ -8043,7 +8032,7 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_76() {
+  final private boolean jj_3R_76() {
     if (jj_3R_128()) return true;
     Token xsp;
     while (true) {
@@ -8053,7 +8042,7 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_317() {
+  final private boolean jj_3R_317() {
     if (jj_3R_361()) return true;
     Token xsp;
     while (true) {
@@ -8063,12 +8052,12 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_299() {
+  final private boolean jj_3R_299() {
     if (jj_scan_token(FINAL)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_285() {
+  final private boolean jj_3R_285() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3R_299()) jj_scanpos = xsp;
@@ -8077,34 +8066,34 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_219() {
+  final private boolean jj_3R_219() {
     if (jj_3R_239()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_198() {
+  final private boolean jj_3R_198() {
     if (jj_scan_token(LT)) return true;
     if (jj_scan_token(EOF_TK)) return true;
     if (jj_scan_token(GT)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_384() {
+  final private boolean jj_3R_384() {
     if (jj_scan_token(RUNSIGNEDSHIFT)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_383() {
+  final private boolean jj_3R_383() {
     if (jj_scan_token(RSIGNEDSHIFT)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_382() {
+  final private boolean jj_3R_382() {
     if (jj_scan_token(LSHIFT)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_195() {
+  final private boolean jj_3R_195() {
     if (jj_3R_63()) return true;
     Token xsp;
     xsp = jj_scanpos;
@@ -8112,19 +8101,19 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_218() {
+  final private boolean jj_3R_218() {
     if (jj_3R_141()) return true;
     return false;
   }
 
-  static final private boolean jj_3_39() {
+  final private boolean jj_3_39() {
     if (jj_scan_token(LT)) return true;
     if (jj_scan_token(IDENTIFIER)) return true;
     if (jj_scan_token(GT)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_368() {
+  final private boolean jj_3R_368() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3R_382()) {
@@ -8138,7 +8127,7 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_194() {
+  final private boolean jj_3R_194() {
     if (jj_3R_192()) return true;
     Token xsp;
     xsp = jj_scanpos;
@@ -8146,13 +8135,13 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_365() {
+  final private boolean jj_3R_365() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_3R_285()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_51() {
+  final private boolean jj_3R_51() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_scan_token(9)) {
@@ -8165,7 +8154,7 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3_1() {
+  final private boolean jj_3_1() {
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
@@ -8175,7 +8164,7 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_292() {
+  final private boolean jj_3R_292() {
     if (jj_3R_317()) return true;
     Token xsp;
     while (true) {
@@ -8185,12 +8174,12 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_127() {
+  final private boolean jj_3R_127() {
     if (jj_scan_token(POUND)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_344() {
+  final private boolean jj_3R_344() {
     if (jj_3R_285()) return true;
     Token xsp;
     while (true) {
@@ -8200,7 +8189,7 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_75() {
+  final private boolean jj_3R_75() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3R_127()) jj_scanpos = xsp;
@@ -8209,7 +8198,7 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_112() {
+  final private boolean jj_3R_112() {
     if (jj_scan_token(NEW)) return true;
     if (jj_3R_56()) return true;
     Token xsp;
@@ -8221,7 +8210,7 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_306() {
+  final private boolean jj_3R_306() {
     if (jj_scan_token(LPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
@@ -8230,18 +8219,18 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_193() {
+  final private boolean jj_3R_193() {
     if (jj_3R_141()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_272() {
+  final private boolean jj_3R_272() {
     if (jj_scan_token(FINALLY)) return true;
     if (jj_3R_78()) return true;
     return false;
   }
 
-  static final private boolean jj_3_38() {
+  final private boolean jj_3_38() {
     if (jj_scan_token(LT)) return true;
     Token xsp;
     xsp = jj_scanpos;
@@ -8251,12 +8240,12 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_197() {
+  final private boolean jj_3R_197() {
     if (jj_scan_token(STRING_LITERAL)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_182() {
+  final private boolean jj_3R_182() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3R_197()) {
@@ -8272,12 +8261,12 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_372() {
+  final private boolean jj_3R_372() {
     if (jj_scan_token(GE)) return true;
     return false;
   }
 
-  static final private boolean jj_3_25() {
+  final private boolean jj_3_25() {
     if (jj_scan_token(NEW)) return true;
     if (jj_3R_66()) return true;
     if (jj_3R_192()) return true;
@@ -8287,12 +8276,12 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_371() {
+  final private boolean jj_3R_371() {
     if (jj_scan_token(LE)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_68() {
+  final private boolean jj_3R_68() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_25()) {
@@ -8302,7 +8291,7 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_271() {
+  final private boolean jj_3R_271() {
     if (jj_scan_token(CATCH)) return true;
     if (jj_scan_token(LPAREN)) return true;
     if (jj_3R_285()) return true;
@@ -8311,17 +8300,17 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_370() {
+  final private boolean jj_3R_370() {
     if (jj_scan_token(GT)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_369() {
+  final private boolean jj_3R_369() {
     if (jj_scan_token(LT)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_235() {
+  final private boolean jj_3R_235() {
     if (jj_scan_token(TRY)) return true;
     if (jj_3R_78()) return true;
     Token xsp;
@@ -8334,13 +8323,13 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_353() {
+  final private boolean jj_3R_353() {
     if (jj_scan_token(LBRACKET)) return true;
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_363() {
+  final private boolean jj_3R_363() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3R_369()) {
@@ -8357,7 +8346,7 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_311() {
+  final private boolean jj_3R_311() {
     if (jj_scan_token(IDENTIFIER)) return true;
     if (jj_3R_306()) return true;
     Token xsp;
@@ -8368,7 +8357,7 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_280() {
+  final private boolean jj_3R_280() {
     if (jj_3R_292()) return true;
     Token xsp;
     while (true) {
@@ -8378,23 +8367,23 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_314() {
+  final private boolean jj_3R_314() {
     if (jj_scan_token(SEMICOLON)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_165() {
+  final private boolean jj_3R_165() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_3R_69()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_313() {
+  final private boolean jj_3R_313() {
     if (jj_3R_78()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_234() {
+  final private boolean jj_3R_234() {
     if (jj_scan_token(SYNCHRONIZED)) return true;
     if (jj_scan_token(LPAREN)) return true;
     if (jj_3R_69()) return true;
@@ -8403,7 +8392,7 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_148() {
+  final private boolean jj_3R_148() {
     if (jj_3R_69()) return true;
     Token xsp;
     while (true) {
@@ -8413,31 +8402,31 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_168() {
+  final private boolean jj_3R_168() {
     if (jj_scan_token(LBRACE)) return true;
     if (jj_3R_69()) return true;
     if (jj_scan_token(RBRACE)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_324() {
+  final private boolean jj_3R_324() {
     if (jj_scan_token(INSTANCEOF)) return true;
     if (jj_3R_71()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_167() {
+  final private boolean jj_3R_167() {
     if (jj_scan_token(COMMA)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_312() {
+  final private boolean jj_3R_312() {
     if (jj_scan_token(THROWS)) return true;
     if (jj_3R_255()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_261() {
+  final private boolean jj_3R_261() {
     if (jj_3R_280()) return true;
     Token xsp;
     xsp = jj_scanpos;
@@ -8445,44 +8434,44 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3_37() {
+  final private boolean jj_3_37() {
     if (jj_scan_token(COMMA)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_352() {
+  final private boolean jj_3R_352() {
     if (jj_scan_token(SYNCHRONIZED)) return true;
     return false;
   }
 
-  static final private boolean jj_3_36() {
+  final private boolean jj_3_36() {
     if (jj_scan_token(INTEGER_LITERAL)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_351() {
+  final private boolean jj_3R_351() {
     if (jj_scan_token(NATIVE)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_86() {
+  final private boolean jj_3R_86() {
     if (jj_3R_148()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_350() {
+  final private boolean jj_3R_350() {
     if (jj_scan_token(FINAL)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_233() {
+  final private boolean jj_3R_233() {
     if (jj_scan_token(THROW)) return true;
     if (jj_3R_69()) return true;
     if (jj_scan_token(SEMICOLON)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_159() {
+  final private boolean jj_3R_159() {
     if (jj_scan_token(LOOKAHEAD_TK)) return true;
     if (jj_scan_token(LPAREN)) return true;
     Token xsp;
@@ -8499,12 +8488,12 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_349() {
+  final private boolean jj_3R_349() {
     if (jj_scan_token(ABSTRACT)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_63() {
+  final private boolean jj_3R_63() {
     if (jj_scan_token(LPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
@@ -8513,42 +8502,42 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_348() {
+  final private boolean jj_3R_348() {
     if (jj_scan_token(STATIC)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_347() {
+  final private boolean jj_3R_347() {
     if (jj_scan_token(PRIVATE)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_326() {
+  final private boolean jj_3R_326() {
     if (jj_scan_token(NE)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_346() {
+  final private boolean jj_3R_346() {
     if (jj_scan_token(PROTECTED)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_325() {
+  final private boolean jj_3R_325() {
     if (jj_scan_token(EQ)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_345() {
+  final private boolean jj_3R_345() {
     if (jj_scan_token(PUBLIC)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_270() {
+  final private boolean jj_3R_270() {
     if (jj_3R_69()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_310() {
+  final private boolean jj_3R_310() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3R_345()) {
@@ -8576,7 +8565,7 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_301() {
+  final private boolean jj_3R_301() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3R_325()) {
@@ -8587,12 +8576,12 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_191() {
+  final private boolean jj_3R_191() {
     if (jj_scan_token(NULL)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_232() {
+  final private boolean jj_3R_232() {
     if (jj_scan_token(RETURN)) return true;
     Token xsp;
     xsp = jj_scanpos;
@@ -8601,7 +8590,7 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_290() {
+  final private boolean jj_3R_290() {
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
@@ -8619,7 +8608,7 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_252() {
+  final private boolean jj_3R_252() {
     if (jj_3R_261()) return true;
     Token xsp;
     while (true) {
@@ -8629,28 +8618,28 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_216() {
+  final private boolean jj_3R_216() {
     if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_215() {
+  final private boolean jj_3R_215() {
     if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_269() {
+  final private boolean jj_3R_269() {
     if (jj_scan_token(IDENTIFIER)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_170() {
+  final private boolean jj_3R_170() {
     if (jj_scan_token(IDENTIFIER)) return true;
     if (jj_3R_63()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_190() {
+  final private boolean jj_3R_190() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3R_215()) {
@@ -8660,12 +8649,12 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_169() {
+  final private boolean jj_3R_169() {
     if (jj_3R_182()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_231() {
+  final private boolean jj_3R_231() {
     if (jj_scan_token(CONTINUE)) return true;
     Token xsp;
     xsp = jj_scanpos;
@@ -8674,7 +8663,7 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_160() {
+  final private boolean jj_3R_160() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3R_169()) {
@@ -8684,13 +8673,13 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_286() {
+  final private boolean jj_3R_286() {
     if (jj_scan_token(BIT_AND)) return true;
     if (jj_3R_252()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_240() {
+  final private boolean jj_3R_240() {
     if (jj_3R_252()) return true;
     Token xsp;
     while (true) {
@@ -8700,42 +8689,42 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_180() {
+  final private boolean jj_3R_180() {
     if (jj_3R_191()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_179() {
+  final private boolean jj_3R_179() {
     if (jj_3R_190()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_178() {
+  final private boolean jj_3R_178() {
     if (jj_scan_token(STRING_LITERAL)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_238() {
+  final private boolean jj_3R_238() {
     if (jj_scan_token(COMMA)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_268() {
+  final private boolean jj_3R_268() {
     if (jj_scan_token(IDENTIFIER)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_177() {
+  final private boolean jj_3R_177() {
     if (jj_scan_token(CHARACTER_LITERAL)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_176() {
+  final private boolean jj_3R_176() {
     if (jj_scan_token(FLOATING_POINT_LITERAL)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_230() {
+  final private boolean jj_3R_230() {
     if (jj_scan_token(BREAK)) return true;
     Token xsp;
     xsp = jj_scanpos;
@@ -8744,24 +8733,24 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3_34() {
+  final private boolean jj_3_34() {
     if (jj_3R_62()) return true;
     if (jj_scan_token(ASSIGN)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_175() {
+  final private boolean jj_3R_175() {
     if (jj_scan_token(INTEGER_LITERAL)) return true;
     return false;
   }
 
-  static final private boolean jj_3_10() {
+  final private boolean jj_3_10() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_3R_60()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_164() {
+  final private boolean jj_3R_164() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3R_175()) {
@@ -8783,7 +8772,7 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_121() {
+  final private boolean jj_3R_121() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_34()) jj_scanpos = xsp;
@@ -8791,13 +8780,13 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_274() {
+  final private boolean jj_3R_274() {
     if (jj_scan_token(XOR)) return true;
     if (jj_3R_240()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_237() {
+  final private boolean jj_3R_237() {
     if (jj_3R_60()) return true;
     Token xsp;
     while (true) {
@@ -8807,7 +8796,7 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_220() {
+  final private boolean jj_3R_220() {
     if (jj_3R_240()) return true;
     Token xsp;
     while (true) {
@@ -8817,14 +8806,14 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_120() {
+  final private boolean jj_3R_120() {
     if (jj_scan_token(LBRACKET)) return true;
     if (jj_3R_73()) return true;
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_141() {
+  final private boolean jj_3R_141() {
     if (jj_scan_token(LBRACE)) return true;
     Token xsp;
     xsp = jj_scanpos;
@@ -8835,27 +8824,27 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_126() {
+  final private boolean jj_3R_126() {
     if (jj_scan_token(HOOK)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_284() {
+  final private boolean jj_3R_284() {
     if (jj_3R_298()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_125() {
+  final private boolean jj_3R_125() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_124() {
+  final private boolean jj_3R_124() {
     if (jj_scan_token(PLUS)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_74() {
+  final private boolean jj_3R_74() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3R_124()) {
@@ -8868,30 +8857,30 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_111() {
+  final private boolean jj_3R_111() {
     if (jj_3R_63()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_320() {
+  final private boolean jj_3R_320() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_3R_224()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_259() {
+  final private boolean jj_3R_259() {
     if (jj_scan_token(BIT_OR)) return true;
     if (jj_3R_220()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_110() {
+  final private boolean jj_3R_110() {
     if (jj_scan_token(DOT)) return true;
     if (jj_scan_token(IDENTIFIER)) return true;
     return false;
   }
 
-  static final private boolean jj_3_35() {
+  final private boolean jj_3_35() {
     if (jj_scan_token(LPAREN)) return true;
     if (jj_3R_73()) return true;
     if (jj_scan_token(RPAREN)) return true;
@@ -8901,7 +8890,7 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_196() {
+  final private boolean jj_3R_196() {
     if (jj_3R_220()) return true;
     Token xsp;
     while (true) {
@@ -8911,7 +8900,7 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_298() {
+  final private boolean jj_3R_298() {
     if (jj_3R_224()) return true;
     Token xsp;
     while (true) {
@@ -8921,34 +8910,34 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_119() {
+  final private boolean jj_3R_119() {
     if (jj_3R_78()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_82() {
+  final private boolean jj_3R_82() {
     if (jj_3R_69()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_109() {
+  final private boolean jj_3R_109() {
     if (jj_scan_token(LBRACKET)) return true;
     if (jj_3R_69()) return true;
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_118() {
+  final private boolean jj_3R_118() {
     if (jj_3R_159()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_81() {
+  final private boolean jj_3R_81() {
     if (jj_3R_141()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_72() {
+  final private boolean jj_3R_72() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3R_118()) {
@@ -8967,7 +8956,7 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_60() {
+  final private boolean jj_3R_60() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3R_81()) {
@@ -8977,7 +8966,7 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3_31() {
+  final private boolean jj_3_31() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_scan_token(25)) jj_scanpos = xsp;
@@ -8986,35 +8975,35 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3_24() {
+  final private boolean jj_3_24() {
     if (jj_scan_token(DOT)) return true;
     if (jj_3R_68()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_297() {
+  final private boolean jj_3R_297() {
     if (jj_3R_298()) return true;
     return false;
   }
 
-  static final private boolean jj_3_23() {
+  final private boolean jj_3_23() {
     if (jj_scan_token(DOT)) return true;
     if (jj_scan_token(CLASS)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_296() {
+  final private boolean jj_3R_296() {
     if (jj_3R_187()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_250() {
+  final private boolean jj_3R_250() {
     if (jj_scan_token(SC_AND)) return true;
     if (jj_3R_196()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_283() {
+  final private boolean jj_3R_283() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3R_296()) {
@@ -9024,7 +9013,7 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_181() {
+  final private boolean jj_3R_181() {
     if (jj_3R_196()) return true;
     Token xsp;
     while (true) {
@@ -9034,19 +9023,19 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3_22() {
+  final private boolean jj_3_22() {
     if (jj_scan_token(DOT)) return true;
     if (jj_scan_token(THIS)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_262() {
+  final private boolean jj_3R_262() {
     if (jj_scan_token(LBRACKET)) return true;
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_67() {
+  final private boolean jj_3R_67() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_22()) {
@@ -9068,7 +9057,7 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_253() {
+  final private boolean jj_3R_253() {
     if (jj_scan_token(IDENTIFIER)) return true;
     Token xsp;
     while (true) {
@@ -9078,38 +9067,38 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_267() {
+  final private boolean jj_3R_267() {
     if (jj_3R_284()) return true;
     return false;
   }
 
-  static final private boolean jj_3_33() {
+  final private boolean jj_3_33() {
     if (jj_3R_72()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_266() {
+  final private boolean jj_3R_266() {
     if (jj_3R_69()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_236() {
+  final private boolean jj_3R_236() {
     if (jj_scan_token(SC_OR)) return true;
     if (jj_3R_181()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_265() {
+  final private boolean jj_3R_265() {
     if (jj_3R_283()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_161() {
+  final private boolean jj_3R_161() {
     if (jj_3R_72()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_166() {
+  final private boolean jj_3R_166() {
     if (jj_3R_181()) return true;
     Token xsp;
     while (true) {
@@ -9119,7 +9108,7 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_122() {
+  final private boolean jj_3R_122() {
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
@@ -9128,13 +9117,13 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_254() {
+  final private boolean jj_3R_254() {
     if (jj_scan_token(ASSIGN)) return true;
     if (jj_3R_60()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_229() {
+  final private boolean jj_3R_229() {
     if (jj_scan_token(FOR)) return true;
     if (jj_scan_token(LPAREN)) return true;
     Token xsp;
@@ -9151,7 +9140,7 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_241() {
+  final private boolean jj_3R_241() {
     if (jj_3R_253()) return true;
     Token xsp;
     xsp = jj_scanpos;
@@ -9159,18 +9148,18 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_147() {
+  final private boolean jj_3R_147() {
     if (jj_3R_68()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_123() {
+  final private boolean jj_3R_123() {
     if (jj_scan_token(BIT_OR)) return true;
     if (jj_3R_122()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_217() {
+  final private boolean jj_3R_217() {
     if (jj_scan_token(HOOK)) return true;
     if (jj_3R_69()) return true;
     if (jj_scan_token(COLON)) return true;
@@ -9178,14 +9167,14 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_146() {
+  final private boolean jj_3R_146() {
     if (jj_scan_token(LPAREN)) return true;
     if (jj_3R_69()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_73() {
+  final private boolean jj_3R_73() {
     if (jj_3R_122()) return true;
     Token xsp;
     while (true) {
@@ -9195,7 +9184,7 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_158() {
+  final private boolean jj_3R_158() {
     if (jj_3R_166()) return true;
     Token xsp;
     xsp = jj_scanpos;
@@ -9203,40 +9192,50 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final private boolean jj_3R_316() {
+  final private boolean jj_3R_316() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_3R_241()) return true;
     return false;
   }
 
-  static final private boolean jj_3R_145() {
+  final private boolean jj_3R_145() {
     if (jj_scan_token(SUPER)) return true;
     if (jj_scan_token(DOT)) return true;
     if (jj_scan_token(IDENTIFIER)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_360() {
+  final private boolean jj_3R_360() {
     if (jj_scan_token(VOLATILE)) return true;
     return false;
   }
 
-  static final private boolean jj_3R_144() {
+  final private boolean jj_3R_144() {
     if (jj_scan_token(THIS)) return true;
     return false;
   }
 
-  static private boolean jj_initialized_once = false;
-  static public JTBParserTokenManager token_source;
-  static JavaCharStream jj_input_stream;
-  static public Token token, jj_nt;
-  static private int jj_ntk;
-  static private Token jj_scanpos, jj_lastpos;
-  static private int jj_la;
-  static public boolean lookingAhead = false;
-  static private boolean jj_semLA;
-  static private int jj_gen;
-  static final private int[] jj_la1 = new int[145];
+  final private boolean jj_3R_228() {
+    if (jj_scan_token(DO)) return true;
+    if (jj_3R_188()) return true;
+    if (jj_scan_token(WHILE)) return true;
+    if (jj_scan_token(LPAREN)) return true;
+    if (jj_3R_69()) return true;
+    if (jj_scan_token(RPAREN)) return true;
+    if (jj_scan_token(SEMICOLON)) return true;
+    return false;
+  }
+
+  public JTBParserTokenManager token_source;
+  JavaCharStream jj_input_stream;
+  public Token token, jj_nt;
+  private int jj_ntk;
+  private Token jj_scanpos, jj_lastpos;
+  private int jj_la;
+  public boolean lookingAhead = false;
+  private boolean jj_semLA;
+  private int jj_gen;
+  final private int[] jj_la1 = new int[145];
   static private int[] jj_la1_0;
   static private int[] jj_la1_1;
   static private int[] jj_la1_2;
@@ -9264,18 +9263,11 @@ public class JTBParser implements JTBParserConstants {
    private static void jj_la1_4() {
       jj_la1_4 = new int[] {0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0x1,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,};
    }
-  static final private JJCalls[] jj_2_rtns = new JJCalls[39];
-  static private boolean jj_rescan = false;
-  static private int jj_gc = 0;
+  final private JJCalls[] jj_2_rtns = new JJCalls[39];
+  private boolean jj_rescan = false;
+  private int jj_gc = 0;
 
   public JTBParser(java.io.InputStream stream) {
-    if (jj_initialized_once) {
-      System.out.println("ERROR: Second call to constructor of static parser.  You must");
-      System.out.println("       either use ReInit() or set the JavaCC option STATIC to false");
-      System.out.println("       during parser generation.");
-      throw new Error();
-    }
-    jj_initialized_once = true;
     jj_input_stream = new JavaCharStream(stream, 1, 1);
     token_source = new JTBParserTokenManager(jj_input_stream);
     token = new Token();
@@ -9285,7 +9277,7 @@ public class JTBParser implements JTBParserConstants {
     for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
   }
 
-  static public void ReInit(java.io.InputStream stream) {
+  public void ReInit(java.io.InputStream stream) {
     jj_input_stream.ReInit(stream, 1, 1);
     token_source.ReInit(jj_input_stream);
     token = new Token();
@@ -9296,13 +9288,6 @@ public class JTBParser implements JTBParserConstants {
   }
 
   public JTBParser(java.io.Reader stream) {
-    if (jj_initialized_once) {
-      System.out.println("ERROR: Second call to constructor of static parser.  You must");
-      System.out.println("       either use ReInit() or set the JavaCC option STATIC to false");
-      System.out.println("       during parser generation.");
-      throw new Error();
-    }
-    jj_initialized_once = true;
     jj_input_stream = new JavaCharStream(stream, 1, 1);
     token_source = new JTBParserTokenManager(jj_input_stream);
     token = new Token();
@@ -9312,7 +9297,7 @@ public class JTBParser implements JTBParserConstants {
     for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
   }
 
-  static public void ReInit(java.io.Reader stream) {
+  public void ReInit(java.io.Reader stream) {
     jj_input_stream.ReInit(stream, 1, 1);
     token_source.ReInit(jj_input_stream);
     token = new Token();
@@ -9323,13 +9308,6 @@ public class JTBParser implements JTBParserConstants {
   }
 
   public JTBParser(JTBParserTokenManager tm) {
-    if (jj_initialized_once) {
-      System.out.println("ERROR: Second call to constructor of static parser.  You must");
-      System.out.println("       either use ReInit() or set the JavaCC option STATIC to false");
-      System.out.println("       during parser generation.");
-      throw new Error();
-    }
-    jj_initialized_once = true;
     token_source = tm;
     token = new Token();
     jj_ntk = -1;
@@ -9347,7 +9325,7 @@ public class JTBParser implements JTBParserConstants {
     for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
   }
 
-  static final private Token jj_consume_token(int kind) throws ParseException {
+  final private Token jj_consume_token(int kind) throws ParseException {
     Token oldToken;
     if ((oldToken = token).next != null) token = token.next;
     else token = token.next = token_source.getNextToken();
@@ -9372,8 +9350,8 @@ public class JTBParser implements JTBParserConstants {
   }
 
   static private final class LookaheadSuccess extends java.lang.Error { }
-  static final private LookaheadSuccess jj_ls = new LookaheadSuccess();
-  static final private boolean jj_scan_token(int kind) {
+  final private LookaheadSuccess jj_ls = new LookaheadSuccess();
+  final private boolean jj_scan_token(int kind) {
     if (jj_scanpos == jj_lastpos) {
       jj_la--;
       if (jj_scanpos.next == null) {
@@ -9394,7 +9372,7 @@ public class JTBParser implements JTBParserConstants {
     return false;
   }
 
-  static final public Token getNextToken() {
+  final public Token getNextToken() {
     if (token.next != null) token = token.next;
     else token = token.next = token_source.getNextToken();
     jj_ntk = -1;
@@ -9402,7 +9380,7 @@ public class JTBParser implements JTBParserConstants {
     return token;
   }
 
-  static final public Token getToken(int index) {
+  final public Token getToken(int index) {
     Token t = lookingAhead ? jj_scanpos : token;
     for (int i = 0; i < index; i++) {
       if (t.next != null) t = t.next;
@@ -9411,20 +9389,20 @@ public class JTBParser implements JTBParserConstants {
     return t;
   }
 
-  static final private int jj_ntk() {
+  final private int jj_ntk() {
     if ((jj_nt=token.next) == null)
       return (jj_ntk = (token.next=token_source.getNextToken()).kind);
     else
       return (jj_ntk = jj_nt.kind);
   }
 
-  static private java.util.Vector jj_expentries = new java.util.Vector();
-  static private int[] jj_expentry;
-  static private int jj_kind = -1;
-  static private int[] jj_lasttokens = new int[100];
-  static private int jj_endpos;
+  private java.util.Vector jj_expentries = new java.util.Vector();
+  private int[] jj_expentry;
+  private int jj_kind = -1;
+  private int[] jj_lasttokens = new int[100];
+  private int jj_endpos;
 
-  static private void jj_add_error_token(int kind, int pos) {
+  private void jj_add_error_token(int kind, int pos) {
     if (pos >= 100) return;
     if (pos == jj_endpos + 1) {
       jj_lasttokens[jj_endpos++] = kind;
@@ -9452,7 +9430,7 @@ public class JTBParser implements JTBParserConstants {
     }
   }
 
-  static public ParseException generateParseException() {
+  public ParseException generateParseException() {
     jj_expentries.removeAllElements();
     boolean[] la1tokens = new boolean[129];
     for (int i = 0; i < 129; i++) {
@@ -9500,13 +9478,13 @@ public class JTBParser implements JTBParserConstants {
     return new ParseException(token, exptokseq, tokenImage);
   }
 
-  static final public void enable_tracing() {
+  final public void enable_tracing() {
   }
 
-  static final public void disable_tracing() {
+  final public void disable_tracing() {
   }
 
-  static final private void jj_rescan_token() {
+  final private void jj_rescan_token() {
     jj_rescan = true;
     for (int i = 0; i < 39; i++) {
       JJCalls p = jj_2_rtns[i];
@@ -9561,7 +9539,7 @@ public class JTBParser implements JTBParserConstants {
     jj_rescan = false;
   }
 
-  static final private void jj_save(int index, int xla) {
+  final private void jj_save(int index, int xla) {
     JJCalls p = jj_2_rtns[index];
     while (p.gen > jj_gen) {
       if (p.next == null) { p = p.next = new JJCalls(); break; }
@@ -6,9 +6,9 @@ import java.util.Vector;
 
 public class JTBParserTokenManager implements JTBParserConstants
 {
-  public static  java.io.PrintStream debugStream = System.out;
-  public static  void setDebugStream(java.io.PrintStream ds) { debugStream = ds; }
-private static final int jjStopStringLiteralDfa_0(int pos, long active0, long active1, long active2)
+  public  java.io.PrintStream debugStream = System.out;
+  public  void setDebugStream(java.io.PrintStream ds) { debugStream = ds; }
+private final int jjStopStringLiteralDfa_0(int pos, long active0, long active1, long active2)
 {
    switch (pos)
    {
@@ -164,17 +164,17 @@ private static final int jjStopStringLiteralDfa_0(int pos, long active0, long ac
          return -1;
    }
 }
-private static final int jjStartNfa_0(int pos, long active0, long active1, long active2)
+private final int jjStartNfa_0(int pos, long active0, long active1, long active2)
 {
    return jjMoveNfa_0(jjStopStringLiteralDfa_0(pos, active0, active1, active2), pos + 1);
 }
-static private final int jjStopAtPos(int pos, int kind)
+private final int jjStopAtPos(int pos, int kind)
 {
    jjmatchedKind = kind;
    jjmatchedPos = pos;
    return pos + 1;
 }
-static private final int jjStartNfaWithStates_0(int pos, int kind, int state)
+private final int jjStartNfaWithStates_0(int pos, int kind, int state)
 {
    jjmatchedKind = kind;
    jjmatchedPos = pos;
@@ -182,7 +182,7 @@ static private final int jjStartNfaWithStates_0(int pos, int kind, int state)
    catch(java.io.IOException e) { return pos + 1; }
    return jjMoveNfa_0(state, pos + 1);
 }
-static private final int jjMoveStringLiteralDfa0_0()
+private final int jjMoveStringLiteralDfa0_0()
 {
    switch(curChar)
    {
@@ -302,7 +302,7 @@ static private final int jjMoveStringLiteralDfa0_0()
          return jjMoveNfa_0(0, 0);
    }
 }
-static private final int jjMoveStringLiteralDfa1_0(long active0, long active1)
+private final int jjMoveStringLiteralDfa1_0(long active0, long active1)
 {
    try { curChar = input_stream.readChar(); }
    catch(java.io.IOException e) {
@@ -423,7 +423,7 @@ static private final int jjMoveStringLiteralDfa1_0(long active0, long active1)
    }
    return jjStartNfa_0(0, active0, active1, 0L);
 }
-static private final int jjMoveStringLiteralDfa2_0(long old0, long active0, long old1, long active1)
+private final int jjMoveStringLiteralDfa2_0(long old0, long active0, long old1, long active1)
 {
    if (((active0 &= old0) | (active1 &= old1)) == 0L)
       return jjStartNfa_0(0, old0, old1, 0L);
@@ -513,7 +513,7 @@ static private final int jjMoveStringLiteralDfa2_0(long old0, long active0, long
    }
    return jjStartNfa_0(1, active0, active1, 0L);
 }
-static private final int jjMoveStringLiteralDfa3_0(long old0, long active0, long old1, long active1)
+private final int jjMoveStringLiteralDfa3_0(long old0, long active0, long old1, long active1)
 {
    if (((active0 &= old0) | (active1 &= old1)) == 0L)
       return jjStartNfa_0(1, old0, old1, 0L);
@@ -603,7 +603,7 @@ static private final int jjMoveStringLiteralDfa3_0(long old0, long active0, long
    }
    return jjStartNfa_0(2, active0, active1, 0L);
 }
-static private final int jjMoveStringLiteralDfa4_0(long old0, long active0, long old1, long active1)
+private final int jjMoveStringLiteralDfa4_0(long old0, long active0, long old1, long active1)
 {
    if (((active0 &= old0) | (active1 &= old1)) == 0L)
       return jjStartNfa_0(2, old0, old1, 0L);
@@ -694,7 +694,7 @@ static private final int jjMoveStringLiteralDfa4_0(long old0, long active0, long
    }
    return jjStartNfa_0(3, active0, active1, 0L);
 }
-static private final int jjMoveStringLiteralDfa5_0(long old0, long active0, long old1, long active1)
+private final int jjMoveStringLiteralDfa5_0(long old0, long active0, long old1, long active1)
 {
    if (((active0 &= old0) | (active1 &= old1)) == 0L)
       return jjStartNfa_0(3, old0, old1, 0L);
@@ -766,7 +766,7 @@ static private final int jjMoveStringLiteralDfa5_0(long old0, long active0, long
    }
    return jjStartNfa_0(4, active0, active1, 0L);
 }
-static private final int jjMoveStringLiteralDfa6_0(long old0, long active0, long old1, long active1)
+private final int jjMoveStringLiteralDfa6_0(long old0, long active0, long old1, long active1)
 {
    if (((active0 &= old0) | (active1 &= old1)) == 0L)
       return jjStartNfa_0(4, old0, old1, 0L);
@@ -826,7 +826,7 @@ static private final int jjMoveStringLiteralDfa6_0(long old0, long active0, long
    }
    return jjStartNfa_0(5, active0, active1, 0L);
 }
-static private final int jjMoveStringLiteralDfa7_0(long old0, long active0, long old1, long active1)
+private final int jjMoveStringLiteralDfa7_0(long old0, long active0, long old1, long active1)
 {
    if (((active0 &= old0) | (active1 &= old1)) == 0L)
       return jjStartNfa_0(5, old0, old1, 0L);
@@ -870,7 +870,7 @@ static private final int jjMoveStringLiteralDfa7_0(long old0, long active0, long
    }
    return jjStartNfa_0(6, active0, active1, 0L);
 }
-static private final int jjMoveStringLiteralDfa8_0(long old0, long active0, long old1, long active1)
+private final int jjMoveStringLiteralDfa8_0(long old0, long active0, long old1, long active1)
 {
    if (((active0 &= old0) | (active1 &= old1)) == 0L)
       return jjStartNfa_0(6, old0, old1, 0L);
@@ -916,7 +916,7 @@ static private final int jjMoveStringLiteralDfa8_0(long old0, long active0, long
    }
    return jjStartNfa_0(7, active0, active1, 0L);
 }
-static private final int jjMoveStringLiteralDfa9_0(long old0, long active0, long old1, long active1)
+private final int jjMoveStringLiteralDfa9_0(long old0, long active0, long old1, long active1)
 {
    if (((active0 &= old0) | (active1 &= old1)) == 0L)
       return jjStartNfa_0(7, old0, old1, 0L);
@@ -954,7 +954,7 @@ static private final int jjMoveStringLiteralDfa9_0(long old0, long active0, long
    }
    return jjStartNfa_0(8, active0, active1, 0L);
 }
-static private final int jjMoveStringLiteralDfa10_0(long old0, long active0, long old1, long active1)
+private final int jjMoveStringLiteralDfa10_0(long old0, long active0, long old1, long active1)
 {
    if (((active0 &= old0) | (active1 &= old1)) == 0L)
       return jjStartNfa_0(8, old0, old1, 0L);
@@ -982,7 +982,7 @@ static private final int jjMoveStringLiteralDfa10_0(long old0, long active0, lon
    }
    return jjStartNfa_0(9, active0, active1, 0L);
 }
-static private final int jjMoveStringLiteralDfa11_0(long old0, long active0, long old1, long active1)
+private final int jjMoveStringLiteralDfa11_0(long old0, long active0, long old1, long active1)
 {
    if (((active0 &= old0) | (active1 &= old1)) == 0L)
       return jjStartNfa_0(9, old0, old1, 0L);
@@ -1008,7 +1008,7 @@ static private final int jjMoveStringLiteralDfa11_0(long old0, long active0, lon
    }
    return jjStartNfa_0(10, active0, active1, 0L);
 }
-static private final int jjMoveStringLiteralDfa12_0(long old0, long active0, long old1, long active1)
+private final int jjMoveStringLiteralDfa12_0(long old0, long active0, long old1, long active1)
 {
    if (((active0 &= old0) | (active1 &= old1)) == 0L)
       return jjStartNfa_0(10, old0, old1, 0L);
@@ -1030,7 +1030,7 @@ static private final int jjMoveStringLiteralDfa12_0(long old0, long active0, lon
    }
    return jjStartNfa_0(11, 0L, active1, 0L);
 }
-static private final int jjMoveStringLiteralDfa13_0(long old1, long active1)
+private final int jjMoveStringLiteralDfa13_0(long old1, long active1)
 {
    if (((active1 &= old1)) == 0L)
       return jjStartNfa_0(11, 0L, old1, 0L);
@@ -1048,7 +1048,7 @@ static private final int jjMoveStringLiteralDfa13_0(long old1, long active1)
    }
    return jjStartNfa_0(12, 0L, active1, 0L);
 }
-static private final int jjMoveStringLiteralDfa14_0(long old1, long active1)
+private final int jjMoveStringLiteralDfa14_0(long old1, long active1)
 {
    if (((active1 &= old1)) == 0L)
       return jjStartNfa_0(12, 0L, old1, 0L);
@@ -1068,7 +1068,7 @@ static private final int jjMoveStringLiteralDfa14_0(long old1, long active1)
    }
    return jjStartNfa_0(13, 0L, active1, 0L);
 }
-static private final void jjCheckNAdd(int state)
+private final void jjCheckNAdd(int state)
 {
    if (jjrounds[state] != jjround)
    {
@@ -1076,24 +1076,24 @@ static private final void jjCheckNAdd(int state)
       jjrounds[state] = jjround;
    }
 }
-static private final void jjAddStates(int start, int end)
+private final void jjAddStates(int start, int end)
 {
    do {
       jjstateSet[jjnewStateCnt++] = jjnextStates[start];
    } while (start++ != end);
 }
-static private final void jjCheckNAddTwoStates(int state1, int state2)
+private final void jjCheckNAddTwoStates(int state1, int state2)
 {
    jjCheckNAdd(state1);
    jjCheckNAdd(state2);
 }
-static private final void jjCheckNAddStates(int start, int end)
+private final void jjCheckNAddStates(int start, int end)
 {
    do {
       jjCheckNAdd(jjnextStates[start]);
    } while (start++ != end);
 }
-static private final void jjCheckNAddStates(int start)
+private final void jjCheckNAddStates(int start)
 {
    jjCheckNAdd(jjnextStates[start]);
    jjCheckNAdd(jjnextStates[start + 1]);
@@ -1122,7 +1122,7 @@ static final long[] jjbitVec7 = {
 static final long[] jjbitVec8 = {
    0x3fffffffffffL, 0x0L, 0x0L, 0x0L
 };
-static private final int jjMoveNfa_0(int startState, int curPos)
+private final int jjMoveNfa_0(int startState, int curPos)
 {
    int[] nextStates;
    int startsAt = 0;
@@ -1681,17 +1681,17 @@ static final long[] jjtoSkip = {
 static final long[] jjtoSpecial = {
    0x1c0L, 0x0L, 0x0L, 
 };
-static protected JavaCharStream input_stream;
-static private final int[] jjrounds = new int[67];
-static private final int[] jjstateSet = new int[134];
-static StringBuffer image;
-static int jjimageLen;
-static int lengthOfMatch;
-static protected char curChar;
+protected JavaCharStream input_stream;
+private final int[] jjrounds = new int[67];
+private final int[] jjstateSet = new int[134];
+StringBuffer image;
+int jjimageLen;
+int lengthOfMatch;
+protected char curChar;
 public JTBParserTokenManager(JavaCharStream stream)
 {
-   if (input_stream != null)
-      throw new TokenMgrError("ERROR: Second call to constructor of static lexer. You must use ReInit() to initialize the static variables.", TokenMgrError.STATIC_LEXER_ERROR);
+   if (JavaCharStream.staticFlag)
+      throw new Error("ERROR: Cannot use a static CharStream class with a non-static lexical analyzer.");
    input_stream = stream;
 }
 public JTBParserTokenManager(JavaCharStream stream, int lexState)
@@ -1699,26 +1699,26 @@ public JTBParserTokenManager(JavaCharStream stream, int lexState)
    this(stream);
    SwitchTo(lexState);
 }
-static public void ReInit(JavaCharStream stream)
+public void ReInit(JavaCharStream stream)
 {
    jjmatchedPos = jjnewStateCnt = 0;
    curLexState = defaultLexState;
    input_stream = stream;
    ReInitRounds();
 }
-static private final void ReInitRounds()
+private final void ReInitRounds()
 {
    int i;
    jjround = 0x80000001;
    for (i = 67; i-- > 0;)
       jjrounds[i] = 0x80000000;
 }
-static public void ReInit(JavaCharStream stream, int lexState)
+public void ReInit(JavaCharStream stream, int lexState)
 {
    ReInit(stream);
    SwitchTo(lexState);
 }
-static public void SwitchTo(int lexState)
+public void SwitchTo(int lexState)
 {
    if (lexState >= 1 || lexState < 0)
       throw new TokenMgrError("Error: Ignoring invalid lexical state : " + lexState + ". State unchanged.", TokenMgrError.INVALID_LEXICAL_STATE);
@@ -1726,7 +1726,7 @@ static public void SwitchTo(int lexState)
       curLexState = lexState;
 }
 
-static protected Token jjFillToken()
+protected Token jjFillToken()
 {
    Token t = Token.newToken(jjmatchedKind);
    t.kind = jjmatchedKind;
@@ -1739,14 +1739,14 @@ static protected Token jjFillToken()
    return t;
 }
 
-static int curLexState = 0;
-static int defaultLexState = 0;
-static int jjnewStateCnt;
-static int jjround;
-static int jjmatchedPos;
-static int jjmatchedKind;
+int curLexState = 0;
+int defaultLexState = 0;
+int jjnewStateCnt;
+int jjround;
+int jjmatchedPos;
+int jjmatchedKind;
 
-public static Token getNextToken() 
+public Token getNextToken() 
 {
   int kind;
   Token specialToken = null;
@@ -1828,7 +1828,7 @@ public static Token getNextToken()
   }
 }
 
-static void TokenLexicalActions(Token matchedToken)
+void TokenLexicalActions(Token matchedToken)
 {
    switch(jjmatchedKind)
    {
@@ -0,0 +1,467 @@
+package EDU.purdue.jtb.parser;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.util.Arrays;
+
+/**
+ * A JavaCharStream reading the whole input at once instead of through a
+ * Reader and a 4096 character window.  A file is memory-mapped, or read in
+ * one call if it is small, and decoded in one pass, which also translates
+ * the unicode escapes.  Instead of a line and a column for each buffered
+ * character, only the start of each line is kept, and the line and column of
+ * a position are computed when the token manager asks for them, which it
+ * does in increasing order, so that they cost next to nothing.  The tokens
+ * are therefore never copied when the buffer grows, whatever their length.
+ *
+ * The lines and columns are the ones JavaCharStream gives: a tab goes to the
+ * next multiple of 8, and an escaped character has the column of its
+ * backslash.  An invalid escape throws the same Error when it is read.
+ *
+ * To use it:
+ *
+ *    new JTBParser(new JTBParserTokenManager(new MappedCharStream(file)))
+ *
+ * The parsers generated by JavaCC from a JTB grammar have their own
+ * JavaCharStream, or SimpleCharStream, with the same methods.  With -mcs, JTB
+ * generates this class for them (see MappedCharStreamBuilder).
+ */
+public class MappedCharStream extends JavaCharStream
+{
+   // files this size or more are mapped rather than read
+   private static final long MAP_THRESHOLD = 64 * 1024;
+
+   private char[] text;          // the characters, escapes translated
+   private int length;
+   private char[] raw;           // the input, text itself if no escapes
+   private String invalidEscape; // the error at the end of text, if any
+
+   private int pos = -1;         // the last character read
+   private int begin = 0;        // the first character of the token
+
+   // the indexes in text of the escaped characters, and the characters in
+   // raw beyond one that each one and those before it take
+   private int[] escapeAt;
+   private int[] escapeShift;
+   private int numEscapes;
+   private int lastEscapes = 0;
+
+   // the offsets in raw of the start of each line from the second
+   private int[] lineStart;
+   private int numLines;
+   private int lastFound = 1;
+
+   // the last position computed, from which the next one on the same line goes on
+   private int lastRaw = -1;
+   private int lastLine;
+   private int lastColumn;
+
+   // the changes made by the start line and column, and adjustBeginLineColumn():
+   // the lines from adjustFrom are shifted, and the columns from it on its line
+   // go on from adjustColumn
+   private int adjustFrom = 0;
+   private int adjustLine = 1;
+   private int adjustColumn = 0;
+   private int lineShift = 0;
+
+   public MappedCharStream(File file) throws IOException {
+      this(file, Charset.defaultCharset());
+   }
+
+   public MappedCharStream(File file, Charset charset) throws IOException {
+      super((Reader)null, 1, 1, 1);
+      super.Done();
+
+      FileInputStream in = new FileInputStream(file);
+      try {
+         FileChannel channel = in.getChannel();
+         long size = channel.size();
+         ByteBuffer bytes;
+
+         if ( size >= MAP_THRESHOLD )
+            bytes = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+         else {
+            bytes = ByteBuffer.allocate((int)size);
+            while ( bytes.hasRemaining() && channel.read(bytes) != -1 ) ;
+            bytes.flip();
+         }
+
+         CharBuffer chars = decode(bytes, charset);
+         init(chars.array(), chars.position(), 1, 1);
+      }
+      finally {
+         in.close();
+      }
+   }
+
+   //
+   // Decodes the bytes into an array-backed buffer, and returns it at the
+   // end of the characters.  Malformed input is replaced, as by
+   // InputStreamReader.  The decoders are much faster on arrays, so a mapped
+   // file goes through a small array.
+   //
+   private static CharBuffer decode(ByteBuffer bytes, Charset charset)
+      throws IOException
+   {
+      CharsetDecoder decoder = charset.newDecoder()
+         .onMalformedInput(CodingErrorAction.REPLACE)
+         .onUnmappableCharacter(CodingErrorAction.REPLACE);
+      CharBuffer out = CharBuffer.allocate(
+         (int)(bytes.remaining() * (double)decoder.maxCharsPerByte()) + 1);
+      ByteBuffer in = bytes;
+
+      if ( !bytes.hasArray() )
+         in = ByteBuffer.allocate((int)Math.min(bytes.remaining(), MAP_THRESHOLD));
+
+      for ( ;; ) {
+         if ( in != bytes ) {
+            int n = Math.min(in.remaining(), bytes.remaining());
+            ByteBuffer slice = bytes.slice();
+
+            slice.limit(n);
+            in.put(slice);
+            bytes.position(bytes.position() + n);
+            in.flip();
+         }
+
+         CoderResult result = decoder.decode(in, out, in == bytes || !bytes.hasRemaining());
+         if ( result.isError() )
+            result.throwException();
+
+         if ( in == bytes )
+            break;
+         in.compact();
+         if ( !bytes.hasRemaining() && in.position() == 0 )
+            break;
+      }
+
+      decoder.flush(out);
+      return out;
+   }
+
+   public MappedCharStream(Reader dstream, int startline, int startcolumn)
+      throws IOException
+   {
+      super((Reader)null, 1, 1, 1);
+      super.Done();
+      ReInit(dstream, startline, startcolumn, 0);
+   }
+
+   public MappedCharStream(Reader dstream) throws IOException {
+      this(dstream, 1, 1);
+   }
+
+   /**
+    * Reads the whole Reader.  The other ReInit() methods come here.
+    */
+   public void ReInit(Reader dstream, int startline, int startcolumn,
+                      int buffersize)
+   {
+      char[] a = new char[8192];
+      int n = 0;
+
+      try {
+         for ( int i; (i = dstream.read(a, n, a.length - n)) != -1; ) {
+            n += i;
+            if ( n == a.length )
+               a = Arrays.copyOf(a, a.length * 2);
+         }
+      }
+      catch (IOException e) {
+         throw new Error(e.getMessage());
+      }
+
+      init(a, n, startline, startcolumn);
+   }
+
+   //
+   // Translates the escapes and finds the line starts, as JavaCharStream does
+   // while reading
+   //
+   private void init(char[] input, int inputLength, int startline, int startcolumn) {
+      raw = input;
+      invalidEscape = null;
+      pos = -1;
+      begin = 0;
+      escapeAt = escapeShift = null;
+      numEscapes = lastEscapes = 0;
+      lineStart = new int[Math.max(16, inputLength / 32)];
+      numLines = 1;
+      lastFound = 1;
+      lastRaw = -1;
+
+      adjustFrom = 0;
+      adjustLine = 1;
+      adjustColumn = startcolumn - 1;
+      lineShift = startline - 1;
+
+      // the characters go to out, input itself until the first escape
+      char[] out = input;
+      int n = 0;
+
+      for ( int r = 0; r < inputLength; ) {
+         char c = input[r];
+
+         if ( c > '\\' ) {
+            if ( out != input ) out[n] = c;
+            ++n;
+            ++r;
+            continue;
+         }
+
+         if ( c == '\n' || (c == '\r' && (r + 1 == inputLength || input[r + 1] != '\n')) )
+            addLineStart(r + 1);
+
+         if ( c != '\\' ) {
+            if ( out != input ) out[n] = c;
+            ++n;
+            ++r;
+            continue;
+         }
+
+         // a run of backslashes; with an odd number of them followed by a
+         // u, the last one starts an escape
+         int count = 1;
+         while ( r + count < inputLength && input[r + count] == '\\' )
+            ++count;
+
+         if ( (count & 1) == 0 || r + count == inputLength || input[r + count] != 'u' ) {
+            for ( int i = 0; i < count; ++i )
+               out[n++] = '\\';
+            r += count;
+            continue;
+         }
+
+         for ( int i = 0; i < count - 1; ++i )
+            out[n++] = '\\';
+         r += count - 1;
+
+         int end = r + 1;
+         while ( end < inputLength && input[end] == 'u' )
+            ++end;
+
+         int value = 0;
+         for ( int i = 0; i < 4; ++i ) {
+            int digit = end + i < inputLength && input[end + i] < 128 ?
+                        Character.digit(input[end + i], 16) : -1;
+
+            if ( digit < 0 ) {
+               invalidEscape = "Invalid escape character at line " +
+                  (line(r) + lineShift) + " column " + column(end - 1) + ".";
+               break;
+            }
+            value = value << 4 | digit;
+         }
+         if ( invalidEscape != null )
+            break;
+         end += 4;
+
+         if ( out == input )
+            out = Arrays.copyOf(input, inputLength);
+         addEscape(n, end - r - 1);
+         out[n++] = (char)value;
+         r = end;
+      }
+
+      text = out;
+      length = n;
+   }
+
+   private void addLineStart(int r) {
+      if ( numLines - 1 == lineStart.length )
+         lineStart = Arrays.copyOf(lineStart, lineStart.length * 2);
+      lineStart[numLines++ - 1] = r;
+   }
+
+   private void addEscape(int at, int extra) {
+      if ( escapeAt == null ) {
+         escapeAt = new int[16];
+         escapeShift = new int[16];
+      }
+      else if ( numEscapes == escapeAt.length ) {
+         escapeAt = Arrays.copyOf(escapeAt, numEscapes * 2);
+         escapeShift = Arrays.copyOf(escapeShift, numEscapes * 2);
+      }
+
+      escapeAt[numEscapes] = at;
+      escapeShift[numEscapes] = extra + (numEscapes > 0 ? escapeShift[numEscapes - 1] : 0);
+      ++numEscapes;
+   }
+
+   //
+   // Positions
+   //
+
+   // the offset in raw of the character i of text
+   private int rawOffset(int i) {
+      if ( numEscapes == 0 || i <= escapeAt[0] )
+         return i;
+
+      int k = escapesBefore(i);
+      return k == 0 ? i : i + escapeShift[k - 1];
+   }
+
+   // the number of escapes before the character i of text, found like the
+   // lines, from the last one
+   private int escapesBefore(int i) {
+      int k = lastEscapes;
+
+      if ( k == 0 || escapeAt[k - 1] < i ) {
+         for ( int n = 0; n < 4; ++n ) {
+            if ( k == numEscapes || escapeAt[k] >= i )
+               return lastEscapes = k;
+            ++k;
+         }
+      }
+
+      k = Arrays.binarySearch(escapeAt, 0, numEscapes, i);
+      return lastEscapes = k >= 0 ? k : -k - 1;
+   }
+
+   // the line of raw offset r, from 1, without the adjustments; the
+   // positions asked for mostly follow each other, so the last line found is
+   // tried first, then the next ones
+   private int line(int r) {
+      if ( r >= lineStart(lastFound) ) {
+         for ( int i = 0; i < 4; ++i ) {
+            if ( lastFound == numLines || r < lineStart(lastFound + 1) )
+               return lastFound;
+            ++lastFound;
+         }
+      }
+
+      int k = Arrays.binarySearch(lineStart, 0, numLines - 1, r);
+      return lastFound = k >= 0 ? k + 2 : -k;
+   }
+
+   // the offset in raw of the start of a line
+   private int lineStart(int line) {
+      return line == 1 ? 0 : lineStart[line - 2];
+   }
+
+   // the column of raw offset r, from 1, tabs expanded; on the line of
+   // adjustFrom, the columns go on from adjustColumn there
+   private int column(int r) {
+      int line = r < 0 ? 1 : line(r);
+      boolean adjusted = line == adjustLine && Math.max(r, 0) >= adjustFrom;
+      int from, col;
+
+      if ( lastRaw >= 0 && lastLine == line && lastRaw <= r &&
+           (!adjusted || lastRaw >= adjustFrom) ) {
+         from = lastRaw + 1;
+         col = lastColumn;
+      }
+      else if ( adjusted ) {
+         from = adjustFrom;
+         col = adjustColumn;
+      }
+      else {
+         from = lineStart(line);
+         col = 0;
+      }
+
+      for ( int j = from; j <= r; ++j ) {
+         ++col;
+         if ( raw[j] == '\t' ) {
+            --col;
+            col += 8 - (col & 07);
+         }
+      }
+
+      if ( r >= 0 ) {
+         lastRaw = r;
+         lastLine = line;
+         lastColumn = col;
+      }
+      return col;
+   }
+
+   private int lineAt(int i) {
+      int r = rawOffset(Math.max(i, 0));
+      int line = i < 0 ? 1 : line(r);
+      return r >= adjustFrom ? line + lineShift : line;
+   }
+
+   private int columnAt(int i) {
+      return column(i < 0 ? -1 : rawOffset(i));
+   }
+
+   //
+   // JavaCharStream
+   //
+   public char BeginToken() throws IOException {
+      begin = pos + 1;
+      try {
+         return readChar();
+      }
+      catch (IOException e) {
+         begin = pos;     // at the end, the position of the last character
+         throw e;
+      }
+   }
+
+   public char readChar() throws IOException {
+      if ( pos + 1 < length )
+         return text[++pos];
+      if ( invalidEscape != null )
+         throw new Error(invalidEscape);
+      throw new IOException();
+   }
+
+   public void backup(int amount) {
+      pos -= amount;
+   }
+
+   /**
+    * @deprecated
+    * @see #getEndColumn
+    */
+   public int getColumn()        { return columnAt(pos); }
+
+   /**
+    * @deprecated
+    * @see #getEndLine
+    */
+   public int getLine()          { return lineAt(pos); }
+
+   public int getEndColumn()     { return columnAt(pos); }
+   public int getEndLine()       { return lineAt(pos); }
+   public int getBeginColumn()   { return columnAt(begin); }
+   public int getBeginLine()     { return lineAt(begin); }
+
+   public String GetImage() {
+      return new String(text, begin, pos - begin + 1);
+   }
+
+   public char[] GetSuffix(int len) {
+      char[] ret = new char[len];
+      System.arraycopy(text, pos - len + 1, ret, 0, len);
+      return ret;
+   }
+
+   public void Done() {
+      text = raw = null;
+      lineStart = escapeAt = escapeShift = null;
+   }
+
+   /**
+    * Method to adjust line and column numbers for the start of a token.  The
+    * next characters of its line go on from the new column, and the next
+    * lines are numbered from the new line.
+    */
+   public void adjustBeginLineColumn(int newLine, int newCol) {
+      int r = rawOffset(Math.max(begin, 0));
+
+      lineShift += newLine - getBeginLine();
+      adjustFrom = r;
+      adjustLine = line(r);
+      adjustColumn = newCol - 1;
+      lastRaw = -1;
+   }
+}
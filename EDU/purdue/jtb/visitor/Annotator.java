@@ -56,8 +56,13 @@ package EDU.purdue.jtb.visitor;
 
 import EDU.purdue.jtb.syntaxtree.*;
 import EDU.purdue.jtb.misc.*;
+import EDU.purdue.jtb.misc.toolkit.FlatTreeBuilder;
 import java.io.*;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
 
 //
 // This class functions as follows:
@@ -73,6 +78,13 @@ import java.util.*;
 // NOTE: to have a node print itself and its subtree without annotating it
 // (e.g. LocalLookahead), use n.accept(plainPrinter).
 //
+// All the state above is only used within one production, so annotate() can
+// give each production its own Annotator, and annotate them in parallel.
+//
+// With -flat, the parser makes no nodes: a production adds its node to the
+// FlatTree of the parsing thread and returns its number, and the variables
+// of the nodes are ints.
+//
 
 /**
  * Class Annotator generates the annotated .jj file containing tree-building
@@ -95,11 +107,24 @@ public class Annotator extends Printer {
    
    private String curProduction; // for use in error reporting
 
+   private Hashtable indexIds;   // the NodeIndex ids of the productions (-ix)
+
+   // the local variable holding the FlatTree in each production (-flat)
+   private static final String treeVar = "jtbTree";
+
+   private int numErrors = 0;    // the errors found by this Annotator
+
    //
    // Variable to use in fixing nested list bug.
    //
    private Vector specialList = null;   // list of specials to initialize;
 
+   //
+   // The file opened by the Annotator, if it was given a file name, closed
+   // when the grammar is printed.
+   //
+   private OutputFile outFile = null;
+
    public Annotator() throws FileExistsException {
       this(Globals.outFilename);
    }
@@ -112,7 +137,8 @@ public class Annotator extends Printer {
          if ( Globals.noOverwrite && file.exists() )
             throw new FileExistsException(filename);
          else {
-            out = new PrintWriter(new FileOutputStream(file));
+            outFile = new OutputFile(file);
+            out = outFile;
             plainPrinter = new Printer(out, spc);
          }
       }
@@ -131,6 +157,21 @@ public class Annotator extends Printer {
       plainPrinter = new Printer(out, spc);
    }
 
+   //
+   // The errors are counted here as well as in Errors, so that JTBParallel
+   // can tell them from those of the generators running at the same time.
+   //
+   public synchronized int errorCount() { return numErrors; }
+
+   private synchronized void addErrors(int n) { numErrors += n; }
+
+   private void softErr(String s)   { softErr(s, -1); }
+
+   private void softErr(String s, int lineNum) {
+      Errors.softErr(s, lineNum);
+      addErrors(1);
+   }
+
    private String curVarName()   { return "n" + String.valueOf(varNum++); }
    private void resetVarNum()    { varNum = 0; }
 
@@ -165,6 +206,25 @@ public class Annotator extends Printer {
    // f11 -> < EOF > 
    //
    public void visit(JavaCCInput n) {
+      indexIds = indexIds(n);
+      printHeader(n);
+      visit(n.f10, "\n\n" + spc.spc);
+      out.println();
+      flushWriter();
+      closeFile();
+   }
+
+   // the file is only written when it is closed (see OutputFile)
+   private void closeFile() {
+      if ( outFile != null ) outFile.close();
+   }
+
+   // leaves the file as it was, when the grammar could not be annotated
+   private void abortFile() {
+      if ( outFile != null ) outFile.abort();
+   }
+
+   private void printHeader(JavaCCInput n) {
       out.println(spc.spc + Globals.fileHeader(spc));
       out.println();
       out.print(spc.spc);
@@ -174,9 +234,97 @@ public class Annotator extends Printer {
       out.println(spc.spc + ImportInserter.unitAddImport(n.f5));
       out.println(spc.spc + n.f6 + n.f7 + n.f8 + n.f9 + "\n");
       out.print(spc.spc);
-      visit(n.f10, "\n\n" + spc.spc);
-      out.println();
-      flushWriter();
+      checkEmitted(n);
+   }
+
+   // the names of the BNF productions, which are those of the node classes
+   private static Vector bnfNames(JavaCCInput n) {
+      Vector names = new Vector();
+
+      for ( Enumeration e = n.f10.elements(); e.hasMoreElements(); ) {
+         Node choice = ((Production)e.nextElement()).f0.choice;
+         if ( choice instanceof BNFProduction )
+            names.addElement(((BNFProduction)choice).f1.toString());
+      }
+      return names;
+   }
+
+   // names the NodeIndex ids of the productions as in the NodeIndex class,
+   // after those of the automatic classes
+   private static Hashtable indexIds(JavaCCInput n) {
+      Hashtable ids = new Hashtable();
+      KindNames kindNames = KindNames.withAutoClasses();
+
+      for ( Enumeration e = bnfNames(n).elements(); e.hasMoreElements(); ) {
+         String name = (String)e.nextElement();
+         ids.put(name, kindNames.add(name));
+      }
+      return ids;
+   }
+
+   // warns about the names given to -emit that are not BNF productions
+   private void checkEmitted(JavaCCInput n) {
+      Vector names = bnfNames(n);
+
+      for ( Enumeration<String> e = Globals.emitProductions.elements();
+            e.hasMoreElements(); ) {
+         String name = e.nextElement();
+         if ( !names.contains(name) )
+            Errors.warning("-emit: no BNF production named \"" + name + "\"");
+      }
+   }
+
+   /**
+    * Parallel version of visit(JavaCCInput): each production is annotated on
+    * the given executor by its own Annotator, into its own buffer, and the
+    * buffers are printed in source order once they are all done, so the
+    * output is the same as with n.accept(this).  The returned future
+    * completes when the whole grammar is printed, and errorCount() then
+    * counts the errors of all the productions.  If a production fails, it
+    * completes with its exception and the file is not written.
+    */
+   public CompletableFuture<Void> annotate(final JavaCCInput n, Executor executor) {
+      final CompletableFuture<String>[] productions =
+         new CompletableFuture[n.f10.size()];
+      final Hashtable ids = indexIds(n);
+
+      for ( int i = 0; i < productions.length; ++i ) {
+         final Node production = n.f10.elementAt(i);
+
+         productions[i] = CompletableFuture.supplyAsync(new Supplier<String>() {
+            public String get() { return annotateProduction(production, ids); }
+         }, executor);
+      }
+
+      return CompletableFuture.allOf(productions).thenRun(new Runnable() {
+         public void run() {
+            printHeader(n);
+
+            for ( int i = 0; i < productions.length; ++i ) {
+               if ( i > 0 ) out.print("\n\n" + spc.spc);
+               out.print(productions[i].join());
+            }
+
+            out.println();
+            flushWriter();
+            closeFile();
+         }
+      }).whenComplete(new BiConsumer<Void, Throwable>() {
+         public void accept(Void v, Throwable t) {
+            if ( t != null ) abortFile();
+         }
+      });
+   }
+
+   private String annotateProduction(Node production, Hashtable ids) {
+      StringWriter buf = new StringWriter();
+      Annotator annotator = new Annotator(buf);
+
+      annotator.indexIds = ids;
+      production.accept(annotator);
+      annotator.flushWriter();
+      addErrors(annotator.errorCount());
+      return buf.toString();
    }
 
    public void visit(JavaCodeProduction n) {
@@ -213,7 +361,8 @@ public class Annotator extends Printer {
       String rhs;
 
       curProduction = n.f1.toString();
-      out.println(n.f1 + " " + n.f1 + javaString(n.f2) + " " + n.f3);
+      out.println((Globals.flatToolkit ? "int" : n.f1.toString()) + " " + n.f1 +
+                  javaString(n.f2) + " " + n.f3);
 
       //
       // Generate the RHS into buffer
@@ -233,8 +382,12 @@ public class Annotator extends Printer {
       out.println(spc.spc + "{");
       spc.updateSpc(+1);
 
+      if ( Globals.flatToolkit )
+         out.println(spc.spc + FlatTreeBuilder.treeName + " " + treeVar + " = " +
+                     FlatTreeBuilder.treeName + ".current();");
+
       for ( Enumeration e = varList.elements(); e.hasMoreElements(); )
-        out.println(spc.spc + ((VarInfo)e.nextElement()).getVarDeclString());
+        out.println(spc.spc + varDeclString((VarInfo)e.nextElement()));
         
       out.println();
       out.println(spc.spc + javaString(n.f5));
@@ -243,6 +396,77 @@ public class Annotator extends Printer {
       out.print(spc.spc + rhs);
    }
 
+   //
+   // With -flat, the nodes are ints, and the Tokens stay Tokens
+   //
+   private static String varDeclString(VarInfo info) {
+      if ( !Globals.flatToolkit || info.getType().equals("Token") )
+         return info.getVarDeclString();
+      else if ( info.getInitializer() == null )
+         return "int " + info.getName() + ";";
+      else
+         return "int " + info.getName() + " = " + info.getInitializer() + ";";
+   }
+
+   //
+   // The expression building the node of a production from the outer vars.
+   // With -ix it is recorded in the NodeIndex, and with -emit handed to the
+   // NodeListener.
+   //
+   private String newNode(String name) {
+      if ( Globals.flatToolkit )
+         return flatNode(name);
+
+      StringBuffer buf = new StringBuffer("new " + name + "(");
+
+      Enumeration e = outerVars.elements();
+      if ( e.hasMoreElements() ) {
+         buf.append(((VarInfo)e.nextElement()).getName());
+         for ( ; e.hasMoreElements(); )
+            buf.append("," + ((VarInfo)e.nextElement()).getName());
+      }
+      buf.append(")");
+
+      String node = buf.toString();
+      if ( Globals.nodeIndex )
+         node = "NodeIndex.record(" + node + ", NodeIndex." +
+                indexIds.get(name) + ")";
+      if ( Globals.emitProductions.contains(name) )
+         node = "JTBToolkit.nodeParsed(" + node + ")";
+
+      if ( node.startsWith("new ") )
+         return node;
+      else
+         return "(" + name + ")" + node;
+   }
+
+   //
+   // The FlatTree version: the children are added to the node one after the
+   // other, e.g. jtbTree.addChild(jtbTree.addChild(jtbTree.node(FlatTree.A),
+   // n0), n1).
+   //
+   private String flatNode(String name) {
+      String node = treeVar + ".node(" + flatKind(name) + ")";
+
+      for ( Enumeration e = outerVars.elements(); e.hasMoreElements(); )
+         node = treeVar + ".addChild(" + node + ", " +
+                ((VarInfo)e.nextElement()).getName() + ")";
+      return node;
+   }
+
+   // the FlatTree constant of the kind of a node class
+   private String flatKind(String className) {
+      String kind = (String)indexIds.get(className);
+
+      if ( kind == null ) {
+         KindNames autoKinds = KindNames.withAutoClasses();
+         for ( int i = 0; i < KindNames.autoClasses.length; ++i )
+            if ( KindNames.autoClasses[i].equals(className) )
+               kind = autoKinds.get(i);
+      }
+      return FlatTreeBuilder.treeName + "." + kind;
+   }
+
    //
    // Returns a string with the RHS of the current BNF production.  When
    // this function returns, varList and outerVars will have been built and
@@ -259,16 +483,7 @@ public class Annotator extends Printer {
       out.print(spc.spc);
       n.f8.accept(this);
       out.println();
-      out.print(spc.spc + "{ return new " + n.f1 + "(");
-
-      Enumeration e = outerVars.elements();
-      if ( e.hasMoreElements() ) {
-         out.print(((VarInfo)e.nextElement()).getName());
-         for ( ; e.hasMoreElements(); )
-            out.print("," + ((VarInfo)e.nextElement()).getName());
-      }
-
-      out.println("); }");
+      out.println(spc.spc + "{ return " + newNode(n.f1.toString()) + "; }");
       spc.updateSpc(-1);
       out.print(spc.spc + n.f9);
       out.flush();
@@ -319,10 +534,9 @@ public class Annotator extends Printer {
       --nestLevel;
 
       if ( !annotateNode )
-         Errors.softErr("Empty NodeChoice in " + curProduction + "()");
+         softErr("Empty NodeChoice in " + curProduction + "()");
       else {
-         out.println("{ " + ident + " = new NodeChoice(" + prevVar.getName() +
-                     ", " + String.valueOf(whichVal) + "); }");
+         out.println(newChoiceString(ident, prevVar.getName(), whichVal));
          ++whichVal;
       }
 
@@ -340,11 +554,9 @@ public class Annotator extends Printer {
          --nestLevel;
 
          if ( !annotateNode )
-            Errors.softErr("Empty NodeChoice in " + curProduction + "()");
+            softErr("Empty NodeChoice in " + curProduction + "()");
          else {
-            out.println("{ " + ident + " = new NodeChoice(" +
-                        prevVar.getName() + ", " + String.valueOf(whichVal) +
-                        "); }");
+            out.println(newChoiceString(ident, prevVar.getName(), whichVal));
             ++whichVal;
          }
       }
@@ -352,6 +564,15 @@ public class Annotator extends Printer {
       out.print(spc.spc + ")");
    }
 
+   private String newChoiceString(String ident, String varName, int whichVal) {
+      if ( Globals.flatToolkit )
+         return "{ " + ident + " = " + treeVar + ".choice(" + varName + ", " +
+                String.valueOf(whichVal) + "); }";
+      else
+         return "{ " + ident + " = new NodeChoice(" + varName + ", " +
+                String.valueOf(whichVal) + "); }";
+   }
+
    //
    // f0 -> ( ExpansionUnit() )*
    //
@@ -401,7 +622,7 @@ public class Annotator extends Printer {
       if ( !e.hasMoreElements() ) {
          Errors.warning("Generating empty NodeSequence in " + curProduction +
                         "()");
-         out.println("{ " + ident + " = new NodeSequence(); }");
+         out.println(newSequenceString(ident, ""));
          out.print(spc.spc);
       }
       else {
@@ -410,11 +631,11 @@ public class Annotator extends Printer {
 
          if ( unit.f0.which == 0 ) {
             unit.accept(this);
-            out.println("{ " + ident + " = new NodeSequence(" + sizeStr + "); }");
+            out.println(newSequenceString(ident, sizeStr));
             out.print(spc.spc);
          }
          else {
-            out.println("{ " + ident + " = new NodeSequence(" + sizeStr + "); }");
+            out.println(newSequenceString(ident, sizeStr));
             out.print(spc.spc);
             ++nestLevel;
             unit.accept(this);
@@ -442,8 +663,49 @@ public class Annotator extends Printer {
       }
    }
 
+   private String newSequenceString(String ident, String sizeStr) {
+      if ( Globals.flatToolkit )
+         return "{ " + ident + " = " + newNodeString(Globals.sequenceName) + "; }";
+      else
+         return "{ " + ident + " = new NodeSequence(" + sizeStr + "); }";
+   }
+
    private String addNodeString(String parentName, String varName) {
-      return "{ " + parentName + ".addNode(" + varName + "); }";
+      if ( Globals.flatToolkit )
+         return "{ " + treeVar + ".addChild(" + parentName + ", " + varName + "); }";
+      else
+         return "{ " + parentName + ".addNode(" + varName + "); }";
+   }
+
+   //
+   // With -se, an EBNF list or optional starts as the shared EMPTY one, and
+   // is only built when a node is added to it.
+   //
+   private String addNodeString(VarInfo parent, String varName) {
+      String name = parent.getName();
+
+      if ( !isShared(parent.getType()) )
+         return addNodeString(name, varName);
+      else if ( parent.getType().equals(Globals.optionalName) )
+         return "{ " + name + " = new " + Globals.optionalName + "(" + varName + "); }";
+      else
+         return "{ if ( " + name + " == " + parent.getType() + ".EMPTY ) " +
+                name + " = new " + parent.getType() + "(); " +
+                name + ".addNode(" + varName + "); }";
+   }
+
+   private static boolean isShared(String type) {
+      return Globals.shareEmpty && (type.equals(Globals.listOptName) ||
+                                    type.equals(Globals.optionalName));
+   }
+
+   private String newNodeString(String type) {
+      if ( Globals.flatToolkit )
+         return treeVar + ".node(" + flatKind(type) + ")";
+      else if ( isShared(type) )
+         return type + ".EMPTY";
+      else
+         return "new " + type + "()";
    }
 
    //
@@ -574,8 +836,8 @@ public class Annotator extends Printer {
             // technically, we should only generate an error if it's not a 
             // choice, but that greatly complicates things and an empty
             // choice is probably useless.
-            Errors.softErr("Empty EBNF expansion in " + curProduction + "()",
-               ((NodeToken)seq.elementAt(0)).beginLine);
+            softErr("Empty EBNF expansion in " + curProduction + "()",
+                    ((NodeToken)seq.elementAt(0)).beginLine);
          }
          else {
             ExpansionUnit firstUnit = (ExpansionUnit)list.nodes.elementAt(0);
@@ -602,7 +864,7 @@ public class Annotator extends Printer {
             }
 
             if ( annotateNode )
-               out.print(addNodeString(name, prevVar.getName()));
+               out.print(addNodeString(info, prevVar.getName()));
 
             finalActions(info);
          }
@@ -615,10 +877,16 @@ public class Annotator extends Printer {
          out.println();
 
          //
-         // Added for 1.0.1 -- trim vectors to smallest size
+         // Added for 1.0.1 -- trim vectors to smallest size.  With -se, an
+         // empty ( )* is still the shared EMPTY, which is left alone.  With
+         // -flat there is no vector.
          //
-         if ( ((NodeOptional)seq.elementAt(3)).present() )
-            if ( mod.equals("*") || mod.equals("+") )
+         if ( ((NodeOptional)seq.elementAt(3)).present() && !Globals.flatToolkit )
+            if ( mod.equals("*") && isShared(Globals.listOptName) )
+               out.println(spc.spc + "{ if ( " + name + " != " +
+                           Globals.listOptName + ".EMPTY ) " + name +
+                           ".nodes.trimToSize(); }");
+            else if ( mod.equals("*") || mod.equals("+") )
                out.println(spc.spc + "{ " + name + ".nodes.trimToSize(); }");
       }
 
@@ -647,8 +915,8 @@ public class Annotator extends Printer {
       if ( specialList.size() > 0 ) {  // we have nested specials
          for ( Enumeration e = specialList.elements(); e.hasMoreElements(); ) {
             VarInfo vi = (VarInfo)e.nextElement();
-            tempOut.println("{ " + vi.getName() + " = new " + vi.getType() +
-                            "(); }");
+            tempOut.println("{ " + vi.getName() + " = " +
+                            newNodeString(vi.getType()) + "; }");
             tempOut.print(spc.spc);
          }
       }
@@ -666,12 +934,13 @@ public class Annotator extends Printer {
    private VarInfo infoForMod(String ident, String mod, boolean initializer) {
       if ( initializer ) {
          if ( mod.equals("+") )
-            return new VarInfo("NodeList", ident, "new NodeList()");
+            return new VarInfo("NodeList", ident, newNodeString("NodeList"));
          else if ( mod.equals("*") )
             return new VarInfo("NodeListOptional", ident,
-                               "new NodeListOptional()");
+                               newNodeString("NodeListOptional"));
          else if ( mod.equals("?") )
-            return new VarInfo("NodeOptional", ident, "new NodeOptional()");
+            return new VarInfo("NodeOptional", ident,
+                               newNodeString("NodeOptional"));
          else 
             Errors.hardErr("Illegal EBNF modifier: " + mod);
       }
@@ -743,17 +1012,24 @@ public class Annotator extends Printer {
 	      out.println(" { ");
 		  spc.updateSpc(+1);
 		  out.println(spc.spc + tokenName + ".beginColumn++; " + tokenName + ".endColumn++;");
-		  out.println(spc.spc + nodeName + " = JTBToolkit.makeNodeToken(" + tokenName + ");");
+		  out.println(spc.spc + nodeName + " = " + makeNodeTokenString(tokenName) + ";");
 		  spc.updateSpc(-1);
 		  out.println(spc.spc + "}");
 	  }
 	  else {
-		  out.println(" { " + nodeName + " = JTBToolkit.makeNodeToken(" + tokenName + "); }");
+		  out.println(" { " + nodeName + " = " + makeNodeTokenString(tokenName) + "; }");
 	  }
 
       out.print(spc.spc);
       finalActions(nodeInfo);
    }
+
+   private static String makeNodeTokenString(String tokenName) {
+      if ( Globals.flatToolkit )
+         return "JTBToolkit.makeNodeToken(" + treeVar + ", " + tokenName + ")";
+      else
+         return "JTBToolkit.makeNodeToken(" + tokenName + ")";
+   }
 }
 
 //
@@ -823,15 +1099,27 @@ class ImportInserter extends JavaPrinter {
       if ( n.f2.present() )
          visit(n.f2, "\n" + spc.spc);
 
+//
+// the FlatTree keeps no specials
+//
+if ( Globals.flatToolkit )
+      out.println(
+"\n\nclass JTBToolkit {\n" +
+"   static int makeNodeToken(" + FlatTreeBuilder.treeName + " tree, Token t) {\n" +
+"      return tree.token(t.image.intern(), t.kind, t.beginLine, t.beginColumn, t.endLine, t.endColumn);\n" +
+"   }\n" +
+"}");
+
 //
 // builds specials into tree
 //
-if ( !Globals.keepSpecialTokens )
+else if ( !Globals.keepSpecialTokens )
       out.println(
 "\n\nclass JTBToolkit {\n" +
 "   static NodeToken makeNodeToken(Token t) {\n" +
 "      return new NodeToken(t.image.intern(), t.kind, t.beginLine, t.beginColumn, t.endLine, t.endColumn);\n" +
 "   }\n" +
+nodeParsedCode() +
 "}");
 
 else
@@ -853,11 +1141,29 @@ else
 "      node.trimSpecials();\n" +
 "      return node;\n" +
 "   }\n" +
+nodeParsedCode() +
 "}");
 
       out.println();
    }
 
+   //
+   // JTBToolkit.nodeParsed() hands the nodes of the productions given to
+   // -emit to the NodeListener of the parsing thread, if it has one.
+   //
+   private static String nodeParsedCode() {
+      if ( Globals.emitProductions.isEmpty() )
+         return "";
+
+      return
+"   static Node nodeParsed(Node n) {\n" +
+"      NodeListener l = NodeListener.listener.get();\n\n" +
+"      if ( l != null )\n" +
+"         l.nodeParsed(n);\n" +
+"      return n;\n" +
+"   }\n";
+   }
+
    //
    // Does NOT print the "import".  That is left to printImports().
    //
@@ -80,6 +80,16 @@ public class ClassGenerator extends DepthFirstVisitor {
    // Used to generate field names (descriptive or not, depending on -f option)
    private FieldNameGenerator nameGen = new FieldNameGenerator();
 
+   public ClassGenerator() { }
+
+   //
+   // Uses a token table built beforehand by a TokenTableBuilder, instead of
+   // building it in visit(JavaCCInput)
+   //
+   public ClassGenerator(Hashtable tokenTable) {
+      this.tokenTable = tokenTable;
+   }
+
    public Vector getClassList()  { return classList; }
 
    //
@@ -100,12 +110,26 @@ public class ClassGenerator extends DepthFirstVisitor {
    // f11 -> < EOF > 
    //
    public void visit(JavaCCInput n) {
-      TokenTableBuilder builder = new TokenTableBuilder();
+      if ( tokenTable == null ) {
+         TokenTableBuilder builder = new TokenTableBuilder();
 
-      n.accept(builder);
-      tokenTable = builder.getTokenTable();
+         n.accept(builder);
+         tokenTable = builder.getTokenTable();
+      }
 
       n.f10.accept(this);
+      nameKinds();
+   }
+
+   // names the NodeKind constants of the classes, after those of the
+   // automatic classes
+   private void nameKinds() {
+      KindNames kinds = KindNames.withAutoClasses();
+
+      for ( Enumeration e = classList.elements(); e.hasMoreElements(); ) {
+         ClassInfo cur = (ClassInfo)e.nextElement();
+         cur.setKindName(kinds.add(cur.getName()));
+      }
    }
 
    //
@@ -0,0 +1,142 @@
+package EDU.iitm.jtb.threaded;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.Vector;
+
+import EDU.purdue.jtb.misc.Globals;
+import EDU.purdue.jtb.misc.toolkit.SchemeRecordBuilder;
+import EDU.purdue.jtb.misc.toolkit.SchemeVisitorBuilder;
+
+/**
+ * Checks that JTBParallel, with -scheme, writes either all the files of a
+ * grammar or none of them, whatever the errors found and the order the tasks
+ * run in.
+ *
+ * Usage: java EDU.iitm.jtb.threaded.SchemeOutputTest [-i iterations]
+ *
+ * Run from the top directory, so that testGrammars is found.  The errors of
+ * the Scheme builders on cobol.jj used to stop the JVM while the other tasks
+ * were writing; running with -XX:ActiveProcessorCount=2 makes that likely.
+ * Exits with status 1 if a check fails.
+ */
+public class SchemeOutputTest {
+   private static final String GRAMMAR = "testGrammars/cobol.jj";
+
+   // a production may not have the name of an automatic class, which the
+   // SemanticChecker reports before anything is generated
+   private static final String BAD_GRAMMAR =
+      "PARSER_BEGIN(Bad)\n" +
+      "public class Bad {}\n" +
+      "PARSER_END(Bad)\n\n" +
+      "TOKEN : { < A: \"a\" > }\n\n" +
+      "void Start() : {} { NodeToken() <EOF> }\n" +
+      "void NodeToken() : {} { <A> }\n";
+
+   private static int iterations = 20;
+   private static int failures = 0;
+
+   public static void main(String[] args) throws Exception {
+      if ( args.length == 2 && args[0].equals("-i") )
+         iterations = Integer.parseInt(args[1]);
+
+      PrintStream stderr = System.err;
+      File dir = File.createTempFile("jtb-scheme", "");
+      dir.delete();
+      dir.mkdir();
+      Globals.schemeToolkit = true;
+
+      try {
+         File bad = new File(dir, "Bad.jj");
+         Writer w = new FileWriter(bad);
+         w.write(BAD_GRAMMAR);
+         w.close();
+
+         System.setErr(new PrintStream(new NullOutputStream()));
+
+         Vector<String> expected = null;
+         for ( int i = 0; i < iterations; ++i ) {
+            Vector<String> files = generate(GRAMMAR, new File(dir, "all" + i));
+
+            if ( expected == null ) {
+               expected = files;
+               check(files.contains("jtb.out.jj"), "jtb.out.jj not written");
+               check(files.contains(SchemeRecordBuilder.outFilename),
+                     SchemeRecordBuilder.outFilename + " not written");
+               check(files.contains("visitor" + File.separator +
+                                    SchemeVisitorBuilder.outFilename),
+                     SchemeVisitorBuilder.outFilename + " not written");
+            }
+            else
+               check(files.equals(expected), GRAMMAR + ", run " + i + ": " +
+                     files.size() + " files written instead of " + expected.size());
+
+            files = generate(bad.getPath(), new File(dir, "none" + i));
+            check(files.isEmpty(), "Bad.jj, run " + i + ": " + files.size() +
+                  " files written instead of none");
+         }
+      }
+      finally {
+         System.setErr(stderr);
+         JTBParallel.threadPool.shutdown();
+         delete(dir);
+      }
+
+      System.out.println(failures == 0 ? "OK" : failures + " failures");
+      if ( failures > 0 )
+         System.exit(1);
+   }
+
+   // generates the files of the grammar into dir, and returns their paths
+   // relative to it
+   private static Vector<String> generate(String grammar, File dir) throws Exception {
+      dir.mkdir();
+      Globals.inFilename = grammar;
+      Globals.nodeDir = new File(dir, "syntaxtree").getPath();
+      Globals.visitorDir = new File(dir, "visitor").getPath();
+      Globals.outFilename = new File(dir, "jtb.out.jj").getPath();
+      Globals.recordsFilename = new File(dir, SchemeRecordBuilder.outFilename).getPath();
+
+      JTBParallel.generate(JTBParallel.parse(new File(grammar)));
+
+      Vector<String> files = new Vector<String>();
+      list(dir, "", files);
+      return files;
+   }
+
+   private static void list(File dir, String prefix, Vector<String> files) {
+      String[] names = dir.list();
+      Arrays.sort(names);
+
+      for ( int i = 0; i < names.length; ++i ) {
+         File file = new File(dir, names[i]);
+         if ( file.isDirectory() )
+            list(file, prefix + names[i] + File.separator, files);
+         else
+            files.add(prefix + names[i]);
+      }
+   }
+
+   private static void check(boolean ok, String message) {
+      if ( ok ) return;
+      System.out.println("FAILED: " + message);
+      ++failures;
+   }
+
+   private static void delete(File file) {
+      File[] files = file.listFiles();
+      if ( files != null )
+         for ( int i = 0; i < files.length; ++i )
+            delete(files[i]);
+      file.delete();
+   }
+
+   private static class NullOutputStream extends OutputStream {
+      public void write(int b) { }
+      public void write(byte[] b, int off, int len) { }
+   }
+}
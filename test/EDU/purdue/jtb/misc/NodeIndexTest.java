@@ -0,0 +1,162 @@
+package EDU.purdue.jtb.misc;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.util.Enumeration;
+import java.util.Hashtable;
+import java.util.Vector;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import EDU.iitm.jtb.threaded.JTBParallel;
+import EDU.purdue.jtb.syntaxtree.Node;
+import EDU.purdue.jtb.visitor.Annotator;
+import EDU.purdue.jtb.visitor.ClassGenerator;
+
+/**
+ * Checks that the class ids of NodeIndex are the kinds of NodeKind: every
+ * constant of NodeIndex has the value of the NodeKind constant of the same
+ * name, the class names are the same, and the parser records each node under
+ * the id of its own class.
+ *
+ * Usage: java EDU.purdue.jtb.misc.NodeIndexTest [grammar ...]
+ *
+ * Run from the top directory, so that testGrammars is found.  Besides the
+ * given grammars, or those of testGrammars, a grammar with a production whose
+ * constant takes the name of an automatic class is checked.  Exits with
+ * status 1 if a check fails.
+ */
+public class NodeIndexTest {
+   private static final String[] DEFAULT_GRAMMARS = {
+      "EDU/purdue/jtb/jtbgram.jj", "testGrammars/C.jj", "testGrammars/Java.jj",
+      "testGrammars/cobol.jj"
+   };
+
+   // Node_List gives NODE_LIST, the constant of NodeList, so it is NODE_LIST_2
+   private static final String CLASHING_GRAMMAR =
+      "PARSER_BEGIN(Clash)\n" +
+      "public class Clash {}\n" +
+      "PARSER_END(Clash)\n\n" +
+      "TOKEN : { < A: \"a\" > }\n\n" +
+      "void Start() : {} { ( Node_List() )* <EOF> }\n" +
+      "void Node_List() : {} { <A> }\n";
+
+   private static final Pattern CONSTANT =
+      Pattern.compile("public static final int (\\w+) = (\\d+);");
+   private static final Pattern RECORD =
+      Pattern.compile("NodeIndex\\.record\\(new (\\w+)\\(.*?\\), NodeIndex\\.(\\w+)\\)");
+
+   private static int failures = 0;
+
+   public static void main(String[] args) throws Exception {
+      Vector<String> grammars = new Vector<String>();
+      for ( int i = 0; i < args.length; ++i )
+         grammars.add(args[i]);
+      if ( grammars.isEmpty() )
+         for ( int i = 0; i < DEFAULT_GRAMMARS.length; ++i )
+            grammars.add(DEFAULT_GRAMMARS[i]);
+
+      File dir = File.createTempFile("jtb-index", "");
+      dir.delete();
+      dir.mkdir();
+      Globals.nodeIndex = true;
+      Globals.kindDispatch = true;
+      Globals.nodeDir = dir.getPath();
+
+      try {
+         File clash = new File(dir, "Clash.jj");
+         Writer w = new FileWriter(clash);
+         w.write(CLASHING_GRAMMAR);
+         w.close();
+         grammars.add(clash.getPath());
+
+         for ( Enumeration<String> e = grammars.elements(); e.hasMoreElements(); )
+            checkGrammar(e.nextElement(), dir);
+      }
+      finally {
+         delete(dir);
+      }
+
+      System.out.println(failures == 0 ? "OK" : failures + " failures");
+      if ( failures > 0 )
+         System.exit(1);
+   }
+
+   private static void checkGrammar(String grammar, File dir) throws Exception {
+      Globals.inFilename = grammar;
+      Node root = JTBParallel.parse(new File(grammar));
+      ClassGenerator vcg = new ClassGenerator();
+      root.accept(vcg);
+      new FileGenerator(vcg.getClassList()).generateAutoClassFiles();
+
+      String index = read(new File(dir, "NodeIndex.java"));
+      String kind = read(new File(dir, "NodeKind.java"));
+      Hashtable<String, String> indexIds = constants(index);
+      Hashtable<String, String> kinds = constants(kind);
+
+      check(!indexIds.isEmpty(), grammar + ": no constant in NodeIndex");
+      for ( Enumeration<String> e = indexIds.keys(); e.hasMoreElements(); ) {
+         String name = e.nextElement();
+         check(indexIds.get(name).equals(kinds.get(name)), grammar + ": NodeIndex." +
+               name + " = " + indexIds.get(name) + ", NodeKind." + name + " = " +
+               kinds.get(name));
+      }
+      check(names(index, "classNames").equals(names(kind, "names")),
+            grammar + ": NodeIndex.classNames differ from NodeKind.names");
+
+      // the parser records a node under the kind of its class
+      Vector<String> kindNames = names(kind, "names");
+      StringWriter buf = new StringWriter();
+      root.accept(new Annotator(buf));
+
+      int records = 0;
+      for ( Matcher m = RECORD.matcher(buf.toString()); m.find(); ++records ) {
+         String id = indexIds.get(m.group(2));
+         check(id != null && kindNames.elementAt(Integer.parseInt(id)).equals(m.group(1)),
+               grammar + ": a " + m.group(1) + " is recorded under NodeIndex." +
+               m.group(2));
+      }
+      check(records > 0, grammar + ": no node recorded by the parser");
+   }
+
+   private static Hashtable<String, String> constants(String source) {
+      Hashtable<String, String> constants = new Hashtable<String, String>();
+      for ( Matcher m = CONSTANT.matcher(source); m.find(); )
+         constants.put(m.group(1), m.group(2));
+      return constants;
+   }
+
+   // the strings of the array initializer of the given name
+   private static Vector<String> names(String source, String array) {
+      Vector<String> names = new Vector<String>();
+      int start = source.indexOf(" " + array + " = {");
+      int end = source.indexOf("};", start);
+
+      if ( start < 0 ) return names;
+      for ( Matcher m = Pattern.compile("\"(\\w+)\"").matcher(source.substring(start, end));
+            m.find(); )
+         names.add(m.group(1));
+      return names;
+   }
+
+   private static String read(File file) throws Exception {
+      return new String(Files.readAllBytes(file.toPath()));
+   }
+
+   private static void check(boolean ok, String message) {
+      if ( ok ) return;
+      System.out.println("FAILED: " + message);
+      ++failures;
+   }
+
+   private static void delete(File file) {
+      File[] files = file.listFiles();
+      if ( files != null )
+         for ( int i = 0; i < files.length; ++i )
+            delete(files[i]);
+      file.delete();
+   }
+}